@@ -0,0 +1,30 @@
+package dev.kylesilver.result.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for {@code benchmarks.jar}. Accepts the same arguments as the
+ * stock JMH launcher, but always attaches the GC profiler so that every run
+ * reports allocations ({@code gc.alloc.rate.norm}, in bytes/op) next to the
+ * timings.
+ * <pre>{@code
+ * java -jar target/benchmarks.jar            # everything
+ * java -jar target/benchmarks.jar TryOr      # a subset, by regex
+ * }</pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,223 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.Ok;
+import dev.kylesilver.result.Result;
+import dev.kylesilver.result.UnwrapException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Measures how the number of {@link Result} implementations reaching a single
+ * call site affects its cost. With only {@link Ok} and {@code Err} the JIT
+ * inlines both receivers behind a type check; once user-defined
+ * implementations show up as well, the call site becomes megamorphic and every
+ * call is dispatched through the interface table.
+ * <p>
+ * Each operation walks the same array of results, where {@code
+ * receiverTypes} controls how many distinct classes it contains. The extra
+ * classes forward to an {@link Ok} or an {@code Err}, so the work per element
+ * is the same apart from the dispatch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CallSiteBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final Function<Integer, Integer> INCREMENT = x -> x + 1;
+
+    @Param({"2", "3", "4"})
+    private int receiverTypes;
+
+    private Result<Integer, String>[] results;
+
+    @Setup
+    public void setup() {
+        results = newResults(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            switch (i % receiverTypes) {
+                case 0:
+                    results[i] = Result.ok(i);
+                    break;
+                case 1:
+                    results[i] = Result.err("error " + i);
+                    break;
+                case 2:
+                    results[i] = new ForeignOk<>(Result.ok(i));
+                    break;
+                default:
+                    results[i] = new ForeignErr<>(Result.err("error " + i));
+                    break;
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Result<Integer, String>[] newResults(int size) {
+        return new Result[size];
+    }
+
+    @Benchmark
+    public int isOk() {
+        int count = 0;
+        for (Result<Integer, String> result : results) {
+            if (result.isOk()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int mapOrElse() {
+        int sum = 0;
+        for (Result<Integer, String> result : results) {
+            sum += result.map(INCREMENT).orElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int instanceOfOk() {
+        // a type check against a final class is a single pointer comparison
+        int count = 0;
+        for (Result<Integer, String> result : results) {
+            if (result instanceof Ok) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Stands in for an implementation of {@link Result} written outside of
+     * the library, such as a decorator. Two subclasses exist only so that they
+     * register as distinct receiver types.
+     */
+    private abstract static class Forwarding<T, E> implements Result<T, E> {
+        private final Result<T, E> delegate;
+
+        private Forwarding(Result<T, E> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isOk() {
+            return delegate.isOk();
+        }
+
+        @Override
+        public boolean isErr() {
+            return delegate.isErr();
+        }
+
+        @Override
+        public Optional<T> ok() {
+            return delegate.ok();
+        }
+
+        @Override
+        public Optional<E> err() {
+            return delegate.err();
+        }
+
+        @Override
+        public T unwrap() throws UnwrapException {
+            return delegate.unwrap();
+        }
+
+        @Override
+        public E unwrapErr() throws UnwrapException {
+            return delegate.unwrapErr();
+        }
+
+        @Override
+        public T expect(String errorMessage) throws UnwrapException {
+            return delegate.expect(errorMessage);
+        }
+
+        @Override
+        public <F extends Throwable> T expect(Function<E, F> mapping) throws F {
+            return delegate.expect(mapping);
+        }
+
+        @Override
+        public E expectErr(String errorMessage) throws UnwrapException {
+            return delegate.expectErr(errorMessage);
+        }
+
+        @Override
+        public <F extends Throwable> E expectErr(Function<T, F> mapping) throws F {
+            return delegate.expectErr(mapping);
+        }
+
+        @Override
+        public <U> U match(Function<T, U> ifOk, Function<E, U> ifErr) {
+            return delegate.match(ifOk, ifErr);
+        }
+
+        @Override
+        public void match(Consumer<T> ifOk, Consumer<E> ifErr) {
+            delegate.match(ifOk, ifErr);
+        }
+
+        @Override
+        public <U> Result<U, E> map(Function<T, U> mapping) {
+            return delegate.map(mapping);
+        }
+
+        @Override
+        public <F> Result<T, F> mapErr(Function<E, F> mapping) {
+            return delegate.mapErr(mapping);
+        }
+
+        @Override
+        public <U> Result<U, E> and(Result<U, E> result) {
+            return delegate.and(result);
+        }
+
+        @Override
+        public <U> Result<U, E> andThen(Function<T, Result<U, E>> resultFn) {
+            return delegate.andThen(resultFn);
+        }
+
+        @Override
+        public <F> Result<T, F> or(Result<T, F> result) {
+            return delegate.or(result);
+        }
+
+        @Override
+        public <F> Result<T, F> orElse(Function<E, Result<T, F>> resultFn) {
+            return delegate.orElse(resultFn);
+        }
+    }
+
+    private static final class ForeignOk<T, E> extends Forwarding<T, E> {
+        private ForeignOk(Result<T, E> delegate) {
+            super(delegate);
+        }
+    }
+
+    private static final class ForeignErr<T, E> extends Forwarding<T, E> {
+        private ForeignErr(Result<T, E> delegate) {
+            super(delegate);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.Err;
+import dev.kylesilver.result.Ok;
+import dev.kylesilver.result.Result;
+import dev.kylesilver.result.Unit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the shared instances returned by {@link Result#ok} and
+ * {@link Result#err} for common values with allocating a fresh {@link Ok} or
+ * {@link Err} through the constructor. The shared instances should allocate
+ * nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CanonicalBenchmark {
+
+    private enum Failure {
+        TIMEOUT,
+        REFUSED
+    }
+
+    private boolean flag = true;
+    private Integer small = 42;
+    private Failure failure = Failure.REFUSED;
+
+    @Benchmark
+    public Result<Boolean, Failure> freshBoolean() {
+        return new Ok<>(flag);
+    }
+
+    @Benchmark
+    public Result<Boolean, Failure> sharedBoolean() {
+        return Result.ok(flag);
+    }
+
+    @Benchmark
+    public Result<Unit, Failure> sharedUnit() {
+        return Result.ok(Unit.UNIT);
+    }
+
+    @Benchmark
+    public Result<Integer, Failure> freshSmallInt() {
+        return new Ok<>(small);
+    }
+
+    @Benchmark
+    public Result<Integer, Failure> sharedSmallInt() {
+        return Result.ok(small);
+    }
+
+    @Benchmark
+    public Result<Integer, Failure> freshEnumErr() {
+        return new Err<>(failure);
+    }
+
+    @Benchmark
+    public Result<Integer, Failure> sharedEnumErr() {
+        return Result.err(failure);
+    }
+}
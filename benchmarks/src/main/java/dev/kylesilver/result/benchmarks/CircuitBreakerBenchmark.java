@@ -0,0 +1,96 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.CircuitBreaker;
+import dev.kylesilver.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the throughput of a single {@link CircuitBreaker} shared by several
+ * threads, against a breaker-shaped baseline which records outcomes under a
+ * lock. Run with {@code -t 1} and then with more threads: the striped
+ * counters should keep the per-thread cost roughly flat, while the locked
+ * baseline degrades as the threads queue up.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CircuitBreakerBenchmark {
+
+    private static final Supplier<Result<Integer, String>> OK = () -> Result.ok(1);
+    private static final Supplier<Result<Integer, String>> ERR = () -> Result.err("failed");
+
+    private final CircuitBreaker<String> breaker = CircuitBreaker.builder("open")
+            .minimumCalls(Long.MAX_VALUE)
+            .window(Duration.ofHours(1), 10)
+            .build();
+
+    private final CircuitBreaker<String> open = CircuitBreaker.builder("open")
+            .minimumCalls(1)
+            .openFor(Duration.ofDays(1))
+            .build();
+
+    private final LockedBreaker locked = new LockedBreaker();
+
+    public CircuitBreakerBenchmark() {
+        open.call(ERR);
+    }
+
+    /**
+     * Records outcomes the simple way, to show what the breaker avoids.
+     */
+    private static final class LockedBreaker {
+        private long oks;
+        private long errs;
+
+        Result<Integer, String> call(Supplier<Result<Integer, String>> operation) {
+            Result<Integer, String> result = operation.get();
+            synchronized (this) {
+                if (result.isOk()) {
+                    oks++;
+                } else {
+                    errs++;
+                }
+            }
+            return result;
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, String> closedOk() {
+        return breaker.call(OK);
+    }
+
+    @Benchmark
+    public Result<Integer, String> closedErr() {
+        // minimumCalls is never reached, so this measures recording and
+        // summing the window without opening
+        return breaker.call(ERR);
+    }
+
+    @Benchmark
+    public Result<Integer, String> openRejected() {
+        return open.call(OK);
+    }
+
+    @Benchmark
+    public Result<Integer, String> lockedOk() {
+        return locked.call(OK);
+    }
+}
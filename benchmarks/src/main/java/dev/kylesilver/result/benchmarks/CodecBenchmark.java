@@ -0,0 +1,100 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.Result;
+import dev.kylesilver.result.codec.ResultCodec;
+import dev.kylesilver.result.codec.ValueCodec;
+import dev.kylesilver.result.codec.ValueCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures batch encoding and decoding with {@link ResultCodec} against a
+ * direct buffer. One result in ten is an error carrying a short message.
+ * The {@code getBytes} variant encodes the strings through an intermediate
+ * array, as most hand-rolled serializers do, for comparison with the
+ * direct UTF-8 encoder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final ValueCodec<String> GET_BYTES = new ValueCodec<>() {
+        @Override
+        public int encodedSize(String value) {
+            return Integer.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        @Override
+        public void encode(String value, ByteBuffer buffer) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            return ValueCodecs.STRING.decode(buffer);
+        }
+    };
+
+    private final ResultCodec<Integer, String> codec = ResultCodec.of(ValueCodecs.INT, ValueCodecs.STRING);
+    private final ResultCodec<Integer, String> getBytesCodec = ResultCodec.of(ValueCodecs.INT, GET_BYTES);
+
+    private List<Result<Integer, String>> results;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+
+    @Setup
+    public void setup() {
+        results = IntStream.range(0, SIZE)
+                .mapToObj(i -> i % 10 == 0
+                        ? Result.<Integer, String>err("connection reset by peer #" + i)
+                        : Result.<Integer, String>ok(i))
+                .collect(Collectors.toList());
+        buffer = ByteBuffer.allocateDirect(codec.encodedSize(results));
+        encoded = ByteBuffer.allocateDirect(codec.encodedSize(results));
+        codec.encodeAll(results, encoded);
+        encoded.flip();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeAll() {
+        buffer.clear();
+        codec.encodeAll(results, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeAllGetBytes() {
+        buffer.clear();
+        getBytesCodec.encodeAll(results, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public List<Result<Integer, String>> decodeAll() {
+        encoded.rewind();
+        return codec.decodeAll(encoded);
+    }
+}
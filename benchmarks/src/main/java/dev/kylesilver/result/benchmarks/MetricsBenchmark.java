@@ -0,0 +1,77 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.Result;
+import dev.kylesilver.result.metrics.CallSiteMetrics;
+import dev.kylesilver.result.metrics.MetricsRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what {@link CallSiteMetrics} adds to {@link Result#tryOr}. The
+ * no-op call site lives in a {@code static final} field, as recommended, and
+ * should cost the same as the bare call; the recording call sites show the
+ * price of the counters and of the two clock reads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+    private static final CallSiteMetrics NOOP = CallSiteMetrics.noop();
+    private static final CallSiteMetrics COUNTED = REGISTRY.callSite("counted");
+    private static final CallSiteMetrics TIMED = REGISTRY.timedCallSite("timed");
+
+    private String valid = "12345";
+    private String invalid = "12a45";
+
+    private static int parse(String input) throws IOException {
+        int value = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IOException("unexpected character at position " + i);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> bareSuccess() {
+        return Result.tryOr(() -> parse(valid), IOException.class);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> noopSuccess() {
+        return NOOP.tryOr(() -> parse(valid), IOException.class);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> countedSuccess() {
+        return COUNTED.tryOr(() -> parse(valid), IOException.class);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> timedSuccess() {
+        return TIMED.tryOr(() -> parse(valid), IOException.class);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> countedFailure() {
+        return COUNTED.tryOr(() -> parse(invalid), IOException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.Partition;
+import dev.kylesilver.result.Result;
+import dev.kylesilver.result.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows how {@link Results#parallelTraverse} and
+ * {@link Results#parallelPartition} scale with the number of workers. Run on
+ * a machine with at least as many cores as the largest {@code parallelism}
+ * value; a parallelism of 1 is the baseline, and the sequential
+ * {@link Results#traverse} is included for reference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelTraverseBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<String> records;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // every 100th record is invalid so that partitioning has work on both sides
+            records.add(i % 100 == 99 ? "invalid-" + i : Integer.toString(i * 31));
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private static Result<Integer, String> validate(String record) {
+        int value = 0;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (c < '0' || c > '9') {
+                return Result.err(record);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return Result.ok(value);
+    }
+
+    private static Result<Integer, String> validateAll(String record) {
+        // succeeds on every record, so that traversal has to visit all of them
+        return validate(record).orElse(err -> Result.ok(-1));
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> sequentialTraverse() {
+        return Results.traverse(records, ParallelTraverseBenchmark::validateAll);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> parallelTraverse() {
+        return Results.parallelTraverse(records, ParallelTraverseBenchmark::validateAll, pool);
+    }
+
+    @Benchmark
+    public Partition<Integer, String> parallelPartition() {
+        return Results.parallelPartition(records, ParallelTraverseBenchmark::validate, pool);
+    }
+}
@@ -0,0 +1,120 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.Result;
+import dev.kylesilver.result.ResultPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares a {@link ResultPipeline} with the same chain of combinators written
+ * out by hand. Both use the same stage functions, so the
+ * difference is the intermediate {@code Ok} and {@code Err} objects that the
+ * hand-written chain creates between stages. The chain is five stages long;
+ * the {@code ok} input passes through all of them, while the {@code err} input
+ * fails in the first {@code andThen}.
+ * <p>
+ * With {@code polluted = false} the combinators have only ever seen this
+ * benchmark's lambdas, so the JIT can inline the whole hand-written chain and
+ * remove its intermediate results through escape analysis. That is the best
+ * case for the hand-written chain. In an application, {@code Ok.map} and
+ * friends are called with many different lambdas, which leaves their internal
+ * call sites megamorphic and the intermediates on the heap. {@code polluted =
+ * true} reproduces that by exercising the combinators with other lambdas
+ * before measuring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+    // instance fields rather than constants, as with lambdas that capture
+    // local state, so that the JIT cannot treat them as known receivers
+    private final Function<Integer, Integer> increment = x -> x + 1;
+    private final Function<Integer, Result<Integer, String>> checkPositive =
+            x -> x > 0 ? Result.ok(x) : Result.err("not positive");
+    private final Function<Integer, Result<Integer, String>> checkEven =
+            x -> x % 2 == 0 ? Result.ok(x) : Result.err("not even");
+    private final Function<Integer, Integer> halve = x -> x / 2;
+    private final Function<String, String> decorate = e -> "error: " + e;
+
+    private final ResultPipeline<Integer, Integer, String> pipeline = ResultPipeline.<Integer, String>start()
+            .map(increment)
+            .andThen(checkPositive)
+            .andThen(checkEven)
+            .map(halve)
+            .mapErr(decorate);
+
+    @Param({"false", "true"})
+    private boolean polluted;
+
+    private Integer ok = 41;
+    private Integer err = -5;
+
+    @Setup
+    public void pollute() {
+        if (!polluted) {
+            return;
+        }
+        List<Function<Integer, Integer>> maps = List.of(x -> x * 3, x -> x - 7, x -> x ^ 5, Math::abs);
+        List<Function<Integer, Result<Integer, String>>> chains = List.of(
+                Result::ok, x -> Result.err("odd"), x -> Result.ok(x * 2), x -> Result.ok(-x)
+        );
+        List<Function<String, String>> errMaps = List.of(String::trim, e -> e + "!", String::toUpperCase, e -> "x");
+        int sink = 0;
+        for (int i = 0; i < 200_000; i++) {
+            Result<Integer, String> okResult = Result.ok(i);
+            Result<Integer, String> errResult = Result.err("e" + (i & 7));
+            sink += okResult.map(maps.get(i & 3)).orElse(0);
+            sink += okResult.andThen(chains.get(i & 3)).orElse(0);
+            sink += errResult.mapErr(errMaps.get(i & 3)).orElseGet(String::length);
+        }
+        if (sink == 42) {
+            System.out.println("unlikely");
+        }
+    }
+
+    private Result<Integer, String> handWritten(Integer input) {
+        return Result.<Integer, String>ok(input)
+                .map(increment)
+                .andThen(checkPositive)
+                .andThen(checkEven)
+                .map(halve)
+                .mapErr(decorate);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okHandWritten() {
+        return handWritten(ok);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okPipeline() {
+        return pipeline.apply(ok);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errHandWritten() {
+        return handWritten(err);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errPipeline() {
+        return pipeline.apply(err);
+    }
+}
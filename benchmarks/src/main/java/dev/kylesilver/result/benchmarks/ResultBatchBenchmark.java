@@ -0,0 +1,141 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.Partition;
+import dev.kylesilver.result.Result;
+import dev.kylesilver.result.ResultBatch;
+import dev.kylesilver.result.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares a {@link ResultBatch} with a {@code List<Result>} holding the same
+ * outcomes, one in a hundred of them errors. The build benchmarks show the
+ * memory each representation needs per batch in their allocation rate; the
+ * others show the cost of the bulk operations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBatchBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private Long[] values;
+    private List<Result<Long, String>> list;
+    private ResultBatch<Long, String> batch;
+
+    @Setup
+    public void setUp() {
+        values = new Long[size];
+        for (int i = 0; i < size; i++) {
+            // outside the range of shared Ok instances
+            values[i] = 1000L + i;
+        }
+        list = buildList();
+        batch = buildBatch();
+    }
+
+    private static boolean failed(int i) {
+        return i % 100 == 37;
+    }
+
+    @Benchmark
+    public List<Result<Long, String>> buildList() {
+        List<Result<Long, String>> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(failed(i) ? Result.err("failed") : Result.ok(values[i]));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public ResultBatch<Long, String> buildBatch() {
+        ResultBatch.Builder<Long, String> builder = ResultBatch.builder(size);
+        for (int i = 0; i < size; i++) {
+            if (failed(i)) {
+                builder.addErr("failed");
+            } else {
+                builder.addOk(values[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public List<Result<Long, Integer>> mapErrList() {
+        List<Result<Long, Integer>> mapped = new ArrayList<>(list.size());
+        for (Result<Long, String> result : list) {
+            mapped.add(result.mapErr(String::length));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public ResultBatch<Long, Integer> mapErrBatch() {
+        return batch.mapErr(String::length);
+    }
+
+    @Benchmark
+    public List<Result<Long, String>> filterList() {
+        return list.stream()
+                .filter(result -> result.isErr() || (result.getOrNull() & 1) == 0)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ResultBatch<Long, String> filterBatch() {
+        return batch.filter(value -> (value & 1) == 0);
+    }
+
+    @Benchmark
+    public Partition<Long, String> partitionList() {
+        return list.stream().collect(Results.partitioning());
+    }
+
+    @Benchmark
+    public Partition<Long, String> partitionBatch() {
+        return batch.partition();
+    }
+
+    @Benchmark
+    public long sumList() {
+        long sum = 0;
+        for (Result<Long, String> result : list) {
+            Long value = result.getOrNull();
+            if (value != null) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumBatch() {
+        long sum = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Long value = batch.getOrNull(i);
+            if (value != null) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,134 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Measures each combinator on both the {@code Ok} and the {@code Err} path.
+ * The receivers are held in fields typed as {@link Result} so that every call
+ * goes through the interface, the way it does in application code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = x -> x + 1;
+    private static final Function<String, String> DECORATE = e -> "error: " + e;
+    private static final Function<Integer, Result<Integer, String>> CHAIN = x -> Result.ok(x + 1);
+    private static final Function<String, Result<Integer, String>> RECOVER = e -> Result.ok(e.length());
+
+    private Result<Integer, String> ok = Result.ok(42);
+    private Result<Integer, String> err = Result.err("something went wrong");
+
+    @Benchmark
+    public Result<Integer, String> okMap() {
+        return ok.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errMap() {
+        return err.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okMapErr() {
+        return ok.mapErr(DECORATE);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errMapErr() {
+        return err.mapErr(DECORATE);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okAndThen() {
+        return ok.andThen(CHAIN);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errAndThen() {
+        return err.andThen(CHAIN);
+    }
+
+    @Benchmark
+    public Result<Integer, String> okOrElse() {
+        return ok.orElse(RECOVER);
+    }
+
+    @Benchmark
+    public Result<Integer, String> errOrElse() {
+        return err.orElse(RECOVER);
+    }
+
+    @Benchmark
+    public int okMatch() {
+        return ok.match(x -> x, String::length);
+    }
+
+    @Benchmark
+    public int errMatch() {
+        return err.match(x -> x, String::length);
+    }
+
+    @Benchmark
+    public void okMatchConsumer(Blackhole bh) {
+        Consumer<Integer> ifOk = bh::consume;
+        Consumer<String> ifErr = bh::consume;
+        ok.match(ifOk, ifErr);
+    }
+
+    @Benchmark
+    public void errMatchConsumer(Blackhole bh) {
+        Consumer<Integer> ifOk = bh::consume;
+        Consumer<String> ifErr = bh::consume;
+        err.match(ifOk, ifErr);
+    }
+
+    @Benchmark
+    public Optional<Integer> okGetOk() {
+        return ok.ok();
+    }
+
+    @Benchmark
+    public Optional<Integer> errGetOk() {
+        return err.ok();
+    }
+
+    @Benchmark
+    public Optional<String> okGetErr() {
+        return ok.err();
+    }
+
+    @Benchmark
+    public Optional<String> errGetErr() {
+        return err.err();
+    }
+
+    @Benchmark
+    public Integer okGetOrNull() {
+        return ok.getOrNull();
+    }
+
+    @Benchmark
+    public Integer errOrElseValue() {
+        return err.orElse(0);
+    }
+}
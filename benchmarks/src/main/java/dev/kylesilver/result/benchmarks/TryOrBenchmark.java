@@ -0,0 +1,90 @@
+package dev.kylesilver.result.benchmarks;
+
+import dev.kylesilver.result.ExceptionMatcher;
+import dev.kylesilver.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Compares {@link Result#tryOr} with a hand-written try/catch around the same
+ * operation. Both the success and the failure path call {@link #parse} so the
+ * difference between the two styles is only the wrapping itself. The plain
+ * variants hand back the caught exception so that the JIT cannot elide its
+ * construction, just as it cannot when the exception ends up inside an
+ * {@code Err}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TryOrBenchmark {
+
+    private static final ExceptionMatcher<Exception> MATCHER =
+            ExceptionMatcher.of(TimeoutException.class, IOException.class);
+
+    private String valid = "12345";
+    private String invalid = "12a45";
+
+    private static int parse(String input) throws IOException {
+        int value = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IOException("unexpected character at position " + i);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> tryOrSuccess() {
+        return Result.tryOr(() -> parse(valid), IOException.class);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> tryOrFailure() {
+        return Result.tryOr(() -> parse(invalid), IOException.class);
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> tryOrMultipleFailure() {
+        return Result.tryOr(() -> parse(invalid), TimeoutException.class, IOException.class);
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> tryOrMatcherFailure() {
+        return Result.tryOr(() -> parse(invalid), MATCHER);
+    }
+
+    @Benchmark
+    public Object throwCatchSuccess() {
+        try {
+            return parse(valid);
+        } catch (IOException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwCatchFailure() {
+        try {
+            return parse(invalid);
+        } catch (IOException e) {
+            return e;
+        }
+    }
+}
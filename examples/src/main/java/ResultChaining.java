@@ -12,12 +12,11 @@ import java.util.stream.Collectors;
 public class ResultChaining {
 
     public static Result<Map<TopicPartition, Long>, Exception> lag(Consumer<?, ?> consumer) {
-        return Result.tryOr(consumer::assignment, Exception.class)
-                .andThen(assignment -> Result.tryOr(() -> consumer.committed(assignment), Exception.class))
-                .andThen(committed -> {
-                    var assignment = committed.keySet();
-                    return Result.tryOr(() -> consumer.endOffsets(assignment), Exception.class).map(ends -> calculateLag(committed, ends));
-                });
+        // each step receives the consumer as an argument, so none of the
+        // lambdas capture anything and no nested tryOr is needed
+        return Result.tryOr(consumer, Consumer::assignment, Exception.class)
+                .tryMap(consumer, (assignment, c) -> c.committed(assignment), Exception.class)
+                .tryMap(consumer, (committed, c) -> calculateLag(committed, c.endOffsets(committed.keySet())), Exception.class);
     }
 
     private static Map<TopicPartition, Long> calculateLag(
@@ -1,8 +1,11 @@
 import dev.kylesilver.result.Result;
+import dev.kylesilver.result.Validated;
 import lombok.Value;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class UserDefinedErrors {
 
@@ -48,6 +51,25 @@ public class UserDefinedErrors {
         return Result.ok(args);
     }
 
+    // reports every bad token at once instead of stopping at the first
+    public static Result<int[], List<ParserError>> parseAll(String input) {
+        String[] tokens = input.split(",");
+        Validated<String[], ParserError> count = tokens.length == 4
+                ? Validated.valid(tokens)
+                : Validated.invalid(new IncorrectNumberOfArguments(4, tokens.length));
+        List<Integer> positions = IntStream.range(0, tokens.length).boxed().collect(Collectors.toList());
+        Validated<List<Integer>, ParserError> values = Validated.traverse(positions, i -> {
+            try {
+                return Validated.valid(Integer.parseInt(tokens[i].trim()));
+            } catch (NumberFormatException e) {
+                return Validated.invalid(new CouldNotParseToken(input.indexOf(tokens[i]), tokens[i]));
+            }
+        });
+        return count
+                .zip(values, (ignored, ints) -> ints.stream().mapToInt(Integer::intValue).toArray())
+                .toResult();
+    }
+
     public static void main(String[] args) {
         List<String> tests = Arrays.asList("1, 2, 3", "1, 2, horse, 4", "1, 2, 3, 4");
         for (String test: tests) {
@@ -56,6 +78,7 @@ public class UserDefinedErrors {
                     ParserError::logError
             );
         }
+        parseAll("1, horse, 3, cow, 5").ifErr(errors -> errors.forEach(ParserError::logError));
     }
 
 }
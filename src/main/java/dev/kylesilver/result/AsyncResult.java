@@ -0,0 +1,338 @@
+package dev.kylesilver.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link Result} which will become available at some point in the future.
+ * <p>
+ * An <code>AsyncResult</code> is a thin layer over a {@code
+ * CompletableFuture<Result<T, E>>}. Typed errors travel through the value
+ * channel of the future as an {@link Err}, so each stage of a pipeline can
+ * handle them with the same combinators as a synchronous {@link Result},
+ * without having to unwrap {@link CompletionException} or
+ * {@link ExecutionException} along the way:
+ * <pre>{@code
+ * AsyncResult<User, IOException> user = AsyncResult.fromFuture(client.fetchUser(id), IOException.class);
+ * AsyncResult<Profile, IOException> profile = user
+ *     .map(User::profileId)
+ *     .andThen(profileId -> AsyncResult.fromFuture(client.fetchProfile(profileId), IOException.class));
+ * }</pre>
+ * No method blocks except {@link #join()}. Each stage runs on whichever
+ * thread completes the stage before it, or immediately on the calling thread
+ * if that stage has already completed, following the same rules as
+ * {@link CompletableFuture#thenApply(Function)}.
+ * <p>
+ * Exceptions that escape a caller-provided function are not converted into
+ * errors; they complete the underlying future exceptionally, as they would in
+ * any other {@link CompletableFuture} pipeline.
+ * @param <T>
+ *      The type of the {@link Ok} value.
+ * @param <E>
+ *      The type of the {@link Err} value.
+ */
+public final class AsyncResult<T, E> {
+    private final CompletableFuture<Result<T, E>> future;
+
+    private AsyncResult(CompletableFuture<Result<T, E>> future) {
+        this.future = future;
+    }
+
+    /**
+     * An <code>AsyncResult</code> that has already completed successfully.
+     * @see Result#ok(Object)
+     */
+    public static <T, E> AsyncResult<T, E> ok(@NotNull T t) {
+        return of(Result.ok(t));
+    }
+
+    /**
+     * An <code>AsyncResult</code> that has already failed.
+     * @see Result#err(Object)
+     */
+    public static <T, E> AsyncResult<T, E> err(@NotNull E e) {
+        return of(Result.err(e));
+    }
+
+    /**
+     * Lift an existing {@link Result} into an <code>AsyncResult</code> that
+     * has already completed.
+     * @param result
+     *      the result to wrap.
+     * @return
+     *      a completed <code>AsyncResult</code>.
+     */
+    public static <T, E> AsyncResult<T, E> of(Result<T, E> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * Wrap a stage which already produces a {@link Result}. If the stage
+     * completes exceptionally, so does the returned <code>AsyncResult</code>.
+     * @param stage
+     *      the stage to wrap.
+     * @return
+     *      an <code>AsyncResult</code> which completes with the stage.
+     */
+    public static <T, E> AsyncResult<T, E> fromResultFuture(CompletionStage<Result<T, E>> stage) {
+        return new AsyncResult<>(stage.toCompletableFuture().thenApply(Function.identity()));
+    }
+
+    /**
+     * Convert a plain future into an <code>AsyncResult</code>. A value becomes
+     * an {@link Ok}, and a failure with an exception of type <code>cls</code>
+     * becomes an {@link Err}. Any {@link CompletionException} or
+     * {@link ExecutionException} wrappers are removed first.
+     * @param stage
+     *      the future to convert.
+     * @param cls
+     *      the exception class which is turned into an {@link Err}.
+     * @return
+     *      an <code>AsyncResult</code> which completes with the stage. If the
+     *      stage fails with some other exception, the returned value
+     *      completes exceptionally with an {@link ErrorTypeMismatchException}.
+     * @see Result#tryOr(CheckedSupplier, Class)
+     */
+    public static <T, E extends Throwable> AsyncResult<T, E> fromFuture(CompletionStage<T> stage, Class<E> cls) {
+        return new AsyncResult<>(stage.handle((value, thrown) -> {
+            if (thrown == null) {
+                return Result.<T, E>ok(value);
+            }
+            Throwable cause = unwrap(thrown);
+            if (cls.isInstance(cause)) {
+                return Result.<T, E>err(cls.cast(cause));
+            }
+            throw new ErrorTypeMismatchException(cls, cause);
+        }).toCompletableFuture());
+    }
+
+    /**
+     * Convert a plain future into an <code>AsyncResult</code>, turning
+     * failures into error values with an {@link ExceptionMatcher}.
+     * @param stage
+     *      the future to convert.
+     * @param matcher
+     *      converts the exception of a failed stage into an error value.
+     * @return
+     *      an <code>AsyncResult</code> which completes with the stage.
+     * @see #fromFuture(CompletionStage, Class)
+     */
+    public static <T, E> AsyncResult<T, E> fromFuture(CompletionStage<T> stage, ExceptionMatcher<E> matcher) {
+        return new AsyncResult<>(stage.handle((value, thrown) -> {
+            if (thrown == null) {
+                return Result.<T, E>ok(value);
+            }
+            return Result.<T, E>err(matcher.match(unwrap(thrown)));
+        }).toCompletableFuture());
+    }
+
+    /**
+     * Run a fallible operation on <code>executor</code> and capture its
+     * outcome as an <code>AsyncResult</code>.
+     * @param supplier
+     *      the operation to run.
+     * @param cls
+     *      the exception class which is turned into an {@link Err}.
+     * @param executor
+     *      the executor to run the operation on.
+     * @return
+     *      an <code>AsyncResult</code> which completes when the operation
+     *      does.
+     * @see Result#tryOr(CheckedSupplier, Class)
+     */
+    public static <T, E extends Throwable> AsyncResult<T, E> tryOrAsync(
+            CheckedSupplier<T, E> supplier,
+            Class<E> cls,
+            Executor executor
+    ) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.tryOr(supplier, cls), executor));
+    }
+
+    /**
+     * Run a fallible operation on <code>scheduler</code>, retrying it
+     * according to <code>policy</code> until it succeeds or the policy gives
+     * up. The waits between attempts are scheduled rather than slept, so no
+     * thread is blocked while a retry is pending.
+     * <pre>{@code
+     * AsyncResult<Config, RetryError<IOException>> config =
+     *     AsyncResult.retry(() -> fetchConfig(url), IOException.class, POLICY, scheduler);
+     * }</pre>
+     * @param supplier
+     *      the operation to run.
+     * @param cls
+     *      the exception class which counts as a failed attempt. Any other
+     *      exception completes the underlying future exceptionally and ends
+     *      the retries.
+     * @param policy
+     *      decides how often and how soon to retry.
+     * @param scheduler
+     *      runs every attempt. If it is shut down while a retry is pending,
+     *      the underlying future completes exceptionally.
+     * @return
+     *      an <code>AsyncResult</code> holding the first successful value, or
+     *      the last error along with the number of attempts made.
+     * @see Result#tryOr(CheckedSupplier, Class)
+     */
+    public static <T, E extends Throwable> AsyncResult<T, RetryError<E>> retry(
+            CheckedSupplier<T, E> supplier,
+            Class<E> cls,
+            RetryPolicy<E> policy,
+            ScheduledExecutorService scheduler
+    ) {
+        return new AsyncResult<>(Retry.start(() -> Result.tryOr(supplier, cls), policy, scheduler));
+    }
+
+    /**
+     * Run a fallible operation whose exceptions are converted by an
+     * {@link ExceptionMatcher}, retrying it according to <code>policy</code>.
+     * @see #retry(CheckedSupplier, Class, RetryPolicy, ScheduledExecutorService)
+     */
+    public static <T, E> AsyncResult<T, RetryError<E>> retry(
+            CheckedSupplier<T, ? extends Throwable> supplier,
+            ExceptionMatcher<E> matcher,
+            RetryPolicy<E> policy,
+            ScheduledExecutorService scheduler
+    ) {
+        return new AsyncResult<>(Retry.start(() -> Result.tryOr(supplier, matcher), policy, scheduler));
+    }
+
+    /**
+     * @see Result#map(Function)
+     */
+    public <U> AsyncResult<U, E> map(Function<T, U> mapping) {
+        return new AsyncResult<>(future.thenApply(result -> result.map(mapping)));
+    }
+
+    /**
+     * @see Result#mapErr(Function)
+     */
+    public <F> AsyncResult<T, F> mapErr(Function<E, F> mapping) {
+        return new AsyncResult<>(future.thenApply(result -> result.mapErr(mapping)));
+    }
+
+    /**
+     * Chain an asynchronous, fallible operation onto the value if this
+     * completes as an {@link Ok}. An {@link Err} is passed along without
+     * invoking <code>resultFn</code>.
+     * @param resultFn
+     *      starts the next operation.
+     * @return
+     *      an <code>AsyncResult</code> which completes when the next operation
+     *      does, or with the original error.
+     * @see Result#andThen(Function)
+     */
+    @SuppressWarnings("unchecked")
+    public <U> AsyncResult<U, E> andThen(Function<T, AsyncResult<U, E>> resultFn) {
+        return new AsyncResult<>(future.thenCompose(result -> {
+            if (result.isErr()) {
+                // see Err#map for why this cast is safe
+                return CompletableFuture.completedFuture((Result<U, E>) result);
+            }
+            return resultFn.apply(result.getOrNull()).future;
+        }));
+    }
+
+    /**
+     * Chain an asynchronous recovery onto the error if this completes as an
+     * {@link Err}. An {@link Ok} is passed along without invoking
+     * <code>resultFn</code>.
+     * @param resultFn
+     *      starts the recovery operation.
+     * @return
+     *      an <code>AsyncResult</code> which completes when the recovery
+     *      does, or with the original value.
+     * @see Result#orElse(Function)
+     */
+    @SuppressWarnings("unchecked")
+    public <F> AsyncResult<T, F> orElse(Function<E, AsyncResult<T, F>> resultFn) {
+        return new AsyncResult<>(future.thenCompose(result -> result.match(
+                ok -> CompletableFuture.completedFuture((Result<T, F>) result),
+                err -> resultFn.apply(err).future
+        )));
+    }
+
+    /**
+     * @return
+     *      a future which completes with the output of whichever of the two
+     *      transformations applies.
+     * @see Result#match(Function, Function)
+     */
+    public <U> CompletableFuture<U> match(Function<T, U> ifOk, Function<E, U> ifErr) {
+        return future.thenApply(result -> result.match(ifOk, ifErr));
+    }
+
+    /**
+     * @return
+     *      a future which completes once the applicable lambda has run.
+     * @see Result#match(Consumer, Consumer)
+     */
+    public CompletableFuture<Void> match(Consumer<T> ifOk, Consumer<E> ifErr) {
+        return future.thenAccept(result -> result.match(ifOk, ifErr));
+    }
+
+    /**
+     * @return
+     *      a new future which completes with the {@link Result}. Completing it
+     *      does not affect this <code>AsyncResult</code>.
+     */
+    public CompletableFuture<Result<T, E>> toFuture() {
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Convert back into a plain future, moving errors onto the exception
+     * channel.
+     * @param toException
+     *      converts an error into the exception the future fails with.
+     * @return
+     *      a future which completes with the {@link Ok} value, or fails with
+     *      the exception produced from the {@link Err} value.
+     */
+    public CompletableFuture<T> toValueFuture(Function<E, ? extends Throwable> toException) {
+        CompletableFuture<T> values = new CompletableFuture<>();
+        future.whenComplete((result, thrown) -> {
+            if (thrown != null) {
+                values.completeExceptionally(unwrap(thrown));
+            } else if (result.isOk()) {
+                values.complete(result.getOrNull());
+            } else {
+                result.ifErr(err -> values.completeExceptionally(toException.apply(err)));
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Wait for the result. Only use this where blocking is acceptable, such
+     * as at the edge of an application or in tests.
+     * @return
+     *      the completed {@link Result}.
+     * @throws CompletionException
+     *      if a stage failed with an exception rather than an {@link Err}.
+     * @see CompletableFuture#join()
+     */
+    public Result<T, E> join() {
+        return future.join();
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncResult(" + future + ")";
+    }
+
+    private static Throwable unwrap(Throwable thrown) {
+        Throwable cause = thrown;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
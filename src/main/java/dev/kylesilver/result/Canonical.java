@@ -0,0 +1,100 @@
+package dev.kylesilver.result;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared instances for the values that {@link Result#ok} and
+ * {@link Result#err} see most often. {@link Ok} and {@link Err} are
+ * immutable, so one instance can stand in for every equal one; only code
+ * that compares results by identity can tell the difference.
+ */
+final class Canonical {
+    private static final Ok<?, ?> TRUE = new Ok<>(true);
+    private static final Ok<?, ?> FALSE = new Ok<>(false);
+    private static final Ok<?, ?> UNIT = new Ok<>(Unit.UNIT);
+
+    // the same range that Integer.valueOf caches
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+    private static final Ok<?, ?>[] INTS = new Ok<?, ?>[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < INTS.length; i++) {
+            INTS[i] = new Ok<>(LOW + i);
+        }
+    }
+
+    private static final ClassValue<Ok<?, ?>[]> ENUM_OKS = new ClassValue<>() {
+        @Override
+        protected Ok<?, ?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Ok<?, ?>[] oks = new Ok<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                oks[i] = new Ok<>(constants[i]);
+            }
+            return oks;
+        }
+    };
+
+    private static final ClassValue<Err<?, ?>[]> ENUM_ERRS = new ClassValue<>() {
+        @Override
+        protected Err<?, ?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Err<?, ?>[] errs = new Err<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                errs[i] = new Err<>(constants[i], false);
+            }
+            return errs;
+        }
+    };
+
+    private static final ConcurrentMap<Object, Err<?, ?>> INTERNED = new ConcurrentHashMap<>();
+
+    private Canonical() {
+    }
+
+    /**
+     * @return
+     *      the shared <code>Ok</code> of <code>t</code>, or <code>null</code>
+     *      if there is none.
+     */
+    static Ok<?, ?> ok(Object t) {
+        if (t instanceof Boolean) {
+            return (Boolean) t ? TRUE : FALSE;
+        }
+        if (t instanceof Integer) {
+            int i = (Integer) t;
+            return i >= LOW && i <= HIGH ? INTS[i - LOW] : null;
+        }
+        if (t instanceof Enum) {
+            if (t == Unit.UNIT) {
+                return UNIT;
+            }
+            Enum<?> constant = (Enum<?>) t;
+            return ENUM_OKS.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+        return null;
+    }
+
+    /**
+     * @return
+     *      the shared <code>Err</code> of an enum constant, or
+     *      <code>null</code> if <code>e</code> is not one.
+     */
+    static Err<?, ?> err(Object e) {
+        if (e instanceof Enum) {
+            Enum<?> constant = (Enum<?>) e;
+            return ENUM_ERRS.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+        return null;
+    }
+
+    static Err<?, ?> intern(Object e) {
+        Err<?, ?> err = INTERNED.get(e);
+        if (err == null) {
+            err = INTERNED.computeIfAbsent(e, key -> new Err<>(key, false));
+        }
+        return err;
+    }
+}
@@ -0,0 +1,120 @@
+package dev.kylesilver.result;
+
+/**
+ * The exception handling shared by the <code>tryOr</code> overloads that take explicit
+ * arguments and by {@link Result#tryMap(CheckedFunction, Class) tryMap} and
+ * {@link Result#tryAndThen(CheckedFunction, Class) tryAndThen}.
+ */
+final class Caught {
+
+    private Caught() {
+    }
+
+    /**
+     * @return
+     *      an {@link Ok} of what <code>mapping</code> produced from
+     *      <code>value</code>, or an {@link Err} of the exception it threw.
+     */
+    static <T, U, E> Result<U, E> map(
+            T value,
+            CheckedFunction<T, U, ? extends Throwable> mapping,
+            Class<? extends E> cls
+    ) {
+        Object event = ResultEvents.beginTryOr();
+        try {
+            return ResultEvents.endTryOr(event, Result.ok(mapping.apply(value)));
+        } catch (Throwable f) {
+            return as(event, f, cls);
+        }
+    }
+
+    /**
+     * @see #map(Object, CheckedFunction, Class)
+     */
+    static <T, A, U, E> Result<U, E> map(
+            T value,
+            A arg,
+            CheckedBiFunction<T, A, U, ? extends Throwable> mapping,
+            Class<? extends E> cls
+    ) {
+        Object event = ResultEvents.beginTryOr();
+        try {
+            return ResultEvents.endTryOr(event, Result.ok(mapping.apply(value, arg)));
+        } catch (Throwable f) {
+            return as(event, f, cls);
+        }
+    }
+
+    /**
+     * @return
+     *      the result <code>resultFn</code> produced from <code>value</code>,
+     *      or an {@link Err} of the exception it threw.
+     */
+    static <T, U, E> Result<U, E> andThen(
+            T value,
+            CheckedFunction<T, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        Object event = ResultEvents.beginTryOr();
+        try {
+            return ResultEvents.endTryOr(event, resultFn.apply(value));
+        } catch (Throwable f) {
+            return as(event, f, cls);
+        }
+    }
+
+    /**
+     * @see #andThen(Object, CheckedFunction, Class)
+     */
+    static <T, A, U, E> Result<U, E> andThen(
+            T value,
+            A arg,
+            CheckedBiFunction<T, A, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        Object event = ResultEvents.beginTryOr();
+        try {
+            return ResultEvents.endTryOr(event, resultFn.apply(value, arg));
+        } catch (Throwable f) {
+            return as(event, f, cls);
+        }
+    }
+
+    /**
+     * @return
+     *      an {@link Err} of <code>thrown</code>, ending the flight recorder
+     *      event started with {@link ResultEvents#beginTryOr()}.
+     * @throws ErrorTypeMismatchException
+     *      if <code>thrown</code> is not an instance of <code>cls</code>.
+     */
+    static <T, E> Result<T, E> as(Object event, Throwable thrown, Class<? extends E> cls) {
+        if (cls.isInstance(thrown)) {
+            return ResultEvents.endTryOr(event, Result.err(cls.cast(thrown)));
+        }
+        ResultEvents.endTryOr(event, thrown);
+        // the class is only used to describe the expected type in the
+        // message, so it does not matter if it is an interface that some
+        // exceptions implement rather than a Throwable subclass
+        @SuppressWarnings("unchecked")
+        Class<? extends Throwable> expected = (Class<? extends Throwable>) cls;
+        throw new ErrorTypeMismatchException(expected, thrown);
+    }
+
+    /**
+     * @return
+     *      an {@link Err} of the error the matcher produced from
+     *      <code>thrown</code>.
+     * @throws ErrorTypeMismatchException
+     *      if no rule of the matcher accepts <code>thrown</code>.
+     */
+    static <T, E> Result<T, E> as(Object event, Throwable thrown, ExceptionMatcher<E> matcher) {
+        E error;
+        try {
+            error = matcher.match(thrown);
+        } catch (ErrorTypeMismatchException mismatch) {
+            ResultEvents.endTryOr(event, thrown);
+            throw mismatch;
+        }
+        return ResultEvents.endTryOr(event, Result.err(error));
+    }
+}
@@ -0,0 +1,26 @@
+package dev.kylesilver.result;
+
+import java.util.function.BiFunction;
+
+/**
+ * Similar to the {@link java.util.function.BiFunction} interface, but with
+ * additional type information to allow for the function to throw an exception.
+ * @param <A>
+ *      The type of the first argument of the function
+ * @param <B>
+ *      The type of the second argument of the function
+ * @param <T>
+ *      The type of the value yielded by the function
+ * @param <E>
+ *      The type of an exception thrown by the function. As with
+ *      {@link CheckedSupplier}, it must be a parent type to all exceptions that
+ *      the function might throw.
+ * @see CheckedFunction
+ */
+@FunctionalInterface
+public interface CheckedBiFunction<A, B, T, E extends Throwable> {
+    /**
+     * @see BiFunction#apply(Object, Object)
+     */
+    T apply(A a, B b) throws E;
+}
@@ -0,0 +1,27 @@
+package dev.kylesilver.result;
+
+import java.util.function.Function;
+
+/**
+ * Similar to the {@link java.util.function.Function} interface, but with
+ * additional type information to allow for the function to throw an exception.
+ * Passing the argument to {@link Result#tryOr(Object, CheckedFunction, Class)}
+ * instead of capturing it in a {@link CheckedSupplier} keeps the lambda
+ * non-capturing, so the JVM can reuse a single instance of it rather than
+ * allocating one per call.
+ * @param <A>
+ *      The type of the argument of the function
+ * @param <T>
+ *      The type of the value yielded by the function
+ * @param <E>
+ *      The type of an exception thrown by the function. As with
+ *      {@link CheckedSupplier}, it must be a parent type to all exceptions that
+ *      the function might throw.
+ */
+@FunctionalInterface
+public interface CheckedFunction<A, T, E extends Throwable> {
+    /**
+     * @see Function#apply(Object)
+     */
+    T apply(A a) throws E;
+}
@@ -8,11 +8,12 @@ import java.util.function.Supplier;
  * @param <T>
  *      The type of the value yielded by the function
  * @param <E>
- *      The type of an exception thrown by the function. Since there is no
- *      mechanism in the {@link Result} class for catching multiple exception
- *      types, {@code <E>} must be a parent type to all exceptions that the
- *      function might throw. If this condition is not met, a {@link
- *      ErrorTypeMismatchException} will be thrown at runtime.
+ *      The type of an exception thrown by the function. When used with
+ *      {@link Result#tryOr(CheckedSupplier, Class)}, {@code <E>} must be a
+ *      parent type to all exceptions that the function might throw. If this
+ *      condition is not met, a {@link ErrorTypeMismatchException} will be
+ *      thrown at runtime. To catch several unrelated exception types, see
+ *      {@link ExceptionMatcher}.
  */
 @FunctionalInterface
 public interface CheckedSupplier<T, E extends Throwable> {
@@ -0,0 +1,346 @@
+package dev.kylesilver.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling a failing dependency once too many of its recent calls have
+ * returned an {@link Err}. Failure is judged from the results themselves, so
+ * no exceptions are involved.
+ * <pre>{@code
+ * private static final CircuitBreaker<FetchError> BREAKER = CircuitBreaker.<FetchError>builder(FetchError.UNAVAILABLE)
+ *     .failureRate(0.5)
+ *     .minimumCalls(20)
+ *     .window(Duration.ofSeconds(10), 10)
+ *     .openFor(Duration.ofSeconds(30))
+ *     .build();
+ *
+ * Result<Profile, FetchError> profile = BREAKER.call(() -> client.fetchProfile(id));
+ * }</pre>
+ * While <em>closed</em>, every call goes through and its outcome is recorded
+ * in a sliding window. When at least <code>minimumCalls</code> calls fall in
+ * the window and the share of errors among them reaches the failure rate, the
+ * breaker <em>opens</em>, and calls immediately return the preallocated open
+ * error without reaching the dependency. Once the open period has passed, the
+ * breaker is <em>half-open</em>: a single trial call goes through while the
+ * others are still rejected. If it succeeds the breaker closes with an empty
+ * window, otherwise it opens again.
+ * <p>
+ * The window is a ring of time buckets, each holding a pair of
+ * {@link LongAdder}s, so recording an outcome never contends on a shared
+ * counter or lock. Successful calls only increment a counter; the window is
+ * summed after an error, to decide whether to open.
+ * @param <E>
+ *      The type of the {@link Err} values of the protected calls.
+ */
+public final class CircuitBreaker<E> {
+
+    /**
+     * The states of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /** Calls go through and their outcomes are recorded. */
+        CLOSED,
+        /** Calls are rejected with the open error. */
+        OPEN,
+        /** A single trial call decides whether to close or open again. */
+        HALF_OPEN
+    }
+
+    // permits handed out by acquire()
+    private static final int REJECTED = 0;
+    private static final int PERMITTED = 1;
+    private static final int TRIAL = 2;
+
+    private final Err<?, E> rejection;
+    private final double failureRate;
+    private final long minimumCalls;
+    private final long bucketNanos;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final AtomicInteger state = new AtomicInteger(State.CLOSED.ordinal());
+    // written before the state is set to OPEN and read after it is seen
+    private volatile long openedAt;
+
+    private CircuitBreaker(Builder<E> builder) {
+        this.rejection = new Err<>(builder.openError);
+        this.failureRate = builder.failureRate;
+        this.minimumCalls = builder.minimumCalls;
+        this.bucketNanos = Math.max(1, builder.window.toNanos() / builder.bucketCount);
+        this.openNanos = builder.openFor.toNanos();
+        this.clock = builder.clock;
+        this.buckets = new AtomicReferenceArray<>(builder.bucketCount);
+        clearWindow();
+    }
+
+    /**
+     * Start building a circuit breaker. By default it opens once half of at
+     * least 20 calls in the last 10 seconds have failed, and stays open for
+     * 30 seconds.
+     * @param openError
+     *      the error returned, without calling the dependency, while the
+     *      breaker is open.
+     * @param <E>
+     *      the type of the errors of the protected calls.
+     * @return
+     *      a builder holding the defaults.
+     */
+    public static <E> Builder<E> builder(@NotNull E openError) {
+        return new Builder<>(Objects.requireNonNull(openError));
+    }
+
+    /**
+     * Make a call through the breaker.
+     * @param operation
+     *      the call to protect.
+     * @param <T>
+     *      the type of the {@link Ok} value.
+     * @return
+     *      the result of <code>operation</code>, or the open error if the
+     *      breaker rejected the call. Rejections do not allocate.
+     * @throws NullPointerException
+     *      if <code>operation</code> returns <code>null</code>. Like an
+     *      exception thrown by the call, this reopens a half-open breaker.
+     */
+    public <T> Result<T, E> call(Supplier<Result<T, E>> operation) {
+        int permit = acquire();
+        if (permit == REJECTED) {
+            return rejected();
+        }
+        Result<T, E> result;
+        try {
+            result = Objects.requireNonNull(operation.get(), "protected call returned null");
+        } catch (Throwable thrown) {
+            // an exception says nothing about the error rate, but a trial
+            // call that never finished cannot close the breaker either
+            if (permit == TRIAL) {
+                open();
+            }
+            throw thrown;
+        }
+        record(permit, result.isOk());
+        return result;
+    }
+
+    /**
+     * @return
+     *      the current state. An open breaker whose open period has passed
+     *      reports {@link State#OPEN} until the next call tries it.
+     */
+    public State state() {
+        return State.values()[state.get()];
+    }
+
+    private int acquire() {
+        int current = state.get();
+        if (current == State.CLOSED.ordinal()) {
+            return PERMITTED;
+        }
+        if (current == State.OPEN.ordinal()
+                && clock.getAsLong() - openedAt >= openNanos
+                && state.compareAndSet(current, State.HALF_OPEN.ordinal())) {
+            return TRIAL;
+        }
+        return REJECTED;
+    }
+
+    private void record(int permit, boolean ok) {
+        if (permit == TRIAL) {
+            if (ok) {
+                clearWindow();
+                state.set(State.CLOSED.ordinal());
+            } else {
+                open();
+            }
+            return;
+        }
+        long epoch = clock.getAsLong() / bucketNanos;
+        Bucket bucket = bucket(epoch);
+        if (ok) {
+            bucket.oks.increment();
+            return;
+        }
+        bucket.errs.increment();
+        // calls that started before the breaker opened may still finish
+        // afterwards; they must not push back the end of the open period
+        if (state.get() == State.CLOSED.ordinal() && shouldOpen(epoch)) {
+            openedAt = clock.getAsLong();
+            state.compareAndSet(State.CLOSED.ordinal(), State.OPEN.ordinal());
+        }
+    }
+
+    private void open() {
+        openedAt = clock.getAsLong();
+        state.set(State.OPEN.ordinal());
+    }
+
+    private Bucket bucket(long epoch) {
+        int index = (int) Math.floorMod(epoch, (long) buckets.length());
+        Bucket bucket = buckets.get(index);
+        while (bucket.epoch < epoch) {
+            // the slot still holds an expired bucket; whichever thread swaps
+            // in the fresh one wins, and the rest use it
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+            bucket = buckets.get(index);
+        }
+        // a thread delayed past the end of its bucket counts toward the new
+        // one, which is close enough
+        return bucket;
+    }
+
+    private boolean shouldOpen(long epoch) {
+        long oks = 0;
+        long errs = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket.epoch > epoch - buckets.length()) {
+                oks += bucket.oks.sum();
+                errs += bucket.errs.sum();
+            }
+        }
+        long total = oks + errs;
+        return total >= minimumCalls && errs >= failureRate * total;
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, new Bucket(Long.MIN_VALUE));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Result<T, E> rejected() {
+        // an Err holds no value, so its value type is unused
+        return (Result<T, E>) rejection;
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder oks = new LongAdder();
+        private final LongAdder errs = new LongAdder();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    /**
+     * Accumulates the settings of a {@link CircuitBreaker}.
+     * @param <E>
+     *      the type of the errors of the protected calls.
+     */
+    public static final class Builder<E> {
+        private final E openError;
+        private double failureRate = 0.5;
+        private long minimumCalls = 20;
+        private Duration window = Duration.ofSeconds(10);
+        private int bucketCount = 10;
+        private Duration openFor = Duration.ofSeconds(30);
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(E openError) {
+            this.openError = openError;
+        }
+
+        /**
+         * @param failureRate
+         *      the share of errors, between 0 exclusive and 1 inclusive, at
+         *      which the breaker opens.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>failureRate</code> is out of range.
+         */
+        public Builder<E> failureRate(double failureRate) {
+            if (!(failureRate > 0 && failureRate <= 1)) {
+                throw new IllegalArgumentException("failureRate must be in (0, 1], was " + failureRate);
+            }
+            this.failureRate = failureRate;
+            return this;
+        }
+
+        /**
+         * @param minimumCalls
+         *      the fewest calls the window must hold before the failure rate
+         *      is considered, so a handful of early errors cannot open the
+         *      breaker.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>minimumCalls</code> is not positive.
+         */
+        public Builder<E> minimumCalls(long minimumCalls) {
+            if (minimumCalls <= 0) {
+                throw new IllegalArgumentException("minimumCalls must be positive, was " + minimumCalls);
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * @param window
+         *      how far back outcomes are remembered.
+         * @param buckets
+         *      how many slices the window is divided into. Outcomes expire a
+         *      whole slice at a time, so more buckets make the window slide
+         *      more smoothly.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if the window is not positive or there are no buckets.
+         */
+        public Builder<E> window(Duration window, int buckets) {
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("window must be positive, was " + window);
+            }
+            if (buckets <= 0) {
+                throw new IllegalArgumentException("buckets must be positive, was " + buckets);
+            }
+            this.window = window;
+            this.bucketCount = buckets;
+            return this;
+        }
+
+        /**
+         * @param openFor
+         *      how long the breaker rejects calls before allowing a trial.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>openFor</code> is negative.
+         */
+        public Builder<E> openFor(Duration openFor) {
+            if (openFor.isNegative()) {
+                throw new IllegalArgumentException("openFor must not be negative, was " + openFor);
+            }
+            this.openFor = openFor;
+            return this;
+        }
+
+        // lets tests control time
+        Builder<E> clock(LongSupplier nanoTime) {
+            this.clock = Objects.requireNonNull(nanoTime);
+            return this;
+        }
+
+        /**
+         * @return
+         *      a new breaker, closed and with an empty window.
+         */
+        public CircuitBreaker<E> build() {
+            return new CircuitBreaker<>(this);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Indicates that an operation which would have produced a primitive
+ * {@code double} has failed.
+ * @param <E>
+ *      The type of the value wrapped by this class.
+ */
+@ToString
+@EqualsAndHashCode
+public class DoubleErr<E> implements DoubleResult<E> {
+    private final E e;
+
+    public DoubleErr(@NotNull E e) {
+        this.e = e;
+        ResultEvents.errCreated(e);
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public OptionalDouble ok() {
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.of(e);
+    }
+
+    @Override
+    public double unwrapAsDouble() throws UnwrapException {
+        ResultEvents.unwrapFailed("unwrapAsDouble", e);
+        throw new UnwrapException(() -> "The Result was expected to be Ok, but was instead an Error type with value " + e);
+    }
+
+    @Override
+    public E unwrapErr() {
+        return e;
+    }
+
+    @Override
+    public double expect(String errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expect", e);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public double expect(Supplier<String> errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expect", e);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public <F extends Throwable> double expect(Function<E, F> mapping) throws F {
+        ResultEvents.unwrapFailed("expect", e);
+        throw mapping.apply(e);
+    }
+
+    @Override
+    public E expectErr(String errorMessage) {
+        return e;
+    }
+
+    @Override
+    public E expectErr(Supplier<String> errorMessage) {
+        return e;
+    }
+
+    @Override
+    public <F extends Throwable> E expectErr(DoubleFunction<F> mapping) {
+        return e;
+    }
+
+    @Override
+    public double orElse(double other) {
+        return other;
+    }
+
+    @Override
+    public double orElseGet(ToDoubleFunction<E> fallback) {
+        return fallback.applyAsDouble(e);
+    }
+
+    @Override
+    public void ifOk(DoubleConsumer action) {
+    }
+
+    @Override
+    public void ifErr(Consumer<E> action) {
+        action.accept(e);
+    }
+
+    @Override
+    public <U> U match(DoubleFunction<U> ifOk, Function<E, U> ifErr) {
+        return ifErr.apply(e);
+    }
+
+    @Override
+    public void match(DoubleConsumer ifOk, Consumer<E> ifErr) {
+        ifErr.accept(e);
+    }
+
+    @Override
+    public DoubleResult<E> map(DoubleUnaryOperator mapping) {
+        return this;
+    }
+
+    @Override
+    public IntResult<E> mapToInt(DoubleToIntFunction mapping) {
+        return IntResult.err(e);
+    }
+
+    @Override
+    public LongResult<E> mapToLong(DoubleToLongFunction mapping) {
+        return LongResult.err(e);
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(DoubleFunction<U> mapping) {
+        return Result.err(e);
+    }
+
+    @Override
+    public <F> DoubleResult<F> mapErr(Function<E, F> mapping) {
+        return DoubleResult.err(mapping.apply(e));
+    }
+
+    @Override
+    public DoubleResult<E> and(DoubleResult<E> result) {
+        return this;
+    }
+
+    @Override
+    public DoubleResult<E> andThen(DoubleFunction<DoubleResult<E>> resultFn) {
+        return this;
+    }
+
+    @Override
+    public <F> DoubleResult<F> or(DoubleResult<F> result) {
+        return result;
+    }
+
+    @Override
+    public <F> DoubleResult<F> orElse(Function<E, DoubleResult<F>> resultFn) {
+        return resultFn.apply(e);
+    }
+
+    @Override
+    public Result<Double, E> boxed() {
+        return Result.err(e);
+    }
+}
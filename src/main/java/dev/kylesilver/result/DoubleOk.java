@@ -0,0 +1,180 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Indicates that an operation producing a primitive {@code double} has been
+ * completed successfully.
+ * @param <E>
+ *      The type of a {@link DoubleErr} that could have (but in this case did
+ *      not) resulted from the parent operation.
+ */
+@ToString
+@EqualsAndHashCode
+public class DoubleOk<E> implements DoubleResult<E> {
+    private final double value;
+
+    public DoubleOk(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public OptionalDouble ok() {
+        return OptionalDouble.of(value);
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.empty();
+    }
+
+    @Override
+    public double unwrapAsDouble() {
+        return value;
+    }
+
+    @Override
+    public E unwrapErr() throws UnwrapException {
+        ResultEvents.unwrapFailed("unwrapErr", value);
+        throw new UnwrapException(() -> "The Result was expected to be Err, but was instead Ok with value " + value);
+    }
+
+    @Override
+    public double expect(String errorMessage) {
+        return value;
+    }
+
+    @Override
+    public double expect(Supplier<String> errorMessage) {
+        return value;
+    }
+
+    @Override
+    public <F extends Throwable> double expect(Function<E, F> mapping) {
+        return value;
+    }
+
+    @Override
+    public E expectErr(String errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expectErr", value);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public E expectErr(Supplier<String> errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expectErr", value);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public <F extends Throwable> E expectErr(DoubleFunction<F> mapping) throws F {
+        ResultEvents.unwrapFailed("expectErr", value);
+        throw mapping.apply(value);
+    }
+
+    @Override
+    public double orElse(double other) {
+        return value;
+    }
+
+    @Override
+    public double orElseGet(ToDoubleFunction<E> fallback) {
+        return value;
+    }
+
+    @Override
+    public void ifOk(DoubleConsumer action) {
+        action.accept(value);
+    }
+
+    @Override
+    public void ifErr(Consumer<E> action) {
+    }
+
+    @Override
+    public <U> U match(DoubleFunction<U> ifOk, Function<E, U> ifErr) {
+        return ifOk.apply(value);
+    }
+
+    @Override
+    public void match(DoubleConsumer ifOk, Consumer<E> ifErr) {
+        ifOk.accept(value);
+    }
+
+    @Override
+    public DoubleResult<E> map(DoubleUnaryOperator mapping) {
+        return DoubleResult.ok(mapping.applyAsDouble(value));
+    }
+
+    @Override
+    public IntResult<E> mapToInt(DoubleToIntFunction mapping) {
+        return IntResult.ok(mapping.applyAsInt(value));
+    }
+
+    @Override
+    public LongResult<E> mapToLong(DoubleToLongFunction mapping) {
+        return LongResult.ok(mapping.applyAsLong(value));
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(DoubleFunction<U> mapping) {
+        return Result.ok(mapping.apply(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> DoubleResult<F> mapErr(Function<E, F> mapping) {
+        return (DoubleOk<F>) this;
+    }
+
+    @Override
+    public DoubleResult<E> and(DoubleResult<E> result) {
+        return result;
+    }
+
+    @Override
+    public DoubleResult<E> andThen(DoubleFunction<DoubleResult<E>> resultFn) {
+        return resultFn.apply(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> DoubleResult<F> or(DoubleResult<F> result) {
+        // see Ok#or for why this cast is safe
+        return (DoubleOk<F>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> DoubleResult<F> orElse(Function<E, DoubleResult<F>> resultFn) {
+        return (DoubleOk<F>) this;
+    }
+
+    @Override
+    public Result<Double, E> boxed() {
+        return Result.ok(value);
+    }
+}
@@ -0,0 +1,225 @@
+package dev.kylesilver.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link Result} whose {@link DoubleOk Ok} value is a primitive {@code double}.
+ * Numeric pipelines such as counters, offsets and sums can be built out of
+ * these without boxing the value on every step. Every operation mirrors its
+ * counterpart on {@link Result}; conversions to and from the generic type are
+ * available through {@link #boxed()} and {@link Result#mapToDouble}.
+ * @param <E>
+ *      The type of an {@link DoubleErr Err} value, meaning that the operation has
+ *      failed with some kind of error.
+ * @see Result
+ */
+public interface DoubleResult<E> {
+
+    /**
+     * An <code>Ok</code> holding a primitive {@code double}.
+     * @param value
+     *      the output value of the fallible operation.
+     * @param <E>
+     *      the type of any errors that the fallible operation might produce.
+     * @return
+     *      an <code>Ok</code> result wrapping <code>value</code>.
+     * @see Result#ok(Object)
+     */
+    static <E> DoubleOk<E> ok(double value) {
+        return new DoubleOk<>(value);
+    }
+
+    /**
+     * An <code>Err</code> for an operation that would have produced a
+     * primitive {@code double}.
+     * @param e
+     *      the value of the error.
+     * @param <E>
+     *      the type of <code>e</code>.
+     * @return
+     *      an <code>Err</code> result wrapping <code>e</code>.
+     * @see Result#err(Object)
+     */
+    static <E> DoubleErr<E> err(@NotNull E e) {
+        return new DoubleErr<>(e);
+    }
+
+    /**
+     * @see Result#isOk()
+     */
+    boolean isOk();
+
+    /**
+     * @see Result#isErr()
+     */
+    boolean isErr();
+
+    /**
+     * Get the {@link DoubleOk Ok} value if it exists.
+     * @return the underlying value if the result is {@link DoubleOk Ok},
+     *      otherwise the value will be empty.
+     * @see Result#ok()
+     */
+    OptionalDouble ok();
+
+    /**
+     * Get the {@link DoubleErr Err} value if it exists.
+     * @return the underlying value if the result is an {@link DoubleErr Err},
+     *      otherwise the value will be empty.
+     * @see Result#err()
+     */
+    Optional<E> err();
+
+    /**
+     * Retrieve the {@link DoubleOk Ok} value or throw an exception if the result
+     * is an {@link DoubleErr Err}.
+     * @return
+     *      the unboxed value.
+     * @throws UnwrapException
+     *      if the result is not {@link DoubleOk Ok}.
+     * @see Result#unwrap()
+     */
+    double unwrapAsDouble() throws UnwrapException;
+
+    /**
+     * @see Result#unwrapErr()
+     */
+    E unwrapErr() throws UnwrapException;
+
+    /**
+     * @see Result#expect(String)
+     */
+    double expect(String errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expect(Supplier)
+     */
+    double expect(Supplier<String> errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expect(Function)
+     */
+    <F extends Throwable> double expect(Function<E, F> mapping) throws F;
+
+    /**
+     * @see Result#expectErr(String)
+     */
+    E expectErr(String errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expectErr(Supplier)
+     */
+    E expectErr(Supplier<String> errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expectErr(Function)
+     */
+    <F extends Throwable> E expectErr(DoubleFunction<F> mapping) throws F;
+
+    /**
+     * @see Result#orElse(Object)
+     */
+    double orElse(double other);
+
+    /**
+     * @see Result#orElseGet(Function)
+     */
+    double orElseGet(ToDoubleFunction<E> fallback);
+
+    /**
+     * @see Result#ifOk(Consumer)
+     */
+    void ifOk(DoubleConsumer action);
+
+    /**
+     * @see Result#ifErr(Consumer)
+     */
+    void ifErr(Consumer<E> action);
+
+    /**
+     * @see Result#match(Function, Function)
+     */
+    <U> U match(DoubleFunction<U> ifOk, Function<E, U> ifErr);
+
+    /**
+     * @see Result#match(Consumer, Consumer)
+     */
+    void match(DoubleConsumer ifOk, Consumer<E> ifErr);
+
+    /**
+     * Apply a transformation to the wrapped value if the result is
+     * {@link DoubleOk Ok}, without boxing it.
+     * @param mapping
+     *      the transformation to apply to the wrapped value.
+     * @return
+     *      a new result containing either the transformed value or the
+     *      original error.
+     * @see Result#map(Function)
+     */
+    DoubleResult<E> map(DoubleUnaryOperator mapping);
+
+    /**
+     * Apply a transformation that widens or narrows the wrapped value to a
+     * primitive {@code int}.
+     * @see #map(DoubleUnaryOperator)
+     */
+    IntResult<E> mapToInt(DoubleToIntFunction mapping);
+
+    /**
+     * Apply a transformation that widens or narrows the wrapped value to a
+     * primitive {@code long}.
+     * @see #map(DoubleUnaryOperator)
+     */
+    LongResult<E> mapToLong(DoubleToLongFunction mapping);
+
+    /**
+     * Apply a transformation that turns the wrapped value into an object,
+     * leaving the primitive specialization.
+     * @see #map(DoubleUnaryOperator)
+     */
+    <U> Result<U, E> mapToObj(DoubleFunction<U> mapping);
+
+    /**
+     * @see Result#mapErr(Function)
+     */
+    <F> DoubleResult<F> mapErr(Function<E, F> mapping);
+
+    /**
+     * @see Result#and(Result)
+     */
+    DoubleResult<E> and(DoubleResult<E> result);
+
+    /**
+     * @see Result#andThen(Function)
+     */
+    DoubleResult<E> andThen(DoubleFunction<DoubleResult<E>> resultFn);
+
+    /**
+     * @see Result#or(Result)
+     */
+    <F> DoubleResult<F> or(DoubleResult<F> result);
+
+    /**
+     * @see Result#orElse(Function)
+     */
+    <F> DoubleResult<F> orElse(Function<E, DoubleResult<F>> resultFn);
+
+    /**
+     * Convert to a generic {@link Result}, boxing the value if there is one.
+     * @return
+     *      an equivalent {@code Result<Double, E>}.
+     */
+    Result<Double, E> boxed();
+}
@@ -4,9 +4,14 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Indicates that an operation has failed.
@@ -18,11 +23,37 @@ import java.util.function.Function;
  */
 @ToString
 @EqualsAndHashCode
-public class Err<T, E> implements Result<T, E> {
+public final class Err<T, E> implements Result<T, E> {
     private final E e;
+    // what was being done when the error occurred; see `context`
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ErrorContext context;
 
     public Err(@NotNull E e) {
+        this(e, true);
+    }
+
+    // canonical instances are built without an event; Result.err records one
+    // each time it hands them out instead
+    Err(E e, boolean recordCreation) {
+        this.e = e;
+        this.context = null;
+        if (recordCreation) {
+            ResultEvents.errCreated(e);
+        }
+    }
+
+    // the same error with different context is not a new error, so no event
+    // is recorded
+    Err(E e, ErrorContext context) {
         this.e = e;
+        this.context = context;
+    }
+
+    // the frames attached by `context`, or null if there are none
+    ErrorContext errorContext() {
+        return context;
     }
 
     @Override
@@ -45,9 +76,46 @@ public class Err<T, E> implements Result<T, E> {
         return Optional.of(e);
     }
 
+    /**
+     * @return
+     *      the messages of the context frames attached to this error,
+     *      outermost first.
+     * @see Result#context(String)
+     */
+    public List<String> contextMessages() {
+        return ErrorContext.messages(context);
+    }
+
+    @Override
+    public Result<T, E> context(String message) {
+        return new Err<>(e, ErrorContext.of(message, context));
+    }
+
+    @Override
+    public Result<T, E> context(String format, Object arg) {
+        return new Err<>(e, ErrorContext.of(format, arg, context));
+    }
+
+    @Override
+    public Result<T, E> context(String format, Object arg1, Object arg2) {
+        return new Err<>(e, ErrorContext.of(format, arg1, arg2, context));
+    }
+
+    @Override
+    public Result<T, E> context(Supplier<String> message) {
+        return new Err<>(e, ErrorContext.of(message, context));
+    }
+
+    @Override
+    public Optional<String> report() {
+        return Optional.of(ErrorContext.report(context, e));
+    }
+
     @Override
     public T unwrap() throws UnwrapException {
-        throw new UnwrapException("The Result was expected to be Ok, but was instead an Error type with value " + e);
+        ResultEvents.unwrapFailed("unwrap", e);
+        throw new UnwrapException(() -> withContext(
+                "The Result was expected to be Ok, but was instead an Error type with value " + e));
     }
 
     @Override
@@ -57,11 +125,29 @@ public class Err<T, E> implements Result<T, E> {
 
     @Override
     public T expect(String errorMessage) throws UnwrapException {
-        throw new UnwrapException(errorMessage);
+        ResultEvents.unwrapFailed("expect", e);
+        if (context == null) {
+            throw new UnwrapException(errorMessage);
+        }
+        throw new UnwrapException(() -> withContext(errorMessage));
+    }
+
+    @Override
+    public T expect(Supplier<String> errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expect", e);
+        if (context == null) {
+            throw new UnwrapException(errorMessage);
+        }
+        throw new UnwrapException(() -> withContext(errorMessage.get()));
+    }
+
+    private String withContext(String message) {
+        return context == null ? message : ErrorContext.withContext(message, context);
     }
 
     @Override
     public <F extends Throwable> T expect(Function<E, F> mapping) throws F {
+        ResultEvents.unwrapFailed("expect", e);
         throw mapping.apply(e);
     }
 
@@ -70,11 +156,45 @@ public class Err<T, E> implements Result<T, E> {
         return e;
     }
 
+    @Override
+    public E expectErr(Supplier<String> errorMessage) {
+        return e;
+    }
+
     @Override
     public <F extends Throwable> E expectErr(Function<T, F> mapping) {
         return e;
     }
 
+    @Override
+    public T getOrNull() {
+        return null;
+    }
+
+    @Override
+    public E getErrOrNull() {
+        return e;
+    }
+
+    @Override
+    public T orElse(T other) {
+        return other;
+    }
+
+    @Override
+    public T orElseGet(Function<E, T> fallback) {
+        return fallback.apply(e);
+    }
+
+    @Override
+    public void ifOk(Consumer<T> action) {
+    }
+
+    @Override
+    public void ifErr(Consumer<E> action) {
+        action.accept(e);
+    }
+
     @Override
     public <U> U match(Function<T, U> ifOk, Function<E, U> ifErr) {
         return ifErr.apply(e);
@@ -86,13 +206,38 @@ public class Err<T, E> implements Result<T, E> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <U> Result<U, E> map(Function<T, U> mapping) {
-        return Result.err(e);
+        // there is no `T t` in this class, so the value type can be changed
+        // through a cast without allocating a new `Err<U, E>`
+        return (Err<U, E>) this;
     }
 
     @Override
     public <F> Result<T, F> mapErr(Function<E, F> mapping) {
-        return Result.err(mapping.apply(e));
+        F mapped = mapping.apply(e);
+        if (context == null) {
+            return Result.err(mapped);
+        }
+        // the context describes where the error happened, which a new
+        // representation of it does not change
+        ResultEvents.errCreated(mapped);
+        return new Err<>(mapped, context);
+    }
+
+    @Override
+    public IntResult<E> mapToInt(ToIntFunction<T> mapping) {
+        return IntResult.err(e);
+    }
+
+    @Override
+    public LongResult<E> mapToLong(ToLongFunction<T> mapping) {
+        return LongResult.err(e);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(ToDoubleFunction<T> mapping) {
+        return DoubleResult.err(e);
     }
 
     @Override
@@ -107,6 +252,41 @@ public class Err<T, E> implements Result<T, E> {
         return (Err<U, E>) this;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Result<U, E> tryMap(CheckedFunction<T, U, ? extends Throwable> mapping, Class<? extends E> cls) {
+        return (Err<U, E>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A, U> Result<U, E> tryMap(
+            A arg,
+            CheckedBiFunction<T, A, U, ? extends Throwable> mapping,
+            Class<? extends E> cls
+    ) {
+        return (Err<U, E>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Result<U, E> tryAndThen(
+            CheckedFunction<T, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        return (Err<U, E>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A, U> Result<U, E> tryAndThen(
+            A arg,
+            CheckedBiFunction<T, A, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        return (Err<U, E>) this;
+    }
+
     @Override
     public <F> Result<T, F> or(Result<T, F> result) {
         return result;
@@ -0,0 +1,111 @@
+package dev.kylesilver.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * One frame of the context attached to an {@link Err} by
+ * {@link Result#context(String) context}. Frames form a persistent linked
+ * list with the most recently added frame at the head, so attaching one
+ * allocates a single node and never copies or mutates the frames already
+ * shared by other results. Messages are kept as a format and its arguments,
+ * and only rendered when a report is requested.
+ */
+final class ErrorContext {
+    private final String format;
+    private final Object first;
+    private final Object second;
+    private final int arguments;
+    private final Supplier<String> supplier;
+    private final ErrorContext next;
+
+    private ErrorContext(
+            String format,
+            Object first,
+            Object second,
+            int arguments,
+            Supplier<String> supplier,
+            ErrorContext next
+    ) {
+        this.format = format;
+        this.first = first;
+        this.second = second;
+        this.arguments = arguments;
+        this.supplier = supplier;
+        this.next = next;
+    }
+
+    static ErrorContext of(String message, ErrorContext next) {
+        return new ErrorContext(message, null, null, 0, null, next);
+    }
+
+    static ErrorContext of(String format, Object arg, ErrorContext next) {
+        return new ErrorContext(format, arg, null, 1, null, next);
+    }
+
+    static ErrorContext of(String format, Object arg1, Object arg2, ErrorContext next) {
+        return new ErrorContext(format, arg1, arg2, 2, null, next);
+    }
+
+    static ErrorContext of(Supplier<String> message, ErrorContext next) {
+        return new ErrorContext(null, null, null, 0, message, next);
+    }
+
+    private String render() {
+        if (supplier != null) {
+            return supplier.get();
+        }
+        switch (arguments) {
+            case 1:
+                return String.format(format, first);
+            case 2:
+                return String.format(format, first, second);
+            default:
+                return format;
+        }
+    }
+
+    /**
+     * @return
+     *      the rendered messages of <code>context</code> and the frames after
+     *      it, outermost first.
+     */
+    static List<String> messages(ErrorContext context) {
+        if (context == null) {
+            return Collections.emptyList();
+        }
+        List<String> messages = new ArrayList<>();
+        for (ErrorContext frame = context; frame != null; frame = frame.next) {
+            messages.add(frame.render());
+        }
+        return Collections.unmodifiableList(messages);
+    }
+
+    /**
+     * @return
+     *      the messages of the frames, outermost first, each followed by what
+     *      caused it and ending with the error itself.
+     */
+    static String report(ErrorContext context, Object error) {
+        StringBuilder report = new StringBuilder();
+        for (ErrorContext frame = context; frame != null; frame = frame.next) {
+            report.append(frame.render()).append("\ncaused by: ");
+        }
+        return report.append(error).toString();
+    }
+
+    /**
+     * @return
+     *      <code>message</code> followed by the context of the error, for the
+     *      message of an {@link UnwrapException}.
+     */
+    static String withContext(String message, ErrorContext context) {
+        StringBuilder rendered = new StringBuilder(message).append("\ncontext:");
+        for (ErrorContext frame = context; frame != null; frame = frame.next) {
+            rendered.append("\n    ").append(frame.render());
+        }
+        return rendered.toString();
+    }
+}
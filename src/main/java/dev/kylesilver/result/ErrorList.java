@@ -0,0 +1,136 @@
+package dev.kylesilver.result;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The immutable, append-only list of errors held by an invalid
+ * {@link Validated}.
+ * <p>
+ * Each list is a view of the first <code>size</code> slots of a shared
+ * {@link Buffer}. Appending to the view that ends where the buffer ends claims
+ * the next slots with a single CAS and writes into them in place; the
+ * original view still sees only its own elements, so both stay immutable.
+ * Only appending to an older view, whose buffer has since been extended by
+ * someone else, copies its elements into a fresh buffer.
+ * <p>
+ * Buffers are chunked: chunk <code>c</code> holds <code>4 &lt;&lt; c</code>
+ * slots and the chunk directory is allocated at full size up front, so
+ * growing never copies existing elements.
+ */
+final class ErrorList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int FIRST_CHUNK_BITS = 2;
+    // enough chunks for Integer.MAX_VALUE elements
+    private static final int MAX_CHUNKS = 30;
+
+    private static final ErrorList<?> EMPTY = new ErrorList<>(null, 0);
+
+    private final Buffer buffer;
+    private final int size;
+
+    private ErrorList(Buffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ErrorList<E> empty() {
+        return (ErrorList<E>) EMPTY;
+    }
+
+    static <E> ErrorList<E> of(E error) {
+        return ErrorList.<E>empty().append(error);
+    }
+
+    ErrorList<E> append(E error) {
+        Buffer target = claim(1);
+        target.set(size, error);
+        return new ErrorList<>(target, size + 1);
+    }
+
+    ErrorList<E> appendAll(ErrorList<E> errors) {
+        if (errors.size == 0) {
+            return this;
+        }
+        if (size == 0) {
+            return errors;
+        }
+        Buffer target = claim(errors.size);
+        for (int i = 0; i < errors.size; i++) {
+            target.set(size + i, errors.buffer.get(i));
+        }
+        return new ErrorList<>(target, size + errors.size);
+    }
+
+    /**
+     * Reserve <code>count</code> slots after the end of this view, in this
+     * view's buffer if it can be extended and in a copy otherwise.
+     */
+    private Buffer claim(int count) {
+        if (size > Integer.MAX_VALUE - count) {
+            throw new IllegalStateException("too many errors");
+        }
+        if (buffer != null && buffer.claimed.compareAndSet(size, size + count)) {
+            buffer.ensureCapacity(size + count);
+            return buffer;
+        }
+        Buffer copy = new Buffer();
+        copy.claimed.set(size + count);
+        copy.ensureCapacity(size + count);
+        for (int i = 0; i < size; i++) {
+            copy.set(i, buffer.get(i));
+        }
+        return copy;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) buffer.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static final class Buffer {
+        private final Object[][] chunks = new Object[MAX_CHUNKS][];
+        // slots handed out so far, to whichever view claimed them
+        private final AtomicInteger claimed = new AtomicInteger();
+
+        private static int chunk(int index) {
+            // index + 4 lies in [4 << c, 8 << c) for the chunk c holding it
+            return 31 - Integer.numberOfLeadingZeros(index + (1 << FIRST_CHUNK_BITS)) - FIRST_CHUNK_BITS;
+        }
+
+        private static int offset(int index, int chunk) {
+            return index + (1 << FIRST_CHUNK_BITS) - ((1 << FIRST_CHUNK_BITS) << chunk);
+        }
+
+        // only the view that claimed slots up to `capacity` calls this, so no
+        // two threads ever allocate the same chunk
+        private void ensureCapacity(int capacity) {
+            for (int c = 0; c <= chunk(capacity - 1); c++) {
+                if (chunks[c] == null) {
+                    chunks[c] = new Object[(1 << FIRST_CHUNK_BITS) << c];
+                }
+            }
+        }
+
+        private Object get(int index) {
+            int c = chunk(index);
+            return chunks[c][offset(index, c)];
+        }
+
+        private void set(int index, Object value) {
+            int c = chunk(index);
+            chunks[c][offset(index, c)] = value;
+        }
+    }
+}
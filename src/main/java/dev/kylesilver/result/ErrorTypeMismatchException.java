@@ -1,9 +1,12 @@
 package dev.kylesilver.result;
 
+import java.util.List;
+
 /**
  * This exception is thrown when the {@link Result#tryOr Result.tryOr} function is unable to
  * cast a caught exception from the caller-provided {@link CheckedSupplier} into
- * the desired error type. The existence of this class violates the principle of
+ * the desired error type, or when none of the rules of an
+ * {@link ExceptionMatcher} accept it. The existence of this class violates the principle of
  * least-surprise insofar as it is unchecked and can blow up during runtime,
  * which runs a bit counter to the idea that the {@link Result} class wraps and
  * simplifies error handling. Unfortunately the existence of unchecked
@@ -12,16 +15,43 @@ package dev.kylesilver.result;
  * encountering this exception is to pass {@link Throwable} as the expected type
  * to {@link Result#tryOr}, a move that would make any wrapped exceptions so
  * opaque that they would be practically meaningless.
+ * <p>
+ * The message is rendered on first access, and whether a stack trace is
+ * captured is decided by the current {@link StackTracePolicy}.
  */
 public class ErrorTypeMismatchException extends RuntimeException {
+    private final List<Class<? extends Throwable>> expected;
+    private String message;
+
     public ErrorTypeMismatchException(Class<? extends Throwable> expected, Throwable actual) {
-        super(errorMessage(expected, actual), actual);
+        this(List.of(expected), actual);
+    }
+
+    public ErrorTypeMismatchException(List<Class<? extends Throwable>> expected, Throwable actual) {
+        super(null, actual);
+        this.expected = expected;
+        ResultEvents.errorTypeMismatch(expected.size() == 1 ? expected.get(0) : expected, actual);
+    }
+
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null) {
+            rendered = errorMessage(expected, getCause());
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTracePolicy.captureStackTrace() ? super.fillInStackTrace() : this;
     }
 
-    private static String errorMessage(Class<? extends Throwable> expected, Throwable actual) {
+    private static String errorMessage(List<Class<? extends Throwable>> expected, Throwable actual) {
         return String.format(
                 "Expected an exception which could be cast to %s but instead caught an exception with type %s",
-                expected,
+                expected.size() == 1 ? expected.get(0) : "one of " + expected,
                 actual.getClass()
         );
     }
@@ -0,0 +1,180 @@
+package dev.kylesilver.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Converts exceptions thrown inside {@link Result#tryOr(CheckedSupplier,
+ * ExceptionMatcher)} into error values. A matcher is a list of rules, each of
+ * which pairs an exception class with a handler; a thrown exception is handed
+ * to the first rule whose class it is an instance of.
+ * <pre>{@code
+ * private static final ExceptionMatcher<LoadError> LOAD_ERRORS = ExceptionMatcher.<LoadError>builder()
+ *     .on(NoSuchFileException.class, e -> LoadError.MISSING)
+ *     .on(IOException.class, LoadError::io)
+ *     .build();
+ *
+ * Result<Config, LoadError> config = Result.tryOr(() -> readConfig(path), LOAD_ERRORS);
+ * }</pre>
+ * The rule that applies to a given exception class is resolved once and then
+ * cached for the lifetime of the matcher, so matchers are meant to be built
+ * once and stored in a constant. After the first failure of each type, the
+ * error path costs a single lookup.
+ * @param <E>
+ *      The type of the error produced from a matched exception. Unlike the
+ *      single-class {@link Result#tryOr(CheckedSupplier, Class) tryOr}, this
+ *      does not need to be a {@link Throwable}.
+ */
+public final class ExceptionMatcher<E> {
+
+    // exception classes which no rule accepts are cached as this sentinel
+    private static final Function<Throwable, ?> NO_MATCH = thrown -> null;
+
+    private final List<Class<? extends Throwable>> classes;
+    private final ClassValue<Function<Throwable, E>> handlers;
+
+    private ExceptionMatcher(
+            List<Class<? extends Throwable>> classes,
+            List<Predicate<Class<?>>> accepts,
+            List<Function<Throwable, E>> rules
+    ) {
+        this.classes = classes;
+        this.handlers = new ClassValue<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected Function<Throwable, E> computeValue(Class<?> type) {
+                for (int i = 0; i < accepts.size(); i++) {
+                    if (accepts.get(i).test(type)) {
+                        return rules.get(i);
+                    }
+                }
+                return (Function<Throwable, E>) NO_MATCH;
+            }
+        };
+    }
+
+    /**
+     * A matcher which accepts any exception that is an instance of one of the
+     * given classes and uses the exception itself as the error value.
+     * @param classes
+     *      the exception classes to accept.
+     * @param <E>
+     *      the closest common supertype of the provided classes.
+     * @return
+     *      a new matcher.
+     */
+    @SafeVarargs
+    public static <E extends Throwable> ExceptionMatcher<E> of(Class<? extends E>... classes) {
+        Builder<E> builder = builder();
+        for (Class<? extends E> cls : classes) {
+            builder.accept(cls);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Start building a matcher which converts exceptions into error values of
+     * type <code>E</code>.
+     * @param <E>
+     *      the type of the error values.
+     * @return
+     *      an empty builder.
+     */
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return
+     *      the exception classes accepted by this matcher, in the order in
+     *      which they are tried.
+     */
+    public List<Class<? extends Throwable>> classes() {
+        return classes;
+    }
+
+    /**
+     * Convert a caught exception into an error value.
+     * @throws ErrorTypeMismatchException
+     *      if no rule accepts the exception.
+     */
+    E match(Throwable thrown) {
+        Function<Throwable, E> handler = handlers.get(thrown.getClass());
+        if (handler == NO_MATCH) {
+            throw new ErrorTypeMismatchException(classes, thrown);
+        }
+        return handler.apply(thrown);
+    }
+
+    /**
+     * Accumulates the rules of an {@link ExceptionMatcher}. Rules are tried in
+     * the order they were added, so more specific exception classes should
+     * come before their supertypes.
+     * @param <E>
+     *      the type of the error values.
+     */
+    public static final class Builder<E> {
+        private final List<Class<? extends Throwable>> classes = new ArrayList<>();
+        private final List<Predicate<Class<?>>> accepts = new ArrayList<>();
+        private final List<Function<Throwable, E>> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Accept exceptions of the given class and convert them with
+         * <code>handler</code>.
+         * @param cls
+         *      the exception class to accept, including its subclasses.
+         * @param handler
+         *      converts the caught exception into an error value.
+         * @param <X>
+         *      the type of the accepted exception.
+         * @return
+         *      this builder.
+         */
+        @SuppressWarnings("unchecked")
+        public <X extends Throwable> Builder<E> on(Class<X> cls, Function<X, E> handler) {
+            // the handler is only ever invoked with instances of `cls`
+            return rule(cls, cls::isAssignableFrom, (Function<Throwable, E>) handler);
+        }
+
+        /**
+         * Accept exceptions of the given class and use them as the error value
+         * as-is.
+         * @param cls
+         *      the exception class to accept, including its subclasses.
+         * @return
+         *      this builder.
+         */
+        @SuppressWarnings("unchecked")
+        public Builder<E> accept(Class<? extends E> cls) {
+            if (!Throwable.class.isAssignableFrom(cls)) {
+                throw new IllegalArgumentException(cls + " is not an exception type");
+            }
+            return rule((Class<? extends Throwable>) cls, cls::isAssignableFrom, thrown -> (E) thrown);
+        }
+
+        /**
+         * Add a rule whose handler is used for the exception classes
+         * <code>accepts</code> holds for. <code>cls</code> only describes the
+         * rule in the message of an {@link ErrorTypeMismatchException}.
+         */
+        Builder<E> rule(Class<? extends Throwable> cls, Predicate<Class<?>> accepts, Function<Throwable, E> handler) {
+            classes.add(cls);
+            this.accepts.add(accepts);
+            rules.add(handler);
+            return this;
+        }
+
+        /**
+         * @return
+         *      an immutable matcher containing the rules added so far.
+         */
+        public ExceptionMatcher<E> build() {
+            return new ExceptionMatcher<>(List.copyOf(classes), List.copyOf(accepts), List.copyOf(rules));
+        }
+    }
+}
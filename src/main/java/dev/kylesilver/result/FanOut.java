@@ -0,0 +1,125 @@
+package dev.kylesilver.result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+/**
+ * Implementation of {@link Results#allOf} and {@link Results#anyOf}. Every
+ * supplier is submitted up front and outcomes are handled in the order they
+ * complete, so a decisive outcome is acted on as soon as it is available
+ * rather than after every supplier listed before it.
+ */
+final class FanOut {
+
+    private FanOut() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, E extends Throwable> Result<List<T>, E> allOf(
+            List<CheckedSupplier<T, E>> suppliers,
+            Class<E> cls,
+            Executor executor
+    ) throws InterruptedException {
+        Object[] values = new Object[suppliers.size()];
+        CompletionService<Outcome<T, E>> completions = new ExecutorCompletionService<>(executor);
+        List<Future<Outcome<T, E>>> futures = new ArrayList<>(suppliers.size());
+        try {
+            submit(suppliers, cls, completions, futures);
+            for (int remaining = suppliers.size(); remaining > 0; remaining--) {
+                Outcome<T, E> outcome = await(completions.take());
+                if (outcome.result.isErr()) {
+                    // an Err holds no `T`, so it can be passed along as any value type
+                    return (Result<List<T>, E>) (Result<?, E>) outcome.result;
+                }
+                values[outcome.index] = outcome.result.getOrNull();
+            }
+            return Result.ok((List<T>) Arrays.asList(values));
+        } finally {
+            cancel(futures);
+        }
+    }
+
+    static <T, E extends Throwable> Result<T, E> anyOf(
+            List<CheckedSupplier<T, E>> suppliers,
+            Class<E> cls,
+            Executor executor
+    ) throws InterruptedException {
+        if (suppliers.isEmpty()) {
+            throw new IllegalArgumentException("anyOf requires at least one supplier");
+        }
+        CompletionService<Outcome<T, E>> completions = new ExecutorCompletionService<>(executor);
+        List<Future<Outcome<T, E>>> futures = new ArrayList<>(suppliers.size());
+        try {
+            submit(suppliers, cls, completions, futures);
+            Outcome<T, E> earliest = null;
+            for (int remaining = suppliers.size(); remaining > 0; remaining--) {
+                Outcome<T, E> outcome = await(completions.take());
+                if (outcome.result.isOk()) {
+                    return outcome.result;
+                }
+                // report the error of the first supplier in the list, not the
+                // first to fail, so that the outcome does not depend on timing
+                if (earliest == null || outcome.index < earliest.index) {
+                    earliest = outcome;
+                }
+            }
+            return earliest.result;
+        } finally {
+            cancel(futures);
+        }
+    }
+
+    private static <T, E extends Throwable> void submit(
+            List<CheckedSupplier<T, E>> suppliers,
+            Class<E> cls,
+            CompletionService<Outcome<T, E>> completions,
+            List<Future<Outcome<T, E>>> futures
+    ) {
+        for (int i = 0; i < suppliers.size(); i++) {
+            int index = i;
+            CheckedSupplier<T, E> supplier = suppliers.get(i);
+            futures.add(completions.submit(() -> new Outcome<>(index, Result.tryOr(supplier, cls))));
+        }
+    }
+
+    private static <T, E> Outcome<T, E> await(Future<Outcome<T, E>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // suppliers can only escape `tryOr` with unchecked exceptions, such
+            // as an ErrorTypeMismatchException, so rethrow them unchanged
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        // a no-op for futures that have already completed
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static final class Outcome<T, E> {
+        private final int index;
+        private final Result<T, E> result;
+
+        private Outcome(int index, Result<T, E> result) {
+            this.index = index;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.kylesilver.result;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The default executor for {@link Results#allOf(List, Class)} and
+ * {@link Results#anyOf(List, Class)}. On Java 21 and later this class is
+ * replaced by the version in <code>META-INF/versions/21</code>, which runs
+ * each supplier on its own virtual thread.
+ */
+final class FanOutExecutor {
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    // platform threads are too expensive to start per supplier, so they are
+    // pooled; idle threads are reclaimed after a minute
+    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "result-fan-out-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FanOutExecutor() {
+    }
+}
@@ -0,0 +1,141 @@
+package dev.kylesilver.result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Flight Recorder events of this library. All of them are disabled by
+ * default and record no stack trace; both can be changed per event in a
+ * <code>.jfc</code> file or through
+ * {@link jdk.jfr.Recording#enable(String)}:
+ * <pre>{@code
+ * recording.enable("dev.kylesilver.result.ErrCreated").withStackTrace();
+ * }</pre>
+ * Only {@link ResultEvents} refers to this class.
+ */
+final class FlightRecorderEvents {
+    private static final EventType ERR_CREATED = EventType.getEventType(ErrCreated.class);
+    private static final EventType UNWRAP_FAILED = EventType.getEventType(UnwrapFailed.class);
+    private static final EventType ERROR_TYPE_MISMATCH = EventType.getEventType(ErrorTypeMismatch.class);
+    private static final EventType TRY_OR = EventType.getEventType(TryOr.class);
+
+    private FlightRecorderEvents() {
+    }
+
+    @Name("dev.kylesilver.result.ErrCreated")
+    @Label("Err Created")
+    @Description("An Err was constructed")
+    @Category("Result")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class ErrCreated extends Event {
+        @Label("Error Class")
+        Class<?> errorClass;
+    }
+
+    @Name("dev.kylesilver.result.UnwrapFailed")
+    @Label("Unwrap Failed")
+    @Description("A Result was unwrapped or expected to hold the other variant")
+    @Category("Result")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class UnwrapFailed extends Event {
+        @Label("Method")
+        String method;
+
+        @Label("Contents Class")
+        @Description("The class of the value or error the Result actually held")
+        Class<?> contentsClass;
+    }
+
+    @Name("dev.kylesilver.result.ErrorTypeMismatch")
+    @Label("Error Type Mismatch")
+    @Description("tryOr caught an exception it was not asked to handle")
+    @Category("Result")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class ErrorTypeMismatch extends Event {
+        @Label("Expected")
+        String expected;
+
+        @Label("Actual Class")
+        Class<?> actualClass;
+    }
+
+    @Name("dev.kylesilver.result.TryOr")
+    @Label("tryOr")
+    @Description("A fallible operation run by Result.tryOr")
+    @Category("Result")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class TryOr extends Event {
+        @Label("Ok")
+        boolean ok;
+
+        @Label("Error Class")
+        @Description("The class of the caught exception or error value, if the operation failed")
+        Class<?> errorClass;
+    }
+
+    static void errCreated(Object error) {
+        if (ERR_CREATED.isEnabled()) {
+            ErrCreated event = new ErrCreated();
+            event.errorClass = error.getClass();
+            event.commit();
+        }
+    }
+
+    static void unwrapFailed(String method, Object contents) {
+        if (UNWRAP_FAILED.isEnabled()) {
+            UnwrapFailed event = new UnwrapFailed();
+            event.method = method;
+            event.contentsClass = contents.getClass();
+            event.commit();
+        }
+    }
+
+    static void errorTypeMismatch(Object expected, Throwable actual) {
+        if (ERROR_TYPE_MISMATCH.isEnabled()) {
+            ErrorTypeMismatch event = new ErrorTypeMismatch();
+            event.expected = String.valueOf(expected);
+            event.actualClass = actual.getClass();
+            event.commit();
+        }
+    }
+
+    static Object beginTryOr() {
+        if (!TRY_OR.isEnabled()) {
+            return null;
+        }
+        TryOr event = new TryOr();
+        event.begin();
+        return event;
+    }
+
+    static void endTryOr(Object token, Result<?, ?> result) {
+        TryOr event = (TryOr) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.ok = result.isOk();
+            if (!event.ok) {
+                result.ifErr(error -> event.errorClass = error.getClass());
+            }
+            event.commit();
+        }
+    }
+
+    static void endTryOr(Object token, Throwable escaped) {
+        TryOr event = (TryOr) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.errorClass = escaped.getClass();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Indicates that an operation which would have produced a primitive
+ * {@code int} has failed.
+ * @param <E>
+ *      The type of the value wrapped by this class.
+ */
+@ToString
+@EqualsAndHashCode
+public class IntErr<E> implements IntResult<E> {
+    private final E e;
+
+    public IntErr(@NotNull E e) {
+        this.e = e;
+        ResultEvents.errCreated(e);
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public OptionalInt ok() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.of(e);
+    }
+
+    @Override
+    public int unwrapAsInt() throws UnwrapException {
+        ResultEvents.unwrapFailed("unwrapAsInt", e);
+        throw new UnwrapException(() -> "The Result was expected to be Ok, but was instead an Error type with value " + e);
+    }
+
+    @Override
+    public E unwrapErr() {
+        return e;
+    }
+
+    @Override
+    public int expect(String errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expect", e);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public int expect(Supplier<String> errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expect", e);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public <F extends Throwable> int expect(Function<E, F> mapping) throws F {
+        ResultEvents.unwrapFailed("expect", e);
+        throw mapping.apply(e);
+    }
+
+    @Override
+    public E expectErr(String errorMessage) {
+        return e;
+    }
+
+    @Override
+    public E expectErr(Supplier<String> errorMessage) {
+        return e;
+    }
+
+    @Override
+    public <F extends Throwable> E expectErr(IntFunction<F> mapping) {
+        return e;
+    }
+
+    @Override
+    public int orElse(int other) {
+        return other;
+    }
+
+    @Override
+    public int orElseGet(ToIntFunction<E> fallback) {
+        return fallback.applyAsInt(e);
+    }
+
+    @Override
+    public void ifOk(IntConsumer action) {
+    }
+
+    @Override
+    public void ifErr(Consumer<E> action) {
+        action.accept(e);
+    }
+
+    @Override
+    public <U> U match(IntFunction<U> ifOk, Function<E, U> ifErr) {
+        return ifErr.apply(e);
+    }
+
+    @Override
+    public void match(IntConsumer ifOk, Consumer<E> ifErr) {
+        ifErr.accept(e);
+    }
+
+    @Override
+    public IntResult<E> map(IntUnaryOperator mapping) {
+        return this;
+    }
+
+    @Override
+    public LongResult<E> mapToLong(IntToLongFunction mapping) {
+        return LongResult.err(e);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(IntToDoubleFunction mapping) {
+        return DoubleResult.err(e);
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(IntFunction<U> mapping) {
+        return Result.err(e);
+    }
+
+    @Override
+    public <F> IntResult<F> mapErr(Function<E, F> mapping) {
+        return IntResult.err(mapping.apply(e));
+    }
+
+    @Override
+    public IntResult<E> and(IntResult<E> result) {
+        return this;
+    }
+
+    @Override
+    public IntResult<E> andThen(IntFunction<IntResult<E>> resultFn) {
+        return this;
+    }
+
+    @Override
+    public <F> IntResult<F> or(IntResult<F> result) {
+        return result;
+    }
+
+    @Override
+    public <F> IntResult<F> orElse(Function<E, IntResult<F>> resultFn) {
+        return resultFn.apply(e);
+    }
+
+    @Override
+    public Result<Integer, E> boxed() {
+        return Result.err(e);
+    }
+}
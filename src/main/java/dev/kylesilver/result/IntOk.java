@@ -0,0 +1,180 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Indicates that an operation producing a primitive {@code int} has been
+ * completed successfully.
+ * @param <E>
+ *      The type of an {@link IntErr} that could have (but in this case did
+ *      not) resulted from the parent operation.
+ */
+@ToString
+@EqualsAndHashCode
+public class IntOk<E> implements IntResult<E> {
+    private final int value;
+
+    public IntOk(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public OptionalInt ok() {
+        return OptionalInt.of(value);
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.empty();
+    }
+
+    @Override
+    public int unwrapAsInt() {
+        return value;
+    }
+
+    @Override
+    public E unwrapErr() throws UnwrapException {
+        ResultEvents.unwrapFailed("unwrapErr", value);
+        throw new UnwrapException(() -> "The Result was expected to be Err, but was instead Ok with value " + value);
+    }
+
+    @Override
+    public int expect(String errorMessage) {
+        return value;
+    }
+
+    @Override
+    public int expect(Supplier<String> errorMessage) {
+        return value;
+    }
+
+    @Override
+    public <F extends Throwable> int expect(Function<E, F> mapping) {
+        return value;
+    }
+
+    @Override
+    public E expectErr(String errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expectErr", value);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public E expectErr(Supplier<String> errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expectErr", value);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public <F extends Throwable> E expectErr(IntFunction<F> mapping) throws F {
+        ResultEvents.unwrapFailed("expectErr", value);
+        throw mapping.apply(value);
+    }
+
+    @Override
+    public int orElse(int other) {
+        return value;
+    }
+
+    @Override
+    public int orElseGet(ToIntFunction<E> fallback) {
+        return value;
+    }
+
+    @Override
+    public void ifOk(IntConsumer action) {
+        action.accept(value);
+    }
+
+    @Override
+    public void ifErr(Consumer<E> action) {
+    }
+
+    @Override
+    public <U> U match(IntFunction<U> ifOk, Function<E, U> ifErr) {
+        return ifOk.apply(value);
+    }
+
+    @Override
+    public void match(IntConsumer ifOk, Consumer<E> ifErr) {
+        ifOk.accept(value);
+    }
+
+    @Override
+    public IntResult<E> map(IntUnaryOperator mapping) {
+        return IntResult.ok(mapping.applyAsInt(value));
+    }
+
+    @Override
+    public LongResult<E> mapToLong(IntToLongFunction mapping) {
+        return LongResult.ok(mapping.applyAsLong(value));
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(IntToDoubleFunction mapping) {
+        return DoubleResult.ok(mapping.applyAsDouble(value));
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(IntFunction<U> mapping) {
+        return Result.ok(mapping.apply(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> IntResult<F> mapErr(Function<E, F> mapping) {
+        return (IntOk<F>) this;
+    }
+
+    @Override
+    public IntResult<E> and(IntResult<E> result) {
+        return result;
+    }
+
+    @Override
+    public IntResult<E> andThen(IntFunction<IntResult<E>> resultFn) {
+        return resultFn.apply(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> IntResult<F> or(IntResult<F> result) {
+        // see Ok#or for why this cast is safe
+        return (IntOk<F>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> IntResult<F> orElse(Function<E, IntResult<F>> resultFn) {
+        return (IntOk<F>) this;
+    }
+
+    @Override
+    public Result<Integer, E> boxed() {
+        return Result.ok(value);
+    }
+}
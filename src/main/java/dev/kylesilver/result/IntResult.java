@@ -0,0 +1,225 @@
+package dev.kylesilver.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link Result} whose {@link IntOk Ok} value is a primitive {@code int}.
+ * Numeric pipelines such as counters, offsets and sums can be built out of
+ * these without boxing the value on every step. Every operation mirrors its
+ * counterpart on {@link Result}; conversions to and from the generic type are
+ * available through {@link #boxed()} and {@link Result#mapToInt}.
+ * @param <E>
+ *      The type of an {@link IntErr Err} value, meaning that the operation has
+ *      failed with some kind of error.
+ * @see Result
+ */
+public interface IntResult<E> {
+
+    /**
+     * An <code>Ok</code> holding a primitive {@code int}.
+     * @param value
+     *      the output value of the fallible operation.
+     * @param <E>
+     *      the type of any errors that the fallible operation might produce.
+     * @return
+     *      an <code>Ok</code> result wrapping <code>value</code>.
+     * @see Result#ok(Object)
+     */
+    static <E> IntOk<E> ok(int value) {
+        return new IntOk<>(value);
+    }
+
+    /**
+     * An <code>Err</code> for an operation that would have produced a
+     * primitive {@code int}.
+     * @param e
+     *      the value of the error.
+     * @param <E>
+     *      the type of <code>e</code>.
+     * @return
+     *      an <code>Err</code> result wrapping <code>e</code>.
+     * @see Result#err(Object)
+     */
+    static <E> IntErr<E> err(@NotNull E e) {
+        return new IntErr<>(e);
+    }
+
+    /**
+     * @see Result#isOk()
+     */
+    boolean isOk();
+
+    /**
+     * @see Result#isErr()
+     */
+    boolean isErr();
+
+    /**
+     * Get the {@link IntOk Ok} value if it exists.
+     * @return the underlying value if the result is {@link IntOk Ok},
+     *      otherwise the value will be empty.
+     * @see Result#ok()
+     */
+    OptionalInt ok();
+
+    /**
+     * Get the {@link IntErr Err} value if it exists.
+     * @return the underlying value if the result is an {@link IntErr Err},
+     *      otherwise the value will be empty.
+     * @see Result#err()
+     */
+    Optional<E> err();
+
+    /**
+     * Retrieve the {@link IntOk Ok} value or throw an exception if the result
+     * is an {@link IntErr Err}.
+     * @return
+     *      the unboxed value.
+     * @throws UnwrapException
+     *      if the result is not {@link IntOk Ok}.
+     * @see Result#unwrap()
+     */
+    int unwrapAsInt() throws UnwrapException;
+
+    /**
+     * @see Result#unwrapErr()
+     */
+    E unwrapErr() throws UnwrapException;
+
+    /**
+     * @see Result#expect(String)
+     */
+    int expect(String errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expect(Supplier)
+     */
+    int expect(Supplier<String> errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expect(Function)
+     */
+    <F extends Throwable> int expect(Function<E, F> mapping) throws F;
+
+    /**
+     * @see Result#expectErr(String)
+     */
+    E expectErr(String errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expectErr(Supplier)
+     */
+    E expectErr(Supplier<String> errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expectErr(Function)
+     */
+    <F extends Throwable> E expectErr(IntFunction<F> mapping) throws F;
+
+    /**
+     * @see Result#orElse(Object)
+     */
+    int orElse(int other);
+
+    /**
+     * @see Result#orElseGet(Function)
+     */
+    int orElseGet(ToIntFunction<E> fallback);
+
+    /**
+     * @see Result#ifOk(Consumer)
+     */
+    void ifOk(IntConsumer action);
+
+    /**
+     * @see Result#ifErr(Consumer)
+     */
+    void ifErr(Consumer<E> action);
+
+    /**
+     * @see Result#match(Function, Function)
+     */
+    <U> U match(IntFunction<U> ifOk, Function<E, U> ifErr);
+
+    /**
+     * @see Result#match(Consumer, Consumer)
+     */
+    void match(IntConsumer ifOk, Consumer<E> ifErr);
+
+    /**
+     * Apply a transformation to the wrapped value if the result is
+     * {@link IntOk Ok}, without boxing it.
+     * @param mapping
+     *      the transformation to apply to the wrapped value.
+     * @return
+     *      a new result containing either the transformed value or the
+     *      original error.
+     * @see Result#map(Function)
+     */
+    IntResult<E> map(IntUnaryOperator mapping);
+
+    /**
+     * Apply a transformation that widens or narrows the wrapped value to a
+     * primitive {@code long}.
+     * @see #map(IntUnaryOperator)
+     */
+    LongResult<E> mapToLong(IntToLongFunction mapping);
+
+    /**
+     * Apply a transformation that widens or narrows the wrapped value to a
+     * primitive {@code double}.
+     * @see #map(IntUnaryOperator)
+     */
+    DoubleResult<E> mapToDouble(IntToDoubleFunction mapping);
+
+    /**
+     * Apply a transformation that turns the wrapped value into an object,
+     * leaving the primitive specialization.
+     * @see #map(IntUnaryOperator)
+     */
+    <U> Result<U, E> mapToObj(IntFunction<U> mapping);
+
+    /**
+     * @see Result#mapErr(Function)
+     */
+    <F> IntResult<F> mapErr(Function<E, F> mapping);
+
+    /**
+     * @see Result#and(Result)
+     */
+    IntResult<E> and(IntResult<E> result);
+
+    /**
+     * @see Result#andThen(Function)
+     */
+    IntResult<E> andThen(IntFunction<IntResult<E>> resultFn);
+
+    /**
+     * @see Result#or(Result)
+     */
+    <F> IntResult<F> or(IntResult<F> result);
+
+    /**
+     * @see Result#orElse(Function)
+     */
+    <F> IntResult<F> orElse(Function<E, IntResult<F>> resultFn);
+
+    /**
+     * Convert to a generic {@link Result}, boxing the value if there is one.
+     * @return
+     *      an equivalent {@code Result<Integer, E>}.
+     */
+    Result<Integer, E> boxed();
+}
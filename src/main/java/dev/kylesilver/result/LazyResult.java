@@ -0,0 +1,326 @@
+package dev.kylesilver.result;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link Result} which is not computed until it is first needed. The
+ * outcome, whether {@link Ok} or {@link Err}, is memoized, so the underlying
+ * operation runs at most once.
+ * <pre>{@code
+ * Result<Config, IOException> config = Result.tryOr(() -> readConfig(local), IOException.class)
+ *     .or(LazyResult.tryOr(() -> readConfig(shared), IOException.class));
+ * }</pre>
+ * In the example above the shared config is only read if the local one
+ * could not be.
+ * <p>
+ * {@link #map(Function) map}, {@link #mapErr(Function) mapErr},
+ * {@link #and(Result) and}, {@link #andThen(Function) andThen},
+ * {@link #tryMap(CheckedFunction, Class) tryMap},
+ * {@link #context(String) context},
+ * {@link #tryAndThen(CheckedFunction, Class) tryAndThen},
+ * {@link #or(Result) or} and {@link #orElse(Function) orElse} return new
+ * lazy results without evaluating this one. Every other method forces
+ * evaluation.
+ * <p>
+ * Evaluation is thread-safe. If several threads need the result at the same
+ * time, one of them evaluates it while the others wait; once it is available,
+ * reading it takes no lock. If the supplier throws, nothing is memoized and
+ * the next access will try again.
+ * <p>
+ * Lazy results compare by identity, since comparing their contents would force
+ * them.
+ * @param <T>
+ *      The type of the {@link Ok} value.
+ * @param <E>
+ *      The type of the {@link Err} value.
+ */
+public final class LazyResult<T, E> implements Result<T, E> {
+    // released once evaluated, along with everything the supplier captured
+    private Supplier<Result<T, E>> supplier;
+    private volatile Result<T, E> result;
+
+    private LazyResult(Supplier<Result<T, E>> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Defer a computation which produces a {@link Result}.
+     * @param supplier
+     *      produces the result on first access. It must not return
+     *      <code>null</code>.
+     * @return
+     *      an unevaluated lazy result.
+     */
+    public static <T, E> LazyResult<T, E> of(Supplier<Result<T, E>> supplier) {
+        return new LazyResult<>(Objects.requireNonNull(supplier));
+    }
+
+    /**
+     * Defer a fallible operation.
+     * @return
+     *      an unevaluated lazy result. On evaluation it behaves exactly like
+     *      the equivalent call to {@link Result#tryOr(CheckedSupplier, Class)}.
+     * @see Result#tryOr(CheckedSupplier, Class)
+     */
+    public static <T, E extends Throwable> LazyResult<T, E> tryOr(CheckedSupplier<T, E> supplier, Class<E> cls) {
+        return of(() -> Result.tryOr(supplier, cls));
+    }
+
+    /**
+     * Defer a fallible operation whose exceptions are converted by an
+     * {@link ExceptionMatcher}.
+     * @see Result#tryOr(CheckedSupplier, ExceptionMatcher)
+     */
+    public static <T, E> LazyResult<T, E> tryOr(CheckedSupplier<T, ? extends Throwable> supplier, ExceptionMatcher<E> matcher) {
+        return of(() -> Result.tryOr(supplier, matcher));
+    }
+
+    /**
+     * @return
+     *      <code>true</code> if the result has been computed. This never
+     *      forces evaluation.
+     */
+    public boolean isEvaluated() {
+        return result != null;
+    }
+
+    /**
+     * Evaluate the result if that has not happened yet.
+     * @return
+     *      the memoized {@link Ok} or {@link Err}.
+     */
+    public Result<T, E> get() {
+        Result<T, E> current = result;
+        return current != null ? current : evaluate();
+    }
+
+    private synchronized Result<T, E> evaluate() {
+        Result<T, E> current = result;
+        if (current == null) {
+            current = Objects.requireNonNull(supplier.get(), "LazyResult supplier returned null");
+            // store the plain result rather than a chain of lazy wrappers
+            if (current instanceof LazyResult) {
+                current = ((LazyResult<T, E>) current).get();
+            }
+            result = current;
+            supplier = null;
+        }
+        return current;
+    }
+
+    @Override
+    public boolean isOk() {
+        return get().isOk();
+    }
+
+    @Override
+    public boolean isErr() {
+        return get().isErr();
+    }
+
+    @Override
+    public Optional<T> ok() {
+        return get().ok();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return get().err();
+    }
+
+    @Override
+    public T unwrap() throws UnwrapException {
+        return get().unwrap();
+    }
+
+    @Override
+    public E unwrapErr() throws UnwrapException {
+        return get().unwrapErr();
+    }
+
+    @Override
+    public T expect(String errorMessage) throws UnwrapException {
+        return get().expect(errorMessage);
+    }
+
+    @Override
+    public T expect(Supplier<String> errorMessage) throws UnwrapException {
+        return get().expect(errorMessage);
+    }
+
+    @Override
+    public <F extends Throwable> T expect(Function<E, F> mapping) throws F {
+        return get().expect(mapping);
+    }
+
+    @Override
+    public E expectErr(String errorMessage) throws UnwrapException {
+        return get().expectErr(errorMessage);
+    }
+
+    @Override
+    public E expectErr(Supplier<String> errorMessage) throws UnwrapException {
+        return get().expectErr(errorMessage);
+    }
+
+    @Override
+    public <F extends Throwable> E expectErr(Function<T, F> mapping) throws F {
+        return get().expectErr(mapping);
+    }
+
+    @Override
+    public @Nullable T getOrNull() {
+        return get().getOrNull();
+    }
+
+    @Override
+    public @Nullable E getErrOrNull() {
+        return get().getErrOrNull();
+    }
+
+    @Override
+    public T orElse(T other) {
+        return get().orElse(other);
+    }
+
+    @Override
+    public T orElseGet(Function<E, T> fallback) {
+        return get().orElseGet(fallback);
+    }
+
+    @Override
+    public void ifOk(Consumer<T> action) {
+        get().ifOk(action);
+    }
+
+    @Override
+    public void ifErr(Consumer<E> action) {
+        get().ifErr(action);
+    }
+
+    @Override
+    public <U> U match(Function<T, U> ifOk, Function<E, U> ifErr) {
+        return get().match(ifOk, ifErr);
+    }
+
+    @Override
+    public void match(Consumer<T> ifOk, Consumer<E> ifErr) {
+        get().match(ifOk, ifErr);
+    }
+
+    @Override
+    public LazyResult<T, E> context(String message) {
+        return new LazyResult<>(() -> get().context(message));
+    }
+
+    @Override
+    public LazyResult<T, E> context(String format, Object arg) {
+        return new LazyResult<>(() -> get().context(format, arg));
+    }
+
+    @Override
+    public LazyResult<T, E> context(String format, Object arg1, Object arg2) {
+        return new LazyResult<>(() -> get().context(format, arg1, arg2));
+    }
+
+    @Override
+    public LazyResult<T, E> context(Supplier<String> message) {
+        return new LazyResult<>(() -> get().context(message));
+    }
+
+    @Override
+    public Optional<String> report() {
+        return get().report();
+    }
+
+    @Override
+    public <U> LazyResult<U, E> map(Function<T, U> mapping) {
+        return new LazyResult<>(() -> get().map(mapping));
+    }
+
+    @Override
+    public <F> LazyResult<T, F> mapErr(Function<E, F> mapping) {
+        return new LazyResult<>(() -> get().mapErr(mapping));
+    }
+
+    @Override
+    public IntResult<E> mapToInt(ToIntFunction<T> mapping) {
+        return get().mapToInt(mapping);
+    }
+
+    @Override
+    public LongResult<E> mapToLong(ToLongFunction<T> mapping) {
+        return get().mapToLong(mapping);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(ToDoubleFunction<T> mapping) {
+        return get().mapToDouble(mapping);
+    }
+
+    @Override
+    public <U> LazyResult<U, E> and(Result<U, E> other) {
+        return new LazyResult<>(() -> get().and(other));
+    }
+
+    @Override
+    public <U> LazyResult<U, E> andThen(Function<T, Result<U, E>> resultFn) {
+        return new LazyResult<>(() -> get().andThen(resultFn));
+    }
+
+    @Override
+    public <U> LazyResult<U, E> tryMap(CheckedFunction<T, U, ? extends Throwable> mapping, Class<? extends E> cls) {
+        return new LazyResult<>(() -> get().tryMap(mapping, cls));
+    }
+
+    @Override
+    public <A, U> LazyResult<U, E> tryMap(
+            A arg,
+            CheckedBiFunction<T, A, U, ? extends Throwable> mapping,
+            Class<? extends E> cls
+    ) {
+        return new LazyResult<>(() -> get().tryMap(arg, mapping, cls));
+    }
+
+    @Override
+    public <U> LazyResult<U, E> tryAndThen(
+            CheckedFunction<T, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        return new LazyResult<>(() -> get().tryAndThen(resultFn, cls));
+    }
+
+    @Override
+    public <A, U> LazyResult<U, E> tryAndThen(
+            A arg,
+            CheckedBiFunction<T, A, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        return new LazyResult<>(() -> get().tryAndThen(arg, resultFn, cls));
+    }
+
+    @Override
+    public <F> LazyResult<T, F> or(Result<T, F> other) {
+        return new LazyResult<>(() -> get().or(other));
+    }
+
+    @Override
+    public <F> LazyResult<T, F> orElse(Function<E, Result<T, F>> resultFn) {
+        return new LazyResult<>(() -> get().orElse(resultFn));
+    }
+
+    @Override
+    public String toString() {
+        Result<T, E> current = result;
+        return current != null ? "LazyResult(" + current + ")" : "LazyResult(<unevaluated>)";
+    }
+}
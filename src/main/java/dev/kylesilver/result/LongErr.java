@@ -0,0 +1,177 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Indicates that an operation which would have produced a primitive
+ * {@code long} has failed.
+ * @param <E>
+ *      The type of the value wrapped by this class.
+ */
+@ToString
+@EqualsAndHashCode
+public class LongErr<E> implements LongResult<E> {
+    private final E e;
+
+    public LongErr(@NotNull E e) {
+        this.e = e;
+        ResultEvents.errCreated(e);
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public OptionalLong ok() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.of(e);
+    }
+
+    @Override
+    public long unwrapAsLong() throws UnwrapException {
+        ResultEvents.unwrapFailed("unwrapAsLong", e);
+        throw new UnwrapException(() -> "The Result was expected to be Ok, but was instead an Error type with value " + e);
+    }
+
+    @Override
+    public E unwrapErr() {
+        return e;
+    }
+
+    @Override
+    public long expect(String errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expect", e);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public long expect(Supplier<String> errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expect", e);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public <F extends Throwable> long expect(Function<E, F> mapping) throws F {
+        ResultEvents.unwrapFailed("expect", e);
+        throw mapping.apply(e);
+    }
+
+    @Override
+    public E expectErr(String errorMessage) {
+        return e;
+    }
+
+    @Override
+    public E expectErr(Supplier<String> errorMessage) {
+        return e;
+    }
+
+    @Override
+    public <F extends Throwable> E expectErr(LongFunction<F> mapping) {
+        return e;
+    }
+
+    @Override
+    public long orElse(long other) {
+        return other;
+    }
+
+    @Override
+    public long orElseGet(ToLongFunction<E> fallback) {
+        return fallback.applyAsLong(e);
+    }
+
+    @Override
+    public void ifOk(LongConsumer action) {
+    }
+
+    @Override
+    public void ifErr(Consumer<E> action) {
+        action.accept(e);
+    }
+
+    @Override
+    public <U> U match(LongFunction<U> ifOk, Function<E, U> ifErr) {
+        return ifErr.apply(e);
+    }
+
+    @Override
+    public void match(LongConsumer ifOk, Consumer<E> ifErr) {
+        ifErr.accept(e);
+    }
+
+    @Override
+    public LongResult<E> map(LongUnaryOperator mapping) {
+        return this;
+    }
+
+    @Override
+    public IntResult<E> mapToInt(LongToIntFunction mapping) {
+        return IntResult.err(e);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(LongToDoubleFunction mapping) {
+        return DoubleResult.err(e);
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(LongFunction<U> mapping) {
+        return Result.err(e);
+    }
+
+    @Override
+    public <F> LongResult<F> mapErr(Function<E, F> mapping) {
+        return LongResult.err(mapping.apply(e));
+    }
+
+    @Override
+    public LongResult<E> and(LongResult<E> result) {
+        return this;
+    }
+
+    @Override
+    public LongResult<E> andThen(LongFunction<LongResult<E>> resultFn) {
+        return this;
+    }
+
+    @Override
+    public <F> LongResult<F> or(LongResult<F> result) {
+        return result;
+    }
+
+    @Override
+    public <F> LongResult<F> orElse(Function<E, LongResult<F>> resultFn) {
+        return resultFn.apply(e);
+    }
+
+    @Override
+    public Result<Long, E> boxed() {
+        return Result.err(e);
+    }
+}
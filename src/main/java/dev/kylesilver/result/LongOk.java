@@ -0,0 +1,180 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Indicates that an operation producing a primitive {@code long} has been
+ * completed successfully.
+ * @param <E>
+ *      The type of a {@link LongErr} that could have (but in this case did
+ *      not) resulted from the parent operation.
+ */
+@ToString
+@EqualsAndHashCode
+public class LongOk<E> implements LongResult<E> {
+    private final long value;
+
+    public LongOk(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public OptionalLong ok() {
+        return OptionalLong.of(value);
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.empty();
+    }
+
+    @Override
+    public long unwrapAsLong() {
+        return value;
+    }
+
+    @Override
+    public E unwrapErr() throws UnwrapException {
+        ResultEvents.unwrapFailed("unwrapErr", value);
+        throw new UnwrapException(() -> "The Result was expected to be Err, but was instead Ok with value " + value);
+    }
+
+    @Override
+    public long expect(String errorMessage) {
+        return value;
+    }
+
+    @Override
+    public long expect(Supplier<String> errorMessage) {
+        return value;
+    }
+
+    @Override
+    public <F extends Throwable> long expect(Function<E, F> mapping) {
+        return value;
+    }
+
+    @Override
+    public E expectErr(String errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expectErr", value);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public E expectErr(Supplier<String> errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expectErr", value);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public <F extends Throwable> E expectErr(LongFunction<F> mapping) throws F {
+        ResultEvents.unwrapFailed("expectErr", value);
+        throw mapping.apply(value);
+    }
+
+    @Override
+    public long orElse(long other) {
+        return value;
+    }
+
+    @Override
+    public long orElseGet(ToLongFunction<E> fallback) {
+        return value;
+    }
+
+    @Override
+    public void ifOk(LongConsumer action) {
+        action.accept(value);
+    }
+
+    @Override
+    public void ifErr(Consumer<E> action) {
+    }
+
+    @Override
+    public <U> U match(LongFunction<U> ifOk, Function<E, U> ifErr) {
+        return ifOk.apply(value);
+    }
+
+    @Override
+    public void match(LongConsumer ifOk, Consumer<E> ifErr) {
+        ifOk.accept(value);
+    }
+
+    @Override
+    public LongResult<E> map(LongUnaryOperator mapping) {
+        return LongResult.ok(mapping.applyAsLong(value));
+    }
+
+    @Override
+    public IntResult<E> mapToInt(LongToIntFunction mapping) {
+        return IntResult.ok(mapping.applyAsInt(value));
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(LongToDoubleFunction mapping) {
+        return DoubleResult.ok(mapping.applyAsDouble(value));
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(LongFunction<U> mapping) {
+        return Result.ok(mapping.apply(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> LongResult<F> mapErr(Function<E, F> mapping) {
+        return (LongOk<F>) this;
+    }
+
+    @Override
+    public LongResult<E> and(LongResult<E> result) {
+        return result;
+    }
+
+    @Override
+    public LongResult<E> andThen(LongFunction<LongResult<E>> resultFn) {
+        return resultFn.apply(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> LongResult<F> or(LongResult<F> result) {
+        // see Ok#or for why this cast is safe
+        return (LongOk<F>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> LongResult<F> orElse(Function<E, LongResult<F>> resultFn) {
+        return (LongOk<F>) this;
+    }
+
+    @Override
+    public Result<Long, E> boxed() {
+        return Result.ok(value);
+    }
+}
@@ -0,0 +1,225 @@
+package dev.kylesilver.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link Result} whose {@link LongOk Ok} value is a primitive {@code long}.
+ * Numeric pipelines such as counters, offsets and sums can be built out of
+ * these without boxing the value on every step. Every operation mirrors its
+ * counterpart on {@link Result}; conversions to and from the generic type are
+ * available through {@link #boxed()} and {@link Result#mapToLong}.
+ * @param <E>
+ *      The type of an {@link LongErr Err} value, meaning that the operation has
+ *      failed with some kind of error.
+ * @see Result
+ */
+public interface LongResult<E> {
+
+    /**
+     * An <code>Ok</code> holding a primitive {@code long}.
+     * @param value
+     *      the output value of the fallible operation.
+     * @param <E>
+     *      the type of any errors that the fallible operation might produce.
+     * @return
+     *      an <code>Ok</code> result wrapping <code>value</code>.
+     * @see Result#ok(Object)
+     */
+    static <E> LongOk<E> ok(long value) {
+        return new LongOk<>(value);
+    }
+
+    /**
+     * An <code>Err</code> for an operation that would have produced a
+     * primitive {@code long}.
+     * @param e
+     *      the value of the error.
+     * @param <E>
+     *      the type of <code>e</code>.
+     * @return
+     *      an <code>Err</code> result wrapping <code>e</code>.
+     * @see Result#err(Object)
+     */
+    static <E> LongErr<E> err(@NotNull E e) {
+        return new LongErr<>(e);
+    }
+
+    /**
+     * @see Result#isOk()
+     */
+    boolean isOk();
+
+    /**
+     * @see Result#isErr()
+     */
+    boolean isErr();
+
+    /**
+     * Get the {@link LongOk Ok} value if it exists.
+     * @return the underlying value if the result is {@link LongOk Ok},
+     *      otherwise the value will be empty.
+     * @see Result#ok()
+     */
+    OptionalLong ok();
+
+    /**
+     * Get the {@link LongErr Err} value if it exists.
+     * @return the underlying value if the result is an {@link LongErr Err},
+     *      otherwise the value will be empty.
+     * @see Result#err()
+     */
+    Optional<E> err();
+
+    /**
+     * Retrieve the {@link LongOk Ok} value or throw an exception if the result
+     * is an {@link LongErr Err}.
+     * @return
+     *      the unboxed value.
+     * @throws UnwrapException
+     *      if the result is not {@link LongOk Ok}.
+     * @see Result#unwrap()
+     */
+    long unwrapAsLong() throws UnwrapException;
+
+    /**
+     * @see Result#unwrapErr()
+     */
+    E unwrapErr() throws UnwrapException;
+
+    /**
+     * @see Result#expect(String)
+     */
+    long expect(String errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expect(Supplier)
+     */
+    long expect(Supplier<String> errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expect(Function)
+     */
+    <F extends Throwable> long expect(Function<E, F> mapping) throws F;
+
+    /**
+     * @see Result#expectErr(String)
+     */
+    E expectErr(String errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expectErr(Supplier)
+     */
+    E expectErr(Supplier<String> errorMessage) throws UnwrapException;
+
+    /**
+     * @see Result#expectErr(Function)
+     */
+    <F extends Throwable> E expectErr(LongFunction<F> mapping) throws F;
+
+    /**
+     * @see Result#orElse(Object)
+     */
+    long orElse(long other);
+
+    /**
+     * @see Result#orElseGet(Function)
+     */
+    long orElseGet(ToLongFunction<E> fallback);
+
+    /**
+     * @see Result#ifOk(Consumer)
+     */
+    void ifOk(LongConsumer action);
+
+    /**
+     * @see Result#ifErr(Consumer)
+     */
+    void ifErr(Consumer<E> action);
+
+    /**
+     * @see Result#match(Function, Function)
+     */
+    <U> U match(LongFunction<U> ifOk, Function<E, U> ifErr);
+
+    /**
+     * @see Result#match(Consumer, Consumer)
+     */
+    void match(LongConsumer ifOk, Consumer<E> ifErr);
+
+    /**
+     * Apply a transformation to the wrapped value if the result is
+     * {@link LongOk Ok}, without boxing it.
+     * @param mapping
+     *      the transformation to apply to the wrapped value.
+     * @return
+     *      a new result containing either the transformed value or the
+     *      original error.
+     * @see Result#map(Function)
+     */
+    LongResult<E> map(LongUnaryOperator mapping);
+
+    /**
+     * Apply a transformation that widens or narrows the wrapped value to a
+     * primitive {@code int}.
+     * @see #map(LongUnaryOperator)
+     */
+    IntResult<E> mapToInt(LongToIntFunction mapping);
+
+    /**
+     * Apply a transformation that widens or narrows the wrapped value to a
+     * primitive {@code double}.
+     * @see #map(LongUnaryOperator)
+     */
+    DoubleResult<E> mapToDouble(LongToDoubleFunction mapping);
+
+    /**
+     * Apply a transformation that turns the wrapped value into an object,
+     * leaving the primitive specialization.
+     * @see #map(LongUnaryOperator)
+     */
+    <U> Result<U, E> mapToObj(LongFunction<U> mapping);
+
+    /**
+     * @see Result#mapErr(Function)
+     */
+    <F> LongResult<F> mapErr(Function<E, F> mapping);
+
+    /**
+     * @see Result#and(Result)
+     */
+    LongResult<E> and(LongResult<E> result);
+
+    /**
+     * @see Result#andThen(Function)
+     */
+    LongResult<E> andThen(LongFunction<LongResult<E>> resultFn);
+
+    /**
+     * @see Result#or(Result)
+     */
+    <F> LongResult<F> or(LongResult<F> result);
+
+    /**
+     * @see Result#orElse(Function)
+     */
+    <F> LongResult<F> orElse(Function<E, LongResult<F>> resultFn);
+
+    /**
+     * Convert to a generic {@link Result}, boxing the value if there is one.
+     * @return
+     *      an equivalent {@code Result<Long, E>}.
+     */
+    Result<Long, E> boxed();
+}
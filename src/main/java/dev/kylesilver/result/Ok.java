@@ -7,6 +7,10 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Indicates that an operation has been completed successfully.
@@ -18,7 +22,7 @@ import java.util.function.Function;
  */
 @ToString
 @EqualsAndHashCode
-public class Ok<T, E> implements Result<T, E> {
+public final class Ok<T, E> implements Result<T, E> {
     private final T t;
 
     public Ok(@NotNull T t) {
@@ -45,6 +49,31 @@ public class Ok<T, E> implements Result<T, E> {
         return Optional.empty();
     }
 
+    @Override
+    public Result<T, E> context(String message) {
+        return this;
+    }
+
+    @Override
+    public Result<T, E> context(String format, Object arg) {
+        return this;
+    }
+
+    @Override
+    public Result<T, E> context(String format, Object arg1, Object arg2) {
+        return this;
+    }
+
+    @Override
+    public Result<T, E> context(Supplier<String> message) {
+        return this;
+    }
+
+    @Override
+    public Optional<String> report() {
+        return Optional.empty();
+    }
+
     @Override
     public T unwrap() {
         return t;
@@ -52,7 +81,8 @@ public class Ok<T, E> implements Result<T, E> {
 
     @Override
     public E unwrapErr() throws UnwrapException {
-        throw new UnwrapException("The Result was expected to be Err, but was instead Ok with value " + t);
+        ResultEvents.unwrapFailed("unwrapErr", t);
+        throw new UnwrapException(() -> "The Result was expected to be Err, but was instead Ok with value " + t);
     }
 
     @Override
@@ -60,6 +90,11 @@ public class Ok<T, E> implements Result<T, E> {
         return t;
     }
 
+    @Override
+    public T expect(Supplier<String> errorMessage) {
+        return t;
+    }
+
     @Override
     public <F extends Throwable> T expect(Function<E, F> mapping) {
         return t;
@@ -67,14 +102,51 @@ public class Ok<T, E> implements Result<T, E> {
 
     @Override
     public E expectErr(String errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expectErr", t);
+        throw new UnwrapException(errorMessage);
+    }
+
+    @Override
+    public E expectErr(Supplier<String> errorMessage) throws UnwrapException {
+        ResultEvents.unwrapFailed("expectErr", t);
         throw new UnwrapException(errorMessage);
     }
 
     @Override
     public <F extends Throwable> E expectErr(Function<T, F> mapping) throws F {
+        ResultEvents.unwrapFailed("expectErr", t);
         throw mapping.apply(t);
     }
 
+    @Override
+    public T getOrNull() {
+        return t;
+    }
+
+    @Override
+    public E getErrOrNull() {
+        return null;
+    }
+
+    @Override
+    public T orElse(T other) {
+        return t;
+    }
+
+    @Override
+    public T orElseGet(Function<E, T> fallback) {
+        return t;
+    }
+
+    @Override
+    public void ifOk(Consumer<T> action) {
+        action.accept(t);
+    }
+
+    @Override
+    public void ifErr(Consumer<E> action) {
+    }
+
     @Override
     public <U> U match(Function<T, U> ifOk, Function<E, U> ifErr) {
         return ifOk.apply(t);
@@ -91,8 +163,25 @@ public class Ok<T, E> implements Result<T, E> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <F> Result<T, F> mapErr(Function<E, F> mapping) {
-        return Result.ok(t);
+        // see the comment in `or` below for why this cast is safe
+        return (Ok<T, F>) this;
+    }
+
+    @Override
+    public IntResult<E> mapToInt(ToIntFunction<T> mapping) {
+        return IntResult.ok(mapping.applyAsInt(t));
+    }
+
+    @Override
+    public LongResult<E> mapToLong(ToLongFunction<T> mapping) {
+        return LongResult.ok(mapping.applyAsLong(t));
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(ToDoubleFunction<T> mapping) {
+        return DoubleResult.ok(mapping.applyAsDouble(t));
     }
 
     @Override
@@ -105,6 +194,37 @@ public class Ok<T, E> implements Result<T, E> {
         return resultFn.apply(t);
     }
 
+    @Override
+    public <U> Result<U, E> tryMap(CheckedFunction<T, U, ? extends Throwable> mapping, Class<? extends E> cls) {
+        return Caught.map(t, mapping, cls);
+    }
+
+    @Override
+    public <A, U> Result<U, E> tryMap(
+            A arg,
+            CheckedBiFunction<T, A, U, ? extends Throwable> mapping,
+            Class<? extends E> cls
+    ) {
+        return Caught.map(t, arg, mapping, cls);
+    }
+
+    @Override
+    public <U> Result<U, E> tryAndThen(
+            CheckedFunction<T, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        return Caught.andThen(t, resultFn, cls);
+    }
+
+    @Override
+    public <A, U> Result<U, E> tryAndThen(
+            A arg,
+            CheckedBiFunction<T, A, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        return Caught.andThen(t, arg, resultFn, cls);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <F> Result<T, F> or(Result<T, F> result) {
@@ -0,0 +1,137 @@
+package dev.kylesilver.result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Fork-join implementation of {@link Results#parallelTraverse} and
+ * {@link Results#parallelPartition}. The input is split into index ranges and
+ * each output is written to the slot matching its input, so order is kept
+ * without any merging.
+ */
+final class ParallelTraversal<A, T, E> {
+
+    // leaves per worker; more than one so that uneven workloads can be stolen
+    private static final int LEAVES_PER_THREAD = 8;
+
+    private final List<A> inputs;
+    private final Function<A, Result<T, E>> resultFn;
+    private final Object[] outputs;
+    private final int threshold;
+
+    // fail-fast traversal: the lowest index that has produced an Err so far
+    private final AtomicInteger failure;
+
+    // partitioning: which slots of `outputs` hold errors rather than values
+    private final boolean[] errs;
+    private final AtomicInteger errCount;
+
+    private ParallelTraversal(List<A> inputs, Function<A, Result<T, E>> resultFn, ForkJoinPool pool, boolean failFast) {
+        this.inputs = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+        this.resultFn = resultFn;
+        this.outputs = new Object[inputs.size()];
+        this.threshold = Math.max(1, inputs.size() / (pool.getParallelism() * LEAVES_PER_THREAD));
+        this.failure = failFast ? new AtomicInteger(inputs.size()) : null;
+        this.errs = failFast ? null : new boolean[inputs.size()];
+        this.errCount = failFast ? null : new AtomicInteger();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, T, E> Result<List<T>, E> traverse(List<A> inputs, Function<A, Result<T, E>> resultFn, ForkJoinPool pool) {
+        ParallelTraversal<A, T, E> traversal = new ParallelTraversal<>(inputs, resultFn, pool, true);
+        pool.invoke(traversal.new Task(0, inputs.size()));
+        int failed = traversal.failure.get();
+        if (failed < inputs.size()) {
+            return (Result<List<T>, E>) traversal.outputs[failed];
+        }
+        return Result.ok((List<T>) Arrays.asList(traversal.outputs));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, T, E> Partition<T, E> partition(List<A> inputs, Function<A, Result<T, E>> resultFn, ForkJoinPool pool) {
+        ParallelTraversal<A, T, E> traversal = new ParallelTraversal<>(inputs, resultFn, pool, false);
+        pool.invoke(traversal.new Task(0, inputs.size()));
+        int errCount = traversal.errCount.get();
+        List<T> oks = new ArrayList<>(inputs.size() - errCount);
+        List<E> errs = new ArrayList<>(errCount);
+        for (int i = 0; i < traversal.outputs.length; i++) {
+            if (traversal.errs[i]) {
+                errs.add((E) traversal.outputs[i]);
+            } else {
+                oks.add((T) traversal.outputs[i]);
+            }
+        }
+        return new Partition<>(oks, errs);
+    }
+
+    private void failAt(int index, Result<T, E> err) {
+        outputs[index] = err;
+        int current = failure.get();
+        while (index < current && !failure.compareAndSet(current, index)) {
+            current = failure.get();
+        }
+    }
+
+    private final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        private Task(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            // an error at a lower index has already decided the outcome, so
+            // anything to the right of it is wasted work
+            if (failure != null && from > failure.get()) {
+                return;
+            }
+            if (to - from <= threshold) {
+                if (failure != null) {
+                    traverse();
+                } else {
+                    partition();
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Task(from, middle), new Task(middle, to));
+        }
+
+        private void traverse() {
+            for (int i = from; i < to && i < failure.get(); i++) {
+                Result<T, E> result = resultFn.apply(inputs.get(i));
+                if (result.isErr()) {
+                    failAt(i, result);
+                    return;
+                }
+                outputs[i] = result.getOrNull();
+            }
+        }
+
+        private void partition() {
+            int failed = 0;
+            for (int i = from; i < to; i++) {
+                Result<T, E> result = resultFn.apply(inputs.get(i));
+                if (result.isOk()) {
+                    outputs[i] = result.getOrNull();
+                } else {
+                    outputs[i] = result.getErrOrNull();
+                    errs[i] = true;
+                    failed++;
+                }
+            }
+            errCount.addAndGet(failed);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * The values and errors of a group of {@link Result Results}, separated from
+ * each other. Produced by {@link Results#partitioning()}.
+ * @param <T>
+ *      The type of the {@link Ok} values.
+ * @param <E>
+ *      The type of the {@link Err} values.
+ */
+@ToString
+@EqualsAndHashCode
+public final class Partition<T, E> {
+    private final List<T> oks;
+    private final List<E> errs;
+
+    Partition(List<T> oks, List<E> errs) {
+        this.oks = oks;
+        this.errs = errs;
+    }
+
+    /**
+     * @return
+     *      the values of every {@link Ok}, in encounter order.
+     */
+    public List<T> oks() {
+        return oks;
+    }
+
+    /**
+     * @return
+     *      the errors of every {@link Err}, in encounter order.
+     */
+    public List<E> errs() {
+        return errs;
+    }
+
+    void add(Result<T, E> result) {
+        if (result.isOk()) {
+            oks.add(result.getOrNull());
+        } else {
+            result.ifErr(errs::add);
+        }
+    }
+
+    Partition<T, E> addAll(Partition<T, E> other) {
+        oks.addAll(other.oks);
+        errs.addAll(other.errs);
+        return this;
+    }
+}
@@ -1,10 +1,17 @@
 package dev.kylesilver.result;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A result type represents the output of an operation with two possible
@@ -17,6 +24,16 @@ import java.util.function.Function;
  * Normally JVM languages would handle these conditions with exceptions, but
  * doing so can lead to control flow which is difficult to keep track of. With
  * a result type, all conditions are covered by virtue of being correctly typed.
+ * <p>
+ * {@link Ok} and {@link Err} are final. Code that only ever sees those two
+ * classes lets the JIT inline both receivers at every call site, so prefer
+ * composing them over writing further implementations of this interface.
+ * The interface is deliberately not sealed, though: {@link LazyResult}
+ * implements it as well, and so may code outside of the library. Such
+ * implementations only need to provide the abstract methods; the rest have
+ * defaults written in terms of them, which {@link Ok} and {@link Err}
+ * override to avoid allocating. Type patterns on {@link Ok} and {@link Err}
+ * work in a <code>switch</code>, but it needs a <code>default</code> branch.
  * @param <T>
  *      The type of an {@link Ok} value, meaning that the operation has
  *      completed successfully.
@@ -38,10 +55,15 @@ public interface Result<T, E> {
      *      the <code>Ok</code> case this type is unused, but knowing it is
      *      important for building robust error handling.
      * @return
-     *      an <code>Ok</code> result wrapping <code>t</code>.
+     *      an <code>Ok</code> result wrapping <code>t</code>. Booleans,
+     *      {@link Unit#UNIT}, integers from -128 to 127 and enum constants
+     *      are wrapped in shared instances, so those calls do not allocate.
      */
+    @SuppressWarnings("unchecked")
     static <T, E> Ok<T, E> ok(@NotNull T t) {
-        return new Ok<>(t);
+        // an Ok holds no error, so a shared one serves every error type
+        Ok<T, E> canonical = (Ok<T, E>) Canonical.ok(t);
+        return canonical != null ? canonical : new Ok<>(t);
     }
 
     /**
@@ -59,10 +81,50 @@ public interface Result<T, E> {
      * @param <E>
      *      the type of <code>e</code>.
      * @return
-     *      an <code>Err</code> result wrapping <code>e</code>.
+     *      an <code>Err</code> result wrapping <code>e</code>. Enum constants
+     *      are wrapped in shared instances, so those calls do not allocate.
      */
+    @SuppressWarnings("unchecked")
     static <T, E> Err<T, E> err(@NotNull E e) {
-        return new Err<>(e);
+        // an Err holds no value, so a shared one serves every value type
+        Err<T, E> canonical = (Err<T, E>) Canonical.err(e);
+        if (canonical == null) {
+            return new Err<>(e);
+        }
+        ResultEvents.errCreated(e);
+        return canonical;
+    }
+
+    /**
+     * Like {@link #err(Object) err}, but returns the same instance for every
+     * error equal to <code>e</code>, so that fixed errors that are not enum
+     * constants can be returned without allocating.
+     * <pre>{@code
+     * // NotFound is an immutable value class
+     * return Result.internedErr(new NotFound("users"));
+     * }</pre>
+     * Only intern errors that are immutable, implement <code>equals</code>
+     * and <code>hashCode</code>, and come from a small, fixed set: every
+     * distinct error interned is kept for the life of the program.
+     * @param e
+     *      the value of the error.
+     * @param <T>
+     *      the type of the value that the fallible operation provides on
+     *      success.
+     * @param <E>
+     *      the type of <code>e</code>.
+     * @return
+     *      the shared <code>Err</code> wrapping an error equal to
+     *      <code>e</code>.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E> Err<T, E> internedErr(@NotNull E e) {
+        Err<T, E> canonical = (Err<T, E>) Canonical.err(e);
+        if (canonical == null) {
+            canonical = (Err<T, E>) Canonical.intern(e);
+        }
+        ResultEvents.errCreated(e);
+        return canonical;
     }
 
     /**
@@ -81,6 +143,10 @@ public interface Result<T, E> {
 
     /**
      * Get the {@link Ok} value if it exists.
+     * <p>
+     * A new {@link Optional} is allocated whenever there is a value to wrap.
+     * On hot paths prefer {@link #getOrNull()}, {@link #orElse(Object)} or
+     * {@link #ifOk(Consumer)}, which read the value in place.
      * @return the underlying value if the result is {@link Ok}, otherwise the
      *      value will be empty.
      * @see Optional
@@ -89,12 +155,99 @@ public interface Result<T, E> {
 
     /**
      * Get the {@link Err} value if it exists.
+     * <p>
+     * A new {@link Optional} is allocated whenever there is an error to wrap.
+     * On hot paths prefer {@link #ifErr(Consumer)}.
      * @return the underlying value if the result is an {@link Err}, otherwise
      *      the value will be empty.
      * @see Optional
      */
     Optional<E> err();
 
+    /**
+     * Attach a frame of context to an {@link Err}, describing what was being
+     * done when it occurred. An {@link Ok} is returned as it is.
+     * <pre>{@code
+     * Result<User, IOException> user = readUser(id)
+     *     .context("loading user %d", id)
+     *     .context("handling request %s", requestId);
+     * }</pre>
+     * Unlike wrapping the error in a new exception, adding context captures no
+     * stack trace and works with any error type. Frames are kept in a
+     * persistent linked list, so adding one allocates a single node plus the
+     * new {@link Err}, and the error value itself is untouched. Context is not
+     * part of equality, and is carried through {@link #map(Function) map},
+     * {@link #andThen(Function) andThen} and {@link #mapErr(Function) mapErr}.
+     * It is rendered by {@link #report()} and in the messages of the
+     * {@link UnwrapException}s thrown by {@link #unwrap()} and
+     * {@link #expect(String) expect}.
+     * @param message
+     *      a description of the operation that failed.
+     * @return
+     *      this result, with the frame attached if it is an {@link Err}.
+     */
+    default Result<T, E> context(String message) {
+        return isOk() ? this : Result.<T, E>err(getErrOrNull()).context(message);
+    }
+
+    /**
+     * Like {@link #context(String)}, but the message is only formatted with
+     * {@link String#format} if it is rendered.
+     * @param format
+     *      a format string with a single argument.
+     * @param arg
+     *      the argument of the format string.
+     * @return
+     *      this result, with the frame attached if it is an {@link Err}.
+     */
+    default Result<T, E> context(String format, Object arg) {
+        return isOk() ? this : Result.<T, E>err(getErrOrNull()).context(format, arg);
+    }
+
+    /**
+     * Like {@link #context(String)}, but the message is only formatted with
+     * {@link String#format} if it is rendered.
+     * @param format
+     *      a format string with two arguments.
+     * @param arg1
+     *      the first argument of the format string.
+     * @param arg2
+     *      the second argument of the format string.
+     * @return
+     *      this result, with the frame attached if it is an {@link Err}.
+     */
+    default Result<T, E> context(String format, Object arg1, Object arg2) {
+        return isOk() ? this : Result.<T, E>err(getErrOrNull()).context(format, arg1, arg2);
+    }
+
+    /**
+     * Like {@link #context(String)}, but the message is only computed if it
+     * is rendered.
+     * @param message
+     *      computes a description of the operation that failed.
+     * @return
+     *      this result, with the frame attached if it is an {@link Err}.
+     */
+    default Result<T, E> context(Supplier<String> message) {
+        return isOk() ? this : Result.<T, E>err(getErrOrNull()).context(message);
+    }
+
+    /**
+     * Describe an {@link Err} along with its context, outermost frame first.
+     * <pre>{@code
+     * handling request 7f3a
+     * caused by: loading user 42
+     * caused by: java.nio.file.NoSuchFileException: users/42.json
+     * }</pre>
+     * @return
+     *      the report if the result is an {@link Err}, otherwise the value
+     *      will be empty.
+     * @see #context(String)
+     */
+    default Optional<String> report() {
+        return isOk() ? Optional.empty() : Result.<T, E>err(getErrOrNull()).report();
+    }
+
     /**
      * Retrieve the {@link Ok} value or throw an exception if the result is an
      * {@link Err}.
@@ -129,6 +282,29 @@ public interface Result<T, E> {
      */
     T expect(String errorMessage) throws UnwrapException;
 
+    /**
+     * Return the value if {@link Ok}, otherwise throw an exception whose
+     * message is produced by {@code errorMessage}. The supplier is not invoked
+     * when the result is {@link Ok}, and in the {@link Err} case it is only
+     * invoked if the message of the thrown {@link UnwrapException} is read.
+     * <pre>{@code
+     * User user = lookup(id).expect(() -> "no user with id " + id);
+     * }</pre>
+     * @param errorMessage
+     *      Lazily produces the message to accompany the
+     *      {@link UnwrapException} if thrown.
+     * @return
+     *      The value, if {@link Ok}.
+     * @throws UnwrapException
+     *      If the result is an {@link Err}.
+     */
+    default T expect(Supplier<String> errorMessage) throws UnwrapException {
+        if (isErr()) {
+            throw new UnwrapException(errorMessage);
+        }
+        return getOrNull();
+    }
+
     /**
      * Returns the value or throws a caller-defined exception.
      * @param mapping
@@ -154,6 +330,25 @@ public interface Result<T, E> {
      */
     E expectErr(String errorMessage) throws UnwrapException;
 
+    /**
+     * Return the value if {@link Err}, otherwise throw an exception whose
+     * message is produced by {@code errorMessage} only if it is read.
+     * @param errorMessage
+     *      Lazily produces the message to accompany the
+     *      {@link UnwrapException} if thrown.
+     * @return
+     *      The value, if {@link Err}.
+     * @throws UnwrapException
+     *      If the result is {@link Ok}.
+     * @see #expect(Supplier)
+     */
+    default E expectErr(Supplier<String> errorMessage) throws UnwrapException {
+        if (isOk()) {
+            throw new UnwrapException(errorMessage);
+        }
+        return getErrOrNull();
+    }
+
     /**
      * Returns the value or throws a caller-defined exception.
      * @param mapping
@@ -167,6 +362,80 @@ public interface Result<T, E> {
      */
     <F extends Throwable> E expectErr(Function<T, F> mapping) throws F;
 
+    /**
+     * Get the {@link Ok} value, or <code>null</code> if the result is an
+     * {@link Err}. Unlike {@link #ok()}, this never allocates.
+     * @return
+     *      the underlying value if the result is {@link Ok}, otherwise
+     *      <code>null</code>.
+     */
+    default @Nullable T getOrNull() {
+        return match(value -> value, error -> null);
+    }
+
+    /**
+     * Get the {@link Err} value, or <code>null</code> if the result is an
+     * {@link Ok}. Unlike {@link #err()}, this never allocates.
+     * @return
+     *      the underlying error if the result is {@link Err}, otherwise
+     *      <code>null</code>.
+     */
+    default @Nullable E getErrOrNull() {
+        return match(value -> null, error -> error);
+    }
+
+    /**
+     * Get the {@link Ok} value, or a caller-provided default if the result is
+     * an {@link Err}.
+     * <pre>{@code
+     * int value = Result.<Integer, String>err("oops").orElse(0);
+     * }</pre>
+     * @param other
+     *      the value to return if the result is an {@link Err}.
+     * @return
+     *      the underlying value if the result is {@link Ok}, otherwise
+     *      <code>other</code>.
+     */
+    default T orElse(T other) {
+        return isOk() ? getOrNull() : other;
+    }
+
+    /**
+     * Get the {@link Ok} value, or compute a default from the error if the
+     * result is an {@link Err}. The function is only invoked in the
+     * {@link Err} case.
+     * @param fallback
+     *      produces a value from the wrapped error.
+     * @return
+     *      the underlying value if the result is {@link Ok}, otherwise the
+     *      output of <code>fallback</code>.
+     */
+    default T orElseGet(Function<E, T> fallback) {
+        return match(Function.identity(), fallback);
+    }
+
+    /**
+     * Run a side effect on the value if the result is {@link Ok}, and do
+     * nothing otherwise.
+     * @param action
+     *      the lambda applied to the underlying value.
+     * @see #match(Consumer, Consumer)
+     */
+    default void ifOk(Consumer<T> action) {
+        match(action, error -> { });
+    }
+
+    /**
+     * Run a side effect on the error if the result is an {@link Err}, and do
+     * nothing otherwise.
+     * @param action
+     *      the lambda applied to the underlying error.
+     * @see #match(Consumer, Consumer)
+     */
+    default void ifErr(Consumer<E> action) {
+        match(value -> { }, action);
+    }
+
     /**
      * Apply a transformation to the value of a result.
      * <p>
@@ -248,8 +517,8 @@ public interface Result<T, E> {
      * @param <U>
      *      the type of the output of the transformation.
      * @return
-     *      a new {@link Result} containing either the transformed value or the
-     *      original error.
+     *      a new {@link Result} containing the transformed value, or this
+     *      same {@link Err} instance if there was an error.
      */
     <U> Result<U, E> map(Function<T, U> mapping);
 
@@ -276,11 +545,60 @@ public interface Result<T, E> {
      * @param <F>
      *      the type of the output of the transformation.
      * @return
-     *      a new {@link Result} containing either the transformed error or the
-     *      original value.
+     *      a new {@link Result} containing the transformed error, or this
+     *      same {@link Ok} instance if there was no error.
      */
     <F> Result<T, F> mapErr(Function<E, F>  mapping);
 
+    /**
+     * Apply a transformation that produces a primitive {@code int} if the
+     * result is {@link Ok}. The returned {@link IntResult} carries the value
+     * without boxing it, so that numeric operations further down the chain do
+     * not allocate a wrapper per step.
+     * @param mapping
+     *      the transformation to apply to the wrapped value if the result is
+     *      {@link Ok}.
+     * @return
+     *      an {@link IntResult} containing either the transformed value or the
+     *      original error.
+     * @see IntResult#boxed()
+     */
+    default IntResult<E> mapToInt(ToIntFunction<T> mapping) {
+        return isOk() ? IntResult.ok(mapping.applyAsInt(getOrNull())) : IntResult.err(getErrOrNull());
+    }
+
+    /**
+     * Apply a transformation that produces a primitive {@code long} if the
+     * result is {@link Ok}.
+     * @param mapping
+     *      the transformation to apply to the wrapped value if the result is
+     *      {@link Ok}.
+     * @return
+     *      a {@link LongResult} containing either the transformed value or the
+     *      original error.
+     * @see #mapToInt(ToIntFunction)
+     * @see LongResult#boxed()
+     */
+    default LongResult<E> mapToLong(ToLongFunction<T> mapping) {
+        return isOk() ? LongResult.ok(mapping.applyAsLong(getOrNull())) : LongResult.err(getErrOrNull());
+    }
+
+    /**
+     * Apply a transformation that produces a primitive {@code double} if the
+     * result is {@link Ok}.
+     * @param mapping
+     *      the transformation to apply to the wrapped value if the result is
+     *      {@link Ok}.
+     * @return
+     *      a {@link DoubleResult} containing either the transformed value or
+     *      the original error.
+     * @see #mapToInt(ToIntFunction)
+     * @see DoubleResult#boxed()
+     */
+    default DoubleResult<E> mapToDouble(ToDoubleFunction<T> mapping) {
+        return isOk() ? DoubleResult.ok(mapping.applyAsDouble(getOrNull())) : DoubleResult.err(getErrOrNull());
+    }
+
     /**
      * Returns the provided argument if the result is {@link Ok} and propagates
      * the original {@link Err} otherwise.
@@ -337,6 +655,123 @@ public interface Result<T, E> {
      */
     <U> Result<U, E> andThen(Function<T, Result<U, E>> resultFn);
 
+    /**
+     * Apply a transformation that may throw to the wrapped value if the
+     * result is {@link Ok}, catching the exceptions of the given type as the
+     * error. It stands in for a {@link #andThen(Function) andThen} around a
+     * nested {@link #tryOr(CheckedSupplier, Class) tryOr}, and since the value
+     * is passed to {@code mapping} as its argument, a method reference or
+     * non-capturing lambda is enough.
+     * <pre>{@code
+     * Result<String, IOException> contents = Result.<Path, IOException>ok(path)
+     *     .tryMap(Files::readString, IOException.class);
+     * }</pre>
+     * @param mapping
+     *      the transformation to apply to the wrapped value if the result is
+     *      {@link Ok}.
+     * @param cls
+     *      the type of the exceptions to catch. It must be a subtype of the
+     *      error type of this result.
+     * @param <U>
+     *      the type of the output of the transformation.
+     * @return
+     *      the transformed value, the caught exception, or this same
+     *      {@link Err} instance if there was already an error.
+     * @throws ErrorTypeMismatchException
+     *      if {@code mapping} throws an exception that is not an instance of
+     *      {@code cls}.
+     */
+    default <U> Result<U, E> tryMap(CheckedFunction<T, U, ? extends Throwable> mapping, Class<? extends E> cls) {
+        return andThen(value -> Caught.map(value, mapping, cls));
+    }
+
+    /**
+     * Like {@link #tryMap(CheckedFunction, Class)}, but passes an extra
+     * argument to {@code mapping} along with the wrapped value, so that the
+     * lambda does not need to capture it.
+     * <pre>{@code
+     * Result<String, IOException> contents = Result.<Path, IOException>ok(path)
+     *     .tryMap(StandardCharsets.ISO_8859_1, Files::readString, IOException.class);
+     * }</pre>
+     * @param arg
+     *      the second argument of {@code mapping}.
+     * @param mapping
+     *      the transformation to apply to the wrapped value and {@code arg} if
+     *      the result is {@link Ok}.
+     * @param cls
+     *      the type of the exceptions to catch.
+     * @param <A>
+     *      the type of {@code arg}.
+     * @param <U>
+     *      the type of the output of the transformation.
+     * @return
+     *      the transformed value, the caught exception, or this same
+     *      {@link Err} instance if there was already an error.
+     * @throws ErrorTypeMismatchException
+     *      if {@code mapping} throws an exception that is not an instance of
+     *      {@code cls}.
+     */
+    default <A, U> Result<U, E> tryMap(
+            A arg,
+            CheckedBiFunction<T, A, U, ? extends Throwable> mapping,
+            Class<? extends E> cls
+    ) {
+        return andThen(value -> Caught.map(value, arg, mapping, cls));
+    }
+
+    /**
+     * Apply a fallible operation that may also throw to the wrapped value if
+     * the result is {@link Ok}. Exceptions of the given type are caught as the
+     * error, and an {@link Err} returned by {@code resultFn} is passed on as
+     * in {@link #andThen(Function) andThen}.
+     * @param resultFn
+     *      the function to be applied if the result is {@link Ok}.
+     * @param cls
+     *      the type of the exceptions to catch.
+     * @param <U>
+     *      the type of the {@link Ok} value produced by {@code resultFn}.
+     * @return
+     *      the output of {@code resultFn}, the caught exception, or the
+     *      original error.
+     * @throws ErrorTypeMismatchException
+     *      if {@code resultFn} throws an exception that is not an instance of
+     *      {@code cls}.
+     */
+    default <U> Result<U, E> tryAndThen(
+            CheckedFunction<T, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        return andThen(value -> Caught.andThen(value, resultFn, cls));
+    }
+
+    /**
+     * Like {@link #tryAndThen(CheckedFunction, Class)}, but passes an extra
+     * argument to {@code resultFn} along with the wrapped value.
+     * @param arg
+     *      the second argument of {@code resultFn}.
+     * @param resultFn
+     *      the function to be applied if the result is {@link Ok}.
+     * @param cls
+     *      the type of the exceptions to catch.
+     * @param <A>
+     *      the type of {@code arg}.
+     * @param <U>
+     *      the type of the {@link Ok} value produced by {@code resultFn}.
+     * @return
+     *      the output of {@code resultFn}, the caught exception, or the
+     *      original error.
+     * @throws ErrorTypeMismatchException
+     *      if {@code resultFn} throws an exception that is not an instance of
+     *      {@code cls}.
+     */
+    default <A, U> Result<U, E> tryAndThen(
+            A arg,
+            CheckedBiFunction<T, A, Result<U, E>, ? extends Throwable> resultFn,
+            Class<? extends E> cls
+    ) {
+        return andThen(value -> Caught.andThen(value, arg, resultFn, cls));
+    }
+
     /**
      * Returns the provided argument if the result is an {@link Err} and
      * propagates the original {@link Ok} value otherwise.
@@ -409,15 +844,223 @@ public interface Result<T, E> {
      *      if a caught exception cannot be cast to {@code cls}.
      */
     static <T, E extends Throwable> Result<T, E> tryOr(CheckedSupplier<T, E> supplier, Class<E> cls) {
+        Object event = ResultEvents.beginTryOr();
+        try {
+            return ResultEvents.endTryOr(event, Result.ok(supplier.get()));
+        } catch (Throwable f) {
+            if (cls.isInstance(f)) {
+                return ResultEvents.endTryOr(event, Result.err(cls.cast(f)));
+            }
+            ResultEvents.endTryOr(event, f);
+            throw new ErrorTypeMismatchException(cls, f);
+        }
+    }
+
+    /**
+     * Attempts to execute a fallible operation which may throw several
+     * unrelated exception types, and returns any of them as the error type.
+     * <pre>{@code
+     * Result<Response, Exception> response = Result.tryOr(
+     *     () -> client.send(request),
+     *     IOException.class,
+     *     TimeoutException.class
+     * );
+     * }</pre>
+     * The classes are checked in order with {@link Class#isInstance}. When the
+     * same set of classes is used repeatedly, prefer building an
+     * {@link ExceptionMatcher} once and passing it to
+     * {@link #tryOr(CheckedSupplier, ExceptionMatcher)}.
+     * @param supplier
+     *      A lambda that will be evaluated at runtime to either yield a result
+     *      or throw an exception
+     * @param first
+     *      The first accepted exception class.
+     * @param rest
+     *      Any further accepted exception classes.
+     * @param <T>
+     *      The type of the result value if no exception is thrown.
+     * @param <E>
+     *      The closest common supertype of the accepted exception classes.
+     * @return
+     *      either the output of the provided supplier or a caught exception
+     *      that was thrown during its evaluation.
+     * @throws ErrorTypeMismatchException
+     *      if a caught exception is not an instance of any of the classes.
+     */
+    @SafeVarargs
+    static <T, E extends Throwable> Result<T, E> tryOr(
+            CheckedSupplier<T, ? extends Throwable> supplier,
+            Class<? extends E> first,
+            Class<? extends E>... rest
+    ) {
+        Object event = ResultEvents.beginTryOr();
+        try {
+            return ResultEvents.endTryOr(event, Result.ok(supplier.get()));
+        } catch (Throwable f) {
+            if (first.isInstance(f)) {
+                return ResultEvents.endTryOr(event, Result.err(first.cast(f)));
+            }
+            for (Class<? extends E> cls : rest) {
+                if (cls.isInstance(f)) {
+                    return ResultEvents.endTryOr(event, Result.err(cls.cast(f)));
+                }
+            }
+            ResultEvents.endTryOr(event, f);
+            List<Class<? extends Throwable>> expected = new ArrayList<>(rest.length + 1);
+            expected.add(first);
+            for (Class<? extends E> cls : rest) {
+                expected.add(cls);
+            }
+            throw new ErrorTypeMismatchException(expected, f);
+        }
+    }
+
+    /**
+     * Attempts to execute a fallible operation and converts any exception it
+     * throws into an error value using a prebuilt {@link ExceptionMatcher}.
+     * The matcher caches which of its rules applies to each exception class,
+     * so after the first failure of a given type the error path is a single
+     * lookup.
+     * @param supplier
+     *      A lambda that will be evaluated at runtime to either yield a result
+     *      or throw an exception
+     * @param matcher
+     *      Converts caught exceptions into error values.
+     * @param <T>
+     *      The type of the result value if no exception is thrown.
+     * @param <E>
+     *      The type of the error values produced by the matcher.
+     * @return
+     *      either the output of the provided supplier or the error value that
+     *      the matcher produced from a caught exception.
+     * @throws ErrorTypeMismatchException
+     *      if no rule of the matcher accepts a caught exception.
+     */
+    static <T, E> Result<T, E> tryOr(CheckedSupplier<T, ? extends Throwable> supplier, ExceptionMatcher<E> matcher) {
+        Object event = ResultEvents.beginTryOr();
         try {
-            return Result.ok(supplier.get());
+            return ResultEvents.endTryOr(event, Result.ok(supplier.get()));
         } catch (Throwable f) {
+            E error;
             try {
-                E thrown = cls.cast(f);
-                return Result.err(thrown);
-            } catch (ClassCastException e) {
-                throw new ErrorTypeMismatchException(cls, f);
+                error = matcher.match(f);
+            } catch (ErrorTypeMismatchException mismatch) {
+                ResultEvents.endTryOr(event, f);
+                throw mismatch;
             }
+            return ResultEvents.endTryOr(event, Result.err(error));
+        }
+    }
+
+    /**
+     * Like {@link #tryOr(CheckedSupplier, Class)}, but passes {@code arg} to
+     * the operation instead of leaving it to be captured. A lambda that
+     * captures a local variable is allocated anew on every call, while a
+     * method reference or a lambda that only uses its parameters is created
+     * once and reused.
+     * <pre>{@code
+     * // allocates a lambda per call, because it captures `path`
+     * Result.tryOr(() -> Files.readString(path), IOException.class);
+     * // does not
+     * Result.tryOr(path, Files::readString, IOException.class);
+     * }</pre>
+     * @param arg
+     *      the argument of {@code function}.
+     * @param function
+     *      the fallible operation.
+     * @param cls
+     *      The class of the exception which may be thrown.
+     * @param <A>
+     *      The type of {@code arg}.
+     * @param <T>
+     *      The type of the result value if no exception is thrown.
+     * @param <E>
+     *      The type of the exception which might be thrown by the function.
+     * @return
+     *      either the output of the function or a caught exception that was
+     *      thrown during its evaluation.
+     * @throws ErrorTypeMismatchException
+     *      if the caught exception is not an instance of {@code cls}.
+     */
+    static <A, T, E extends Throwable> Result<T, E> tryOr(A arg, CheckedFunction<A, T, E> function, Class<E> cls) {
+        Object event = ResultEvents.beginTryOr();
+        try {
+            return ResultEvents.endTryOr(event, Result.ok(function.apply(arg)));
+        } catch (Throwable f) {
+            return Caught.as(event, f, cls);
+        }
+    }
+
+    /**
+     * Like {@link #tryOr(Object, CheckedFunction, Class)}, for operations
+     * that take two arguments.
+     * @param a
+     *      the first argument of {@code function}.
+     * @param b
+     *      the second argument of {@code function}.
+     * @param function
+     *      the fallible operation.
+     * @param cls
+     *      The class of the exception which may be thrown.
+     * @param <A>
+     *      The type of {@code a}.
+     * @param <B>
+     *      The type of {@code b}.
+     * @param <T>
+     *      The type of the result value if no exception is thrown.
+     * @param <E>
+     *      The type of the exception which might be thrown by the function.
+     * @return
+     *      either the output of the function or a caught exception that was
+     *      thrown during its evaluation.
+     * @throws ErrorTypeMismatchException
+     *      if the caught exception is not an instance of {@code cls}.
+     */
+    static <A, B, T, E extends Throwable> Result<T, E> tryOr(
+            A a,
+            B b,
+            CheckedBiFunction<A, B, T, E> function,
+            Class<E> cls
+    ) {
+        Object event = ResultEvents.beginTryOr();
+        try {
+            return ResultEvents.endTryOr(event, Result.ok(function.apply(a, b)));
+        } catch (Throwable f) {
+            return Caught.as(event, f, cls);
+        }
+    }
+
+    /**
+     * Like {@link #tryOr(CheckedSupplier, ExceptionMatcher)}, but passes
+     * {@code arg} to the operation instead of leaving it to be captured.
+     * @param arg
+     *      the argument of {@code function}.
+     * @param function
+     *      the fallible operation.
+     * @param matcher
+     *      Converts caught exceptions into error values.
+     * @param <A>
+     *      The type of {@code arg}.
+     * @param <T>
+     *      The type of the result value if no exception is thrown.
+     * @param <E>
+     *      The type of the error values produced by the matcher.
+     * @return
+     *      either the output of the function or the error value that the
+     *      matcher produced from a caught exception.
+     * @throws ErrorTypeMismatchException
+     *      if no rule of the matcher accepts a caught exception.
+     */
+    static <A, T, E> Result<T, E> tryOr(
+            A arg,
+            CheckedFunction<A, T, ? extends Throwable> function,
+            ExceptionMatcher<E> matcher
+    ) {
+        Object event = ResultEvents.beginTryOr();
+        try {
+            return ResultEvents.endTryOr(event, Result.ok(function.apply(arg)));
+        } catch (Throwable f) {
+            return Caught.as(event, f, matcher);
         }
     }
 }
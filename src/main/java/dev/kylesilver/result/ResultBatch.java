@@ -0,0 +1,429 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable sequence of outcomes stored column by column rather than as
+ * one {@link Ok} or {@link Err} object per element.
+ * <pre>{@code
+ * ResultBatch.Builder<Order, ParseError> builder = ResultBatch.builder(lines.size());
+ * for (String line : lines) {
+ *     builder.add(parseOrder(line));
+ * }
+ * ResultBatch<Order, ParseError> orders = builder.build();
+ * ResultBatch<Invoice, ParseError> invoices = orders.map(Invoice::from);
+ * Partition<Invoice, ParseError> split = invoices.partition();
+ * }</pre>
+ * A batch holds three arrays: a bitmap with one bit per element that is set
+ * for errors, the values indexed by position, and the errors packed densely
+ * in order. An element's error is found by counting the set bits before it,
+ * using a running count kept per 64 elements, so every lookup is constant
+ * time. Compared to a <code>List&lt;Result&lt;T, E&gt;&gt;</code> this saves an
+ * object per element and the indirection through it, and lets bulk
+ * operations work on one column: {@link #map(Function) map} only writes a new
+ * values array, and {@link #mapErr(Function) mapErr} only a new errors array,
+ * while the other columns are shared with the original batch.
+ * <p>
+ * {@link #get(int)} and {@link #asList()} turn an element back into a
+ * {@link Result} only when it is asked for.
+ * @param <T>
+ *      The type of the {@link Ok} values.
+ * @param <E>
+ *      The type of the {@link Err} values.
+ */
+@EqualsAndHashCode
+public final class ResultBatch<T, E> {
+    private final int size;
+    // bit i is set if element i is an error
+    private final long[] tags;
+    // errors before each word of `tags`, so ranks[w] + bits below i in word w
+    // is the index of the error of element i
+    @EqualsAndHashCode.Exclude
+    private final int[] ranks;
+    // null at the positions of errors
+    private final Object[] values;
+    private final Object[] errors;
+
+    private ResultBatch(int size, long[] tags, int[] ranks, Object[] values, Object[] errors) {
+        this.size = size;
+        this.tags = tags;
+        this.ranks = ranks;
+        this.values = values;
+        this.errors = errors;
+    }
+
+    private ResultBatch(int size, long[] tags, Object[] values, Object[] errors) {
+        this(size, tags, ranks(tags), values, errors);
+    }
+
+    private static int[] ranks(long[] tags) {
+        int[] ranks = new int[tags.length + 1];
+        for (int w = 0; w < tags.length; w++) {
+            ranks[w + 1] = ranks[w] + Long.bitCount(tags[w]);
+        }
+        return ranks;
+    }
+
+    /**
+     * Start building a batch.
+     * @param expectedSize
+     *      how many elements the batch is expected to hold. The builder grows
+     *      past it if needed.
+     * @return
+     *      an empty builder.
+     */
+    public static <T, E> Builder<T, E> builder(int expectedSize) {
+        return new Builder<>(expectedSize);
+    }
+
+    /**
+     * @param results
+     *      the outcomes to store, in order.
+     * @return
+     *      a batch holding the outcomes.
+     */
+    public static <T, E> ResultBatch<T, E> of(List<Result<T, E>> results) {
+        Builder<T, E> builder = builder(results.size());
+        for (Result<T, E> result : results) {
+            builder.add(result);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return
+     *      the number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return
+     *      the number of {@link Err} elements.
+     */
+    public int errCount() {
+        return errors.length;
+    }
+
+    /**
+     * @return
+     *      the number of {@link Ok} elements.
+     */
+    public int okCount() {
+        return size - errors.length;
+    }
+
+    /**
+     * @return
+     *      <code>true</code> if the element at <code>index</code> is an
+     *      {@link Ok}.
+     * @throws IndexOutOfBoundsException
+     *      if <code>index</code> is out of range.
+     */
+    public boolean isOk(int index) {
+        Objects.checkIndex(index, size);
+        return !isErrAt(index);
+    }
+
+    /**
+     * @return
+     *      <code>true</code> if the element at <code>index</code> is an
+     *      {@link Err}.
+     * @throws IndexOutOfBoundsException
+     *      if <code>index</code> is out of range.
+     */
+    public boolean isErr(int index) {
+        Objects.checkIndex(index, size);
+        return isErrAt(index);
+    }
+
+    private boolean isErrAt(int index) {
+        return (tags[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private int rank(int index) {
+        // `1L << index` only uses the low six bits of the index
+        return ranks[index >>> 6] + Long.bitCount(tags[index >>> 6] & ((1L << index) - 1));
+    }
+
+    /**
+     * Read a value in place, without creating a {@link Result}.
+     * @return
+     *      the value of the element at <code>index</code>, or
+     *      <code>null</code> if it is an {@link Err}.
+     * @throws IndexOutOfBoundsException
+     *      if <code>index</code> is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    public T getOrNull(int index) {
+        Objects.checkIndex(index, size);
+        return (T) values[index];
+    }
+
+    /**
+     * Read an error in place, without creating a {@link Result}.
+     * @return
+     *      the error of the element at <code>index</code>, or
+     *      <code>null</code> if it is an {@link Ok}.
+     * @throws IndexOutOfBoundsException
+     *      if <code>index</code> is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    public E errOrNull(int index) {
+        Objects.checkIndex(index, size);
+        return isErrAt(index) ? (E) errors[rank(index)] : null;
+    }
+
+    /**
+     * @return
+     *      the element at <code>index</code> as a {@link Result}, created on
+     *      each call.
+     * @throws IndexOutOfBoundsException
+     *      if <code>index</code> is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    public Result<T, E> get(int index) {
+        Objects.checkIndex(index, size);
+        if (isErrAt(index)) {
+            return Result.err((E) errors[rank(index)]);
+        }
+        return Result.ok((T) values[index]);
+    }
+
+    /**
+     * @return
+     *      a view of the batch as a list of results. Each element is created
+     *      when it is read.
+     */
+    public List<Result<T, E>> asList() {
+        return new ResultList();
+    }
+
+    /**
+     * Apply a transformation to every {@link Ok} value. The bitmap and the
+     * errors are shared with this batch.
+     * @param mapping
+     *      the transformation. It must not return <code>null</code>.
+     * @param <U>
+     *      the type of the transformed values.
+     * @return
+     *      a batch with the transformed values and the same errors.
+     */
+    @SuppressWarnings("unchecked")
+    public <U> ResultBatch<U, E> map(Function<T, U> mapping) {
+        Object[] mapped = new Object[size];
+        for (int w = 0; w < tags.length; w++) {
+            long oks = ~tags[w];
+            if (w == tags.length - 1 && (size & 63) != 0) {
+                oks &= (1L << size) - 1;
+            }
+            int base = w << 6;
+            while (oks != 0) {
+                int i = base + Long.numberOfTrailingZeros(oks);
+                mapped[i] = Objects.requireNonNull(mapping.apply((T) values[i]));
+                oks &= oks - 1;
+            }
+        }
+        return new ResultBatch<>(size, tags, ranks, mapped, errors);
+    }
+
+    /**
+     * Apply a transformation to every {@link Err} value. Only the packed
+     * errors are visited; the bitmap and the values are shared with this
+     * batch.
+     * @param mapping
+     *      the transformation. It must not return <code>null</code>.
+     * @param <F>
+     *      the type of the transformed errors.
+     * @return
+     *      a batch with the same values and the transformed errors.
+     */
+    @SuppressWarnings("unchecked")
+    public <F> ResultBatch<T, F> mapErr(Function<E, F> mapping) {
+        Object[] mapped = new Object[errors.length];
+        for (int i = 0; i < errors.length; i++) {
+            mapped[i] = Objects.requireNonNull(mapping.apply((E) errors[i]));
+        }
+        return new ResultBatch<>(size, tags, ranks, values, mapped);
+    }
+
+    /**
+     * Drop the {@link Ok} elements whose values do not satisfy the
+     * predicate. Errors are always kept, in order, and their column is shared
+     * with this batch.
+     * @param predicate
+     *      decides which values to keep.
+     * @return
+     *      a batch of the kept elements.
+     */
+    @SuppressWarnings("unchecked")
+    public ResultBatch<T, E> filter(Predicate<T> predicate) {
+        long[] kept = new long[tags.length];
+        Object[] keptValues = new Object[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (isErrAt(i)) {
+                kept[count >>> 6] |= 1L << count;
+                count++;
+            } else if (predicate.test((T) values[i])) {
+                keptValues[count++] = values[i];
+            }
+        }
+        if (count == size) {
+            return this;
+        }
+        return new ResultBatch<>(
+                count,
+                Arrays.copyOf(kept, words(count)),
+                Arrays.copyOf(keptValues, count),
+                errors
+        );
+    }
+
+    /**
+     * @return
+     *      the values of the {@link Ok} elements and the errors of the
+     *      {@link Err} elements, each in order. The lists are unmodifiable.
+     */
+    @SuppressWarnings("unchecked")
+    public Partition<T, E> partition() {
+        Object[] oks = new Object[okCount()];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!isErrAt(i)) {
+                oks[count++] = values[i];
+            }
+        }
+        // the errors are never written after construction, so they can be
+        // shared through a read-only view instead of being copied
+        List<T> okList = (List<T>) Collections.unmodifiableList(Arrays.asList(oks));
+        List<E> errList = (List<E>) Collections.unmodifiableList(Arrays.asList(errors));
+        return new Partition<>(okList, errList);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultBatch" + asList();
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    private final class ResultList extends AbstractList<Result<T, E>> implements RandomAccess {
+        @Override
+        public Result<T, E> get(int index) {
+            return ResultBatch.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Accumulates the elements of a {@link ResultBatch}.
+     * @param <T>
+     *      The type of the {@link Ok} values.
+     * @param <E>
+     *      The type of the {@link Err} values.
+     */
+    public static final class Builder<T, E> {
+        private long[] tags;
+        private Object[] values;
+        private Object[] errors;
+        private int size;
+        private int errCount;
+
+        private Builder(int expectedSize) {
+            if (expectedSize < 0) {
+                throw new IllegalArgumentException("expectedSize must not be negative, was " + expectedSize);
+            }
+            this.tags = new long[Math.max(1, words(expectedSize))];
+            this.values = new Object[expectedSize];
+            this.errors = new Object[Math.min(expectedSize, 16)];
+        }
+
+        /**
+         * @param value
+         *      the value of an {@link Ok} element to append.
+         * @return
+         *      this builder.
+         */
+        public Builder<T, E> addOk(T value) {
+            Objects.requireNonNull(value);
+            grow();
+            values[size++] = value;
+            return this;
+        }
+
+        /**
+         * @param error
+         *      the error of an {@link Err} element to append.
+         * @return
+         *      this builder.
+         */
+        public Builder<T, E> addErr(E error) {
+            Objects.requireNonNull(error);
+            grow();
+            if (errCount == errors.length) {
+                errors = Arrays.copyOf(errors, Math.max(16, errCount * 2));
+            }
+            errors[errCount++] = error;
+            tags[size >>> 6] |= 1L << size;
+            size++;
+            return this;
+        }
+
+        /**
+         * @param result
+         *      the element to append.
+         * @return
+         *      this builder.
+         */
+        public Builder<T, E> add(Result<T, E> result) {
+            if (result.isOk()) {
+                return addOk(result.getOrNull());
+            }
+            return addErr(result.getErrOrNull());
+        }
+
+        private void grow() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(16, size + (size >> 1)));
+            }
+            if (size >>> 6 == tags.length) {
+                tags = Arrays.copyOf(tags, tags.length * 2);
+            }
+        }
+
+        /**
+         * @return
+         *      a batch of the elements added so far. The builder can keep
+         *      being used without affecting it.
+         */
+        public ResultBatch<T, E> build() {
+            // a full values array is handed over rather than copied: the next
+            // element added would grow it into a new array anyway. The last
+            // word of the bitmap may still change, so it is always copied.
+            return new ResultBatch<>(
+                    size,
+                    Arrays.copyOf(tags, words(size)),
+                    values.length == size ? values : Arrays.copyOf(values, size),
+                    Arrays.copyOf(errors, errCount)
+            );
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package dev.kylesilver.result;
+
+/**
+ * Reports failures to JDK Flight Recorder, if the runtime has it. The events
+ * themselves live in {@link FlightRecorderEvents}, which is only loaded once
+ * the <code>jdk.jfr</code> module is known to be present, so the library
+ * still works on runtimes that were linked without it.
+ * <p>
+ * Every method here is safe to call on hot paths: while the events are
+ * disabled, which is the default, each call is a constant check and a read
+ * of the event type's enabled flag.
+ */
+final class ResultEvents {
+    private static final boolean AVAILABLE = loadEvents();
+
+    private ResultEvents() {
+    }
+
+    private static boolean loadEvents() {
+        try {
+            Class.forName("dev.kylesilver.result.FlightRecorderEvents", true, ResultEvents.class.getClassLoader());
+            return true;
+        } catch (Throwable missing) {
+            // no jdk.jfr module, or flight recorder could not start
+            return false;
+        }
+    }
+
+    static void errCreated(Object error) {
+        if (AVAILABLE) {
+            FlightRecorderEvents.errCreated(error);
+        }
+    }
+
+    static void unwrapFailed(String method, Object contents) {
+        if (AVAILABLE) {
+            FlightRecorderEvents.unwrapFailed(method, contents);
+        }
+    }
+
+    static void errorTypeMismatch(Object expected, Throwable actual) {
+        if (AVAILABLE) {
+            FlightRecorderEvents.errorTypeMismatch(expected, actual);
+        }
+    }
+
+    /**
+     * @return
+     *      a token to pass to {@link #endTryOr} once the operation is done, or
+     *      <code>null</code> if the event is disabled.
+     */
+    static Object beginTryOr() {
+        return AVAILABLE ? FlightRecorderEvents.beginTryOr() : null;
+    }
+
+    /**
+     * @return
+     *      <code>result</code>, so the call can wrap the return value.
+     */
+    static <T, E> Result<T, E> endTryOr(Object token, Result<T, E> result) {
+        if (token != null) {
+            FlightRecorderEvents.endTryOr(token, result);
+        }
+        return result;
+    }
+
+    static void endTryOr(Object token, Throwable escaped) {
+        if (token != null) {
+            FlightRecorderEvents.endTryOr(token, escaped);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package dev.kylesilver.result;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A reusable chain of {@link Result} combinators. Define the stages once and
+ * apply them to as many inputs as needed:
+ * <pre>{@code
+ * private static final ResultPipeline<String, Integer, String> PARSE_PORT = ResultPipeline.<String, String>start()
+ *     .map(String::trim)
+ *     .andThen(Ports::parse)
+ *     .andThen(Ports::validate)
+ *     .mapErr(e -> "invalid port: " + e);
+ *
+ * Result<Integer, String> port = PARSE_PORT.apply(input);
+ * }</pre>
+ * Applying a pipeline gives the same outcome as calling the equivalent
+ * combinators on a {@link Result} one after another, but the stages run as a
+ * single loop over an unwrapped value or error. No intermediate {@link Ok} or
+ * {@link Err} is created between stages: the final result is built once at the
+ * end, or, if the last stage that ran already returned one, that result is
+ * returned as-is. The only results allocated are the ones returned by
+ * {@link #andThen(Function) andThen} and {@link #orElse(Function) orElse}
+ * stages themselves.
+ * <p>
+ * Because every stage is invoked from the same call site, the JIT cannot
+ * inline the stage functions into the loop. Whether that costs more than the
+ * intermediate results of a chain depends on how well the chain inlines. When
+ * the combinators of {@link Ok} and {@link Err} have seen many different
+ * lambdas, as they do in most applications, they cannot inline theirs either,
+ * and the pipeline and the chain measured within a few nanoseconds of each
+ * other, allocating the same. A chain whose combinators have only ever seen
+ * its own lambdas is fully inlined, and escape analysis removes its
+ * intermediate results: it then measured faster than the pipeline, and on the
+ * error path it also allocated less. See {@code PipelineBenchmark} in the
+ * benchmarks module. The pipeline's advantages are a chain that is defined
+ * once, and a fixed allocation profile that does not depend on inlining.
+ * <p>
+ * A pipeline is not itself a {@link Function}, since its combinators would
+ * clash with {@link Function#andThen(Function)}; use a method reference such
+ * as {@code pipeline::apply} where a function is needed.
+ * <p>
+ * Pipelines are immutable. Adding a stage returns a new pipeline and leaves
+ * the original unchanged, so a common prefix can be shared, and a pipeline
+ * stored in a constant can be applied from any number of threads.
+ * @param <A>
+ *      The type of the input.
+ * @param <T>
+ *      The type of the {@link Ok} value produced by the pipeline.
+ * @param <E>
+ *      The type of the {@link Err} value produced by the pipeline.
+ */
+public final class ResultPipeline<A, T, E> {
+
+    private static final int MAP = 0;
+    private static final int MAP_ERR = 1;
+    private static final int AND_THEN = 2;
+    private static final int OR_ELSE = 3;
+
+    private static final String[] NAMES = {"map", "mapErr", "andThen", "orElse"};
+
+    private static final ResultPipeline<?, ?, ?> EMPTY = new ResultPipeline<>(new int[0], noFunctions());
+
+    // stage `i` is `kinds[i]` applied with `fns[i]`; parallel arrays keep the
+    // loops in `fromOk` and `fromErr` free of any indirection beyond the
+    // function call itself
+    private final int[] kinds;
+    private final Function<Object, Object>[] fns;
+
+    private ResultPipeline(int[] kinds, Function<Object, Object>[] fns) {
+        this.kinds = kinds;
+        this.fns = fns;
+    }
+
+    /**
+     * A pipeline without any stages, which wraps its input in an {@link Ok}.
+     * @param <A>
+     *      the type of the input.
+     * @param <E>
+     *      the type of the errors that later stages may produce.
+     * @return
+     *      an empty pipeline.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, E> ResultPipeline<A, A, E> start() {
+        return (ResultPipeline<A, A, E>) EMPTY;
+    }
+
+    /**
+     * @see Result#map(Function)
+     */
+    public <U> ResultPipeline<A, U, E> map(Function<T, U> mapping) {
+        return append(MAP, mapping);
+    }
+
+    /**
+     * @see Result#mapErr(Function)
+     */
+    public <F> ResultPipeline<A, T, F> mapErr(Function<E, F> mapping) {
+        return append(MAP_ERR, mapping);
+    }
+
+    /**
+     * @see Result#andThen(Function)
+     */
+    public <U> ResultPipeline<A, U, E> andThen(Function<T, Result<U, E>> resultFn) {
+        return append(AND_THEN, resultFn);
+    }
+
+    /**
+     * @see Result#orElse(Function)
+     */
+    public <F> ResultPipeline<A, T, F> orElse(Function<E, Result<T, F>> resultFn) {
+        return append(OR_ELSE, resultFn);
+    }
+
+    /**
+     * Run the pipeline on a value.
+     * @param input
+     *      the value to start with, as if it were wrapped in an {@link Ok}.
+     * @return
+     *      the outcome of the last stage.
+     */
+    public Result<T, E> apply(A input) {
+        return fromOk(0, input, null);
+    }
+
+    /**
+     * Run the pipeline on an existing result, such as the output of
+     * {@link Result#tryOr(CheckedSupplier, Class)}. An {@link Err} input skips
+     * straight to the first {@link #mapErr(Function) mapErr} or
+     * {@link #orElse(Function) orElse} stage.
+     * @param input
+     *      the result to start with.
+     * @return
+     *      the outcome of the last stage. If no stage applies, this is
+     *      <code>input</code> itself.
+     */
+    public Result<T, E> applyTo(Result<A, E> input) {
+        if (input.isOk()) {
+            return fromOk(0, input.getOrNull(), input);
+        }
+        return fromErr(0, input.getErrOrNull(), contextOf(input), input);
+    }
+
+    /**
+     * @return
+     *      the number of stages in the pipeline.
+     */
+    public int size() {
+        return kinds.length;
+    }
+
+    // runs the stages from `i` on a value. `current` is the Result holding
+    // exactly that value, if there is one, so that it can be returned without
+    // building a new one
+    @SuppressWarnings("unchecked")
+    private Result<T, E> fromOk(int i, Object value, Result<?, ?> current) {
+        for (; i < kinds.length; i++) {
+            int kind = kinds[i];
+            if (kind == MAP) {
+                value = fns[i].apply(value);
+                current = null;
+            } else if (kind == AND_THEN) {
+                current = (Result<?, ?>) fns[i].apply(value);
+                if (current.isErr()) {
+                    return fromErr(i + 1, current.getErrOrNull(), contextOf(current), current);
+                }
+                value = current.getOrNull();
+            }
+        }
+        return current != null ? (Result<T, E>) current : Result.ok((T) value);
+    }
+
+    // runs the stages from `i` on an error, with `current` as in `fromOk`.
+    // mapErr stages only replace the bare error, so a run of them builds a
+    // single Err at the end. The context of the Err the error came from is
+    // carried along, since the chain would keep it through mapErr as well
+    @SuppressWarnings("unchecked")
+    private Result<T, E> fromErr(int i, Object error, ErrorContext context, Result<?, ?> current) {
+        for (; i < kinds.length; i++) {
+            int kind = kinds[i];
+            if (kind == MAP_ERR) {
+                error = fns[i].apply(error);
+                current = null;
+            } else if (kind == OR_ELSE) {
+                current = (Result<?, ?>) fns[i].apply(error);
+                if (current.isOk()) {
+                    return fromOk(i + 1, current.getOrNull(), current);
+                }
+                error = current.getErrOrNull();
+                context = contextOf(current);
+            }
+        }
+        if (current != null) {
+            return (Result<T, E>) current;
+        }
+        if (context == null) {
+            return Result.err((E) error);
+        }
+        ResultEvents.errCreated(error);
+        return new Err<>((E) error, context);
+    }
+
+    private static ErrorContext contextOf(Result<?, ?> err) {
+        if (err instanceof LazyResult) {
+            err = ((LazyResult<?, ?>) err).get();
+        }
+        return err instanceof Err ? ((Err<?, ?>) err).errorContext() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object>[] noFunctions() {
+        return (Function<Object, Object>[]) new Function<?, ?>[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U, F> ResultPipeline<A, U, F> append(int kind, Function<?, ?> fn) {
+        int[] appendedKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        Function<Object, Object>[] appendedFns = Arrays.copyOf(fns, fns.length + 1);
+        appendedKinds[kinds.length] = kind;
+        appendedFns[fns.length] = (Function<Object, Object>) fn;
+        return new ResultPipeline<>(appendedKinds, appendedFns);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ResultPipeline[");
+        for (int i = 0; i < kinds.length; i++) {
+            builder.append(i == 0 ? "" : ", ").append(NAMES[kinds[i]]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,476 @@
+package dev.kylesilver.result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Operations over collections and streams of {@link Result} values.
+ * <p>
+ * The most common of these is turning many results into one. {@link
+ * #sequence(Iterable) sequence} converts a {@code List<Result<T, E>>} into a
+ * {@code Result<List<T>, E>}, and {@link #traverse(Iterable, Function)
+ * traverse} does the same while applying a fallible function to each input:
+ * <pre>{@code
+ * Result<List<Integer>, NumberFormatException> parsed = Results.traverse(
+ *     Arrays.asList("1", "2", "3"),
+ *     s -> Result.tryOr(() -> Integer.parseInt(s), NumberFormatException.class)
+ * );
+ * }</pre>
+ * Both stop at the first {@link Err}; the remaining inputs are neither
+ * evaluated nor, for streams, pulled from the source.
+ */
+public final class Results {
+
+    private Results() {
+    }
+
+    /**
+     * Collect the values of a sequence of results into a list, or return the
+     * first error.
+     * @param results
+     *      the results to combine.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      an {@link Ok} containing every value in iteration order, or the
+     *      first {@link Err} that was encountered.
+     */
+    public static <T, E> Result<List<T>, E> sequence(Iterable<Result<T, E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Collect the values of a stream of results into a list, or return the
+     * first error. The stream is consumed lazily and no further elements are
+     * pulled once an {@link Err} is found.
+     * @param results
+     *      the results to combine.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      an {@link Ok} containing every value in encounter order, or the
+     *      first {@link Err} that was encountered.
+     * @see #sequence(Iterable)
+     */
+    public static <T, E> Result<List<T>, E> sequence(Stream<Result<T, E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Apply a fallible function to every input and collect the values, or
+     * return the first error. The function is not applied to any input after
+     * the first one that fails.
+     * @param inputs
+     *      the inputs to the fallible function.
+     * @param resultFn
+     *      the function to apply to each input.
+     * @param <A>
+     *      the type of the inputs.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      an {@link Ok} containing every output in iteration order, or the
+     *      first {@link Err} that was produced.
+     */
+    public static <A, T, E> Result<List<T>, E> traverse(Iterable<A> inputs, Function<A, Result<T, E>> resultFn) {
+        List<T> values = inputs instanceof Collection
+                ? new ArrayList<>(((Collection<A>) inputs).size())
+                : new ArrayList<>();
+        for (A input : inputs) {
+            Result<T, E> result = resultFn.apply(input);
+            if (result.isErr()) {
+                return propagate(result);
+            }
+            values.add(result.getOrNull());
+        }
+        return Result.ok(values);
+    }
+
+    /**
+     * Apply a fallible function to every element of a stream and collect the
+     * values, or return the first error. The stream is consumed lazily and no
+     * further elements are pulled once an {@link Err} is produced.
+     * @param inputs
+     *      the inputs to the fallible function.
+     * @param resultFn
+     *      the function to apply to each input.
+     * @param <A>
+     *      the type of the inputs.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      an {@link Ok} containing every output in encounter order, or the
+     *      first {@link Err} that was produced.
+     * @see #traverse(Iterable, Function)
+     */
+    public static <A, T, E> Result<List<T>, E> traverse(Stream<A> inputs, Function<A, Result<T, E>> resultFn) {
+        Spliterator<A> source = inputs.spliterator();
+        long size = source.getExactSizeIfKnown();
+        Traversal<A, T, E> traversal = new Traversal<>(
+                resultFn,
+                size >= 0 && size <= Integer.MAX_VALUE ? new ArrayList<>((int) size) : new ArrayList<>()
+        );
+        while (traversal.failure == null && source.tryAdvance(traversal)) {
+            // the traversal accumulates values as a side effect
+        }
+        if (traversal.failure != null) {
+            return propagate(traversal.failure);
+        }
+        return Result.ok(traversal.values);
+    }
+
+    /**
+     * Apply a fallible function to every input in parallel and collect the
+     * values, or return the first error.
+     * <p>
+     * The input is split into ranges that are processed as tasks on
+     * <code>pool</code>. Outputs are written to the position of their input,
+     * so the returned list is in input order. Evaluation is fail-fast: once an
+     * {@link Err} is produced, tasks covering later positions stop applying
+     * the function. The returned error is the one at the lowest position,
+     * exactly as {@link #traverse(Iterable, Function)} would have found it, so
+     * the outcome does not depend on scheduling.
+     * @param inputs
+     *      the inputs to the fallible function.
+     * @param resultFn
+     *      the function to apply to each input. It will be called concurrently
+     *      from several threads.
+     * @param pool
+     *      the pool to run on.
+     * @param <A>
+     *      the type of the inputs.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      an {@link Ok} containing a fixed-size list of every output in input
+     *      order, or the {@link Err} produced at the lowest position.
+     */
+    public static <A, T, E> Result<List<T>, E> parallelTraverse(
+            List<A> inputs,
+            Function<A, Result<T, E>> resultFn,
+            ForkJoinPool pool
+    ) {
+        return ParallelTraversal.traverse(inputs, resultFn, pool);
+    }
+
+    /**
+     * {@link #parallelTraverse(List, Function, ForkJoinPool)} on the common
+     * pool.
+     */
+    public static <A, T, E> Result<List<T>, E> parallelTraverse(List<A> inputs, Function<A, Result<T, E>> resultFn) {
+        return parallelTraverse(inputs, resultFn, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Apply a fallible function to every input in parallel and separate the
+     * values from the errors. Every input is evaluated. Both sides of the
+     * returned {@link Partition} are in input order.
+     * @param inputs
+     *      the inputs to the fallible function.
+     * @param resultFn
+     *      the function to apply to each input. It will be called concurrently
+     *      from several threads.
+     * @param pool
+     *      the pool to run on.
+     * @param <A>
+     *      the type of the inputs.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      the values and errors of every output.
+     * @see #parallelTraverse(List, Function, ForkJoinPool)
+     */
+    public static <A, T, E> Partition<T, E> parallelPartition(
+            List<A> inputs,
+            Function<A, Result<T, E>> resultFn,
+            ForkJoinPool pool
+    ) {
+        return ParallelTraversal.partition(inputs, resultFn, pool);
+    }
+
+    /**
+     * {@link #parallelPartition(List, Function, ForkJoinPool)} on the common
+     * pool.
+     */
+    public static <A, T, E> Partition<T, E> parallelPartition(List<A> inputs, Function<A, Result<T, E>> resultFn) {
+        return parallelPartition(inputs, resultFn, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Run independent, fallible operations concurrently and collect their
+     * values, or return the first error.
+     * <p>
+     * Every supplier is started at once. As soon as any of them fails, the
+     * others are cancelled by interrupting their threads and the error is
+     * returned without waiting for them. Because failures are handled in the
+     * order they happen, the returned error is the first to occur, which is
+     * not necessarily the one from the earliest supplier in the list.
+     * <p>
+     * On Java 21 and later each supplier runs on its own virtual thread. On
+     * earlier versions they run on a shared pool of daemon threads.
+     * @param suppliers
+     *      the operations to run.
+     * @param cls
+     *      the exception class which is turned into an {@link Err}.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      an {@link Ok} containing a fixed-size list of every value in the
+     *      order of <code>suppliers</code>, or the first {@link Err}.
+     * @throws InterruptedException
+     *      if the calling thread is interrupted while waiting. The suppliers
+     *      are cancelled before this is thrown.
+     * @throws ErrorTypeMismatchException
+     *      if a supplier throws an exception which is not an instance of
+     *      <code>cls</code>. The other suppliers are cancelled.
+     * @see Result#tryOr(CheckedSupplier, Class)
+     */
+    public static <T, E extends Throwable> Result<List<T>, E> allOf(
+            List<CheckedSupplier<T, E>> suppliers,
+            Class<E> cls
+    ) throws InterruptedException {
+        return allOf(suppliers, cls, FanOutExecutor.EXECUTOR);
+    }
+
+    /**
+     * {@link #allOf(List, Class)} on the given executor.
+     */
+    public static <T, E extends Throwable> Result<List<T>, E> allOf(
+            List<CheckedSupplier<T, E>> suppliers,
+            Class<E> cls,
+            Executor executor
+    ) throws InterruptedException {
+        return FanOut.allOf(suppliers, cls, executor);
+    }
+
+    /**
+     * Run alternative, fallible operations concurrently and return the first
+     * value to arrive. The remaining suppliers are then cancelled by
+     * interrupting their threads.
+     * @param suppliers
+     *      the operations to run. There must be at least one.
+     * @param cls
+     *      the exception class which is turned into an {@link Err}.
+     * @param <T>
+     *      the type of the {@link Ok} value.
+     * @param <E>
+     *      the type of the {@link Err} value.
+     * @return
+     *      the first {@link Ok} to complete or, if every supplier fails, the
+     *      {@link Err} of the earliest supplier in the list.
+     * @throws InterruptedException
+     *      if the calling thread is interrupted while waiting. The suppliers
+     *      are cancelled before this is thrown.
+     * @throws ErrorTypeMismatchException
+     *      if a supplier throws an exception which is not an instance of
+     *      <code>cls</code>. The other suppliers are cancelled.
+     * @see #allOf(List, Class)
+     */
+    public static <T, E extends Throwable> Result<T, E> anyOf(
+            List<CheckedSupplier<T, E>> suppliers,
+            Class<E> cls
+    ) throws InterruptedException {
+        return anyOf(suppliers, cls, FanOutExecutor.EXECUTOR);
+    }
+
+    /**
+     * {@link #anyOf(List, Class)} on the given executor.
+     */
+    public static <T, E extends Throwable> Result<T, E> anyOf(
+            List<CheckedSupplier<T, E>> suppliers,
+            Class<E> cls,
+            Executor executor
+    ) throws InterruptedException {
+        return FanOut.anyOf(suppliers, cls, executor);
+    }
+
+    /**
+     * A {@link Collector} which keeps the value of every {@link Ok} and drops
+     * every {@link Err}.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      a collector producing the {@link Ok} values in encounter order.
+     */
+    public static <T, E> Collector<Result<T, E>, ?, List<T>> oks() {
+        return Collector.of(
+                ArrayList::new,
+                (List<T> values, Result<T, E> result) -> {
+                    if (result.isOk()) {
+                        values.add(result.getOrNull());
+                    }
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                }
+        );
+    }
+
+    /**
+     * A {@link Collector} which separates the values of the {@link Ok} results
+     * from the errors of the {@link Err} results.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      a collector producing a {@link Partition}, with both sides in
+     *      encounter order.
+     */
+    public static <T, E> Collector<Result<T, E>, ?, Partition<T, E>> partitioning() {
+        return Collector.of(
+                () -> new Partition<T, E>(new ArrayList<>(), new ArrayList<>()),
+                Partition::add,
+                Partition::addAll
+        );
+    }
+
+    /**
+     * A {@link Spliterator} over the values of the {@link Ok} results in a
+     * collection, skipping any {@link Err}. Its size estimate is the size of
+     * the collection, which is an upper bound that downstream operations can
+     * use to presize their buffers, and it splits wherever the collection's
+     * own spliterator does.
+     * @param results
+     *      the results to draw values from.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      a spliterator over the {@link Ok} values.
+     * @see #okStream(Collection)
+     */
+    public static <T, E> Spliterator<T> okSpliterator(Collection<Result<T, E>> results) {
+        return new OkSpliterator<>(results.spliterator());
+    }
+
+    /**
+     * A sequential stream over the values of the {@link Ok} results in a
+     * collection.
+     * @param results
+     *      the results to draw values from.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      a stream of the {@link Ok} values.
+     * @see #okSpliterator(Collection)
+     */
+    public static <T, E> Stream<T> okStream(Collection<Result<T, E>> results) {
+        return StreamSupport.stream(okSpliterator(results), false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, U, E> Result<U, E> propagate(Result<T, E> err) {
+        // an Err holds no `T`, so it can be passed along as any value type
+        return (Result<U, E>) err;
+    }
+
+    private static final class Traversal<A, T, E> implements Consumer<A> {
+        private final Function<A, Result<T, E>> resultFn;
+        private final List<T> values;
+        private Result<T, E> failure;
+
+        private Traversal(Function<A, Result<T, E>> resultFn, List<T> values) {
+            this.resultFn = resultFn;
+            this.values = values;
+        }
+
+        @Override
+        public void accept(A input) {
+            Result<T, E> result = resultFn.apply(input);
+            if (result.isErr()) {
+                failure = result;
+            } else {
+                values.add(result.getOrNull());
+            }
+        }
+    }
+
+    private static final class OkSpliterator<T, E> implements Spliterator<T>, Consumer<Result<T, E>> {
+        private final Spliterator<Result<T, E>> source;
+        private T next;
+        private boolean found;
+
+        private OkSpliterator(Spliterator<Result<T, E>> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            found = false;
+            while (!found && source.tryAdvance(this)) {
+                // skip over errors until a value turns up or the source is exhausted
+            }
+            if (!found) {
+                return false;
+            }
+            T value = next;
+            next = null;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void accept(Result<T, E> result) {
+            if (result.isOk()) {
+                next = result.getOrNull();
+                found = true;
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            source.forEachRemaining(result -> {
+                if (result.isOk()) {
+                    action.accept(result.getOrNull());
+                }
+            });
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<Result<T, E>> prefix = source.trySplit();
+            return prefix == null ? null : new OkSpliterator<>(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            // filtering out errors means the exact size is no longer known
+            return source.characteristics() & ~(SIZED | SUBSIZED | SORTED);
+        }
+    }
+}
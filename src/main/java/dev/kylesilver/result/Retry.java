@@ -0,0 +1,65 @@
+package dev.kylesilver.result;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link AsyncResult#retry}. Each attempt runs as a task on
+ * the scheduler, and a failed attempt schedules the next one after the
+ * policy's delay, so no thread is ever held while waiting.
+ */
+final class Retry<T, E> {
+    private final Supplier<Result<T, E>> operation;
+    private final RetryPolicy<E> policy;
+    private final ScheduledExecutorService scheduler;
+    private final CompletableFuture<Result<T, RetryError<E>>> future = new CompletableFuture<>();
+
+    private Retry(Supplier<Result<T, E>> operation, RetryPolicy<E> policy, ScheduledExecutorService scheduler) {
+        this.operation = operation;
+        this.policy = policy;
+        this.scheduler = scheduler;
+    }
+
+    static <T, E> CompletableFuture<Result<T, RetryError<E>>> start(
+            Supplier<Result<T, E>> operation,
+            RetryPolicy<E> policy,
+            ScheduledExecutorService scheduler
+    ) {
+        Retry<T, E> retry = new Retry<>(operation, Objects.requireNonNull(policy), Objects.requireNonNull(scheduler));
+        try {
+            scheduler.execute(() -> retry.attempt(1));
+        } catch (Throwable thrown) {
+            retry.future.completeExceptionally(thrown);
+        }
+        return retry.future;
+    }
+
+    private void attempt(int attempts) {
+        try {
+            Result<T, E> result = operation.get();
+            if (result.isOk()) {
+                future.complete(passValue(result));
+                return;
+            }
+            E error = result.getErrOrNull();
+            if (!policy.shouldRetry(error, attempts)) {
+                future.complete(Result.err(new RetryError<>(error, attempts)));
+                return;
+            }
+            scheduler.schedule(() -> attempt(attempts + 1), policy.delayNanos(attempts), TimeUnit.NANOSECONDS);
+        } catch (Throwable thrown) {
+            // unexpected exceptions, and a scheduler that has been shut down,
+            // end the retries
+            future.completeExceptionally(thrown);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E> Result<T, RetryError<E>> passValue(Result<T, E> ok) {
+        // an Ok holds no error, so its error type is unused
+        return (Result<T, RetryError<E>>) (Result<T, ?>) ok;
+    }
+}
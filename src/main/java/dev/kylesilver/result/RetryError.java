@@ -0,0 +1,40 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * The error produced when {@link AsyncResult#retry(CheckedSupplier, Class,
+ * RetryPolicy, java.util.concurrent.ScheduledExecutorService) retry} gives
+ * up, either because every attempt failed or because the
+ * {@link RetryPolicy} declined to retry an error.
+ * @param <E>
+ *      The type of the error returned by the operation.
+ */
+@ToString
+@EqualsAndHashCode
+public final class RetryError<E> {
+    private final E lastError;
+    private final int attempts;
+
+    RetryError(E lastError, int attempts) {
+        this.lastError = lastError;
+        this.attempts = attempts;
+    }
+
+    /**
+     * @return
+     *      the error returned by the final attempt.
+     */
+    public E lastError() {
+        return lastError;
+    }
+
+    /**
+     * @return
+     *      how many times the operation was run.
+     */
+    public int attempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,201 @@
+package dev.kylesilver.result;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Describes how {@link AsyncResult#retry(CheckedSupplier, Class, RetryPolicy,
+ * ScheduledExecutorService) retry} repeats a failed operation: how many times,
+ * how long to wait in between, and which errors are worth retrying at all.
+ * <pre>{@code
+ * private static final RetryPolicy<IOException> POLICY = RetryPolicy.<IOException>builder()
+ *     .maxAttempts(5)
+ *     .backoff(Duration.ofMillis(100), 2.0, Duration.ofSeconds(5))
+ *     .jitter(0.5)
+ *     .retryIf(e -> !(e instanceof FileNotFoundException))
+ *     .build();
+ * }</pre>
+ * The wait before attempt <code>n + 1</code> is <code>initialDelay *
+ * multiplier<sup>n - 1</sup></code>, capped at <code>maxDelay</code>. With a
+ * jitter of <code>j</code>, each wait is then shortened by a random fraction
+ * of up to <code>j</code>, so that clients which failed together do not all
+ * retry together.
+ * <p>
+ * Policies are immutable and can be shared.
+ * @param <E>
+ *      The type of the errors the policy inspects.
+ */
+public final class RetryPolicy<E> {
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final double multiplier;
+    private final long maxDelayNanos;
+    private final double jitter;
+    private final Predicate<E> retryIf;
+
+    private RetryPolicy(Builder<E> builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayNanos = builder.initialDelay.toNanos();
+        this.multiplier = builder.multiplier;
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.jitter = builder.jitter;
+        this.retryIf = builder.retryIf;
+    }
+
+    /**
+     * Start building a policy. By default it makes 3 attempts, waits 100ms
+     * before the first retry and doubles the wait up to 30s, adds no jitter
+     * and retries every error.
+     * @param <E>
+     *      the type of the errors the policy inspects.
+     * @return
+     *      a builder holding the defaults.
+     */
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return
+     *      the largest number of times the operation is run, including the
+     *      first.
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Decide whether to try again after a failure.
+     */
+    boolean shouldRetry(E error, int attempts) {
+        return attempts < maxAttempts && retryIf.test(error);
+    }
+
+    /**
+     * @return
+     *      how long to wait after the given number of failed attempts, in
+     *      nanoseconds.
+     */
+    long delayNanos(int attempts) {
+        return delayNanos(attempts, jitter == 0 ? 0 : ThreadLocalRandom.current().nextDouble());
+    }
+
+    // split out so the jitter can be tested without randomness
+    long delayNanos(int attempts, double random) {
+        double delay = initialDelayNanos * Math.pow(multiplier, attempts - 1);
+        delay = Math.min(delay, maxDelayNanos);
+        return (long) (delay * (1 - jitter * random));
+    }
+
+    /**
+     * Accumulates the settings of a {@link RetryPolicy}.
+     * @param <E>
+     *      the type of the errors the policy inspects.
+     */
+    public static final class Builder<E> {
+        private int maxAttempts = 3;
+        private Duration initialDelay = Duration.ofMillis(100);
+        private double multiplier = 2;
+        private Duration maxDelay = Duration.ofSeconds(30);
+        private double jitter = 0;
+        private Predicate<E> retryIf = e -> true;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maxAttempts
+         *      the largest number of times to run the operation, including the
+         *      first. 1 disables retries.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>maxAttempts</code> is not positive.
+         */
+        public Builder<E> maxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("maxAttempts must be positive, was " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Wait the same amount of time before every retry.
+         * @param delay
+         *      the wait before each retry.
+         * @return
+         *      this builder.
+         */
+        public Builder<E> fixedDelay(Duration delay) {
+            return backoff(delay, 1, delay);
+        }
+
+        /**
+         * Wait exponentially longer before each retry.
+         * @param initialDelay
+         *      the wait before the first retry.
+         * @param multiplier
+         *      the factor by which each wait exceeds the previous one.
+         * @param maxDelay
+         *      the longest wait.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if a delay is negative or <code>multiplier</code> is less than 1.
+         */
+        public Builder<E> backoff(Duration initialDelay, double multiplier, Duration maxDelay) {
+            if (initialDelay.isNegative() || maxDelay.isNegative()) {
+                throw new IllegalArgumentException("delays must not be negative");
+            }
+            if (!(multiplier >= 1)) {
+                throw new IllegalArgumentException("multiplier must be at least 1, was " + multiplier);
+            }
+            this.initialDelay = initialDelay;
+            this.multiplier = multiplier;
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * @param jitter
+         *      the largest fraction by which a wait is randomly shortened,
+         *      between 0 (no jitter) and 1 (anywhere from no wait to the full
+         *      delay).
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>jitter</code> is outside <code>[0, 1]</code>.
+         */
+        public Builder<E> jitter(double jitter) {
+            if (!(jitter >= 0 && jitter <= 1)) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1, was " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * @param retryIf
+         *      decides whether an error is worth retrying. Errors it rejects
+         *      end the operation immediately.
+         * @return
+         *      this builder.
+         */
+        public Builder<E> retryIf(Predicate<E> retryIf) {
+            this.retryIf = Objects.requireNonNull(retryIf);
+            return this;
+        }
+
+        /**
+         * @return
+         *      an immutable policy with the settings given so far.
+         */
+        public RetryPolicy<E> build() {
+            return new RetryPolicy<>(this);
+        }
+    }
+}
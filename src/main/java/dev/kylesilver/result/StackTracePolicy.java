@@ -0,0 +1,120 @@
+package dev.kylesilver.result;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether the exceptions thrown by this library capture a stack trace.
+ * This applies to {@link UnwrapException} and {@link ErrorTypeMismatchException}.
+ * <p>
+ * Filling in a stack trace is usually the most expensive part of constructing
+ * an exception. Applications which unwrap errors on hot paths, or which
+ * routinely catch {@link UnwrapException} to recover, can trade some
+ * debuggability for throughput by switching to a {@link #sampled(int) sampled}
+ * or {@link #STACKLESS stackless} policy:
+ * <pre>{@code
+ * StackTracePolicy.set(StackTracePolicy.sampled(100));
+ * }</pre>
+ * The initial policy is {@link #FULL}, which matches the behavior of ordinary
+ * Java exceptions. It can also be chosen at startup with the
+ * {@code dev.kylesilver.result.stackTraces} system property, which accepts
+ * {@code full}, {@code stackless}, or a number {@code n} to sample one in every
+ * {@code n} exceptions.
+ */
+public final class StackTracePolicy {
+
+    /**
+     * Every exception captures a stack trace.
+     */
+    public static final StackTracePolicy FULL = new StackTracePolicy(1);
+
+    /**
+     * No exception captures a stack trace.
+     */
+    public static final StackTracePolicy STACKLESS = new StackTracePolicy(0);
+
+    private static final String PROPERTY = "dev.kylesilver.result.stackTraces";
+
+    private static volatile StackTracePolicy current = fromProperty(System.getProperty(PROPERTY));
+
+    private final int oneIn;
+
+    private StackTracePolicy(int oneIn) {
+        this.oneIn = oneIn;
+    }
+
+    /**
+     * A policy under which roughly one in every {@code n} exceptions captures a
+     * stack trace. Sampling is random rather than periodic, so that exceptions
+     * thrown at a regular cadence from different call sites are all equally
+     * likely to be captured.
+     * @param n
+     *      the inverse of the sampling rate. Must be positive.
+     * @return
+     *      a sampling policy.
+     * @throws IllegalArgumentException
+     *      if {@code n} is not positive.
+     */
+    public static StackTracePolicy sampled(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("sampling rate must be positive, but was " + n);
+        }
+        return n == 1 ? FULL : new StackTracePolicy(n);
+    }
+
+    /**
+     * Replace the policy used for all subsequently constructed exceptions.
+     * @param policy
+     *      the new policy.
+     */
+    public static void set(StackTracePolicy policy) {
+        if (policy == null) {
+            throw new NullPointerException("policy");
+        }
+        current = policy;
+    }
+
+    /**
+     * @return
+     *      the policy currently in effect.
+     */
+    public static StackTracePolicy get() {
+        return current;
+    }
+
+    /**
+     * Consult the current policy for a single exception that is about to be
+     * constructed.
+     */
+    static boolean captureStackTrace() {
+        int oneIn = current.oneIn;
+        if (oneIn <= 1) {
+            return oneIn == 1;
+        }
+        return ThreadLocalRandom.current().nextInt(oneIn) == 0;
+    }
+
+    private static StackTracePolicy fromProperty(String value) {
+        if (value == null || value.equalsIgnoreCase("full")) {
+            return FULL;
+        }
+        if (value.equalsIgnoreCase("stackless")) {
+            return STACKLESS;
+        }
+        try {
+            return sampled(Integer.parseInt(value.trim()));
+        } catch (IllegalArgumentException e) {
+            return FULL;
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (oneIn == 1) {
+            return "StackTracePolicy(full)";
+        }
+        if (oneIn == 0) {
+            return "StackTracePolicy(stackless)";
+        }
+        return "StackTracePolicy(sampled 1 in " + oneIn + ")";
+    }
+}
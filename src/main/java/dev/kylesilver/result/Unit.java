@@ -0,0 +1,19 @@
+package dev.kylesilver.result;
+
+/**
+ * The type with a single value, for operations that succeed without producing
+ * anything. <code>Result&lt;Unit, E&gt;</code> reads better than
+ * <code>Result&lt;Void, E&gt;</code>, which cannot hold an {@link Ok} at all
+ * because an {@link Ok} cannot wrap <code>null</code>.
+ * <pre>{@code
+ * Result<Unit, IOException> deleted = Result.tryOr(() -> {
+ *     Files.delete(path);
+ *     return Unit.UNIT;
+ * }, IOException.class);
+ * }</pre>
+ * {@link Result#ok(Object) Result.ok(Unit.UNIT)} always returns the same
+ * instance.
+ */
+public enum Unit {
+    UNIT
+}
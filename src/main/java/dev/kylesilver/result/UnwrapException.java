@@ -1,6 +1,9 @@
 package dev.kylesilver.result;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * This exception is thrown when a value is unwrapped. Unwrapping means that the
@@ -10,9 +13,53 @@ import java.util.function.Function;
  * a default value or coming up with a way to gracefully handle exceptions. You
  * can also use the {@link Result#expect(Function)} method to throw a custom
  * error instead of this one.
+ * <p>
+ * Whether a stack trace is captured is decided by the current
+ * {@link StackTracePolicy}. Messages passed as a {@link Supplier} are only
+ * rendered the first time {@link #getMessage()} is called, so an exception
+ * that is caught and discarded never pays for formatting its message. Until
+ * then the supplier, and anything it captures, is kept alive by the exception.
+ * A serialized exception carries the rendered message rather than the
+ * supplier.
  */
 public class UnwrapException extends Exception {
+    private final transient Supplier<String> messageSupplier;
+    private volatile String message;
+
     public UnwrapException(String s) {
         super(s);
+        this.messageSupplier = null;
+    }
+
+    public UnwrapException(Supplier<String> message) {
+        super();
+        this.messageSupplier = message;
+    }
+
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered != null) {
+            return rendered;
+        }
+        if (messageSupplier == null) {
+            return super.getMessage();
+        }
+        // racing threads may both render the message, but they will arrive at
+        // the same string so there is no need to synchronize
+        rendered = messageSupplier.get();
+        message = rendered;
+        return rendered;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // the supplier is transient, so render the message for it to survive
+        getMessage();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return StackTracePolicy.captureStackTrace() ? super.fillInStackTrace() : this;
     }
 }
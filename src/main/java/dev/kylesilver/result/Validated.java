@@ -0,0 +1,268 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The accumulating counterpart to {@link Result}. Where
+ * {@link Result#andThen(Function) andThen} stops at the first {@link Err},
+ * combining independent validations with {@link #zip(Validated, BiFunction)
+ * zip} or {@link #traverse(Iterable, Function) traverse} keeps going and
+ * collects every error.
+ * <pre>{@code
+ * Validated<User, String> user = validateName(name)
+ *     .zip(validateAge(age), User::new)
+ *     .andAlso(validateEmail(email));
+ * }</pre>
+ * In the example above, a user with a bad name, age and email gets all three
+ * errors back at once.
+ * <p>
+ * A valid instance holds only its value; no error list is ever allocated
+ * while everything succeeds. Errors are kept in an append-only chunked list
+ * which is extended in place as validations are combined, so collecting many
+ * errors never copies the ones already gathered.
+ * @param <T>
+ *      The type of the value of a valid instance.
+ * @param <E>
+ *      The type of the errors of an invalid instance.
+ */
+@ToString
+@EqualsAndHashCode
+public final class Validated<T, E> {
+    private final T value;
+    // null exactly when valid; never empty
+    private final ErrorList<E> errors;
+
+    private Validated(T value, ErrorList<E> errors) {
+        this.value = value;
+        this.errors = errors;
+    }
+
+    /**
+     * Create a successful validation.
+     * @param value
+     *      the validated value.
+     * @return
+     *      a valid instance holding <code>value</code>.
+     */
+    public static <T, E> Validated<T, E> valid(@NotNull T value) {
+        return new Validated<>(Objects.requireNonNull(value), null);
+    }
+
+    /**
+     * Create a failed validation with a single error.
+     * @param error
+     *      the reason validation failed.
+     * @return
+     *      an invalid instance holding <code>error</code>.
+     */
+    public static <T, E> Validated<T, E> invalid(@NotNull E error) {
+        return new Validated<>(null, ErrorList.of(Objects.requireNonNull(error)));
+    }
+
+    /**
+     * Convert a {@link Result} to a validation.
+     * @param result
+     *      the result to convert.
+     * @return
+     *      a valid instance holding the {@link Ok} value, or an invalid
+     *      instance holding the {@link Err} value.
+     */
+    public static <T, E> Validated<T, E> fromResult(Result<T, E> result) {
+        if (result.isErr()) {
+            return new Validated<>(null, ErrorList.of(result.getErrOrNull()));
+        }
+        return new Validated<>(result.getOrNull(), null);
+    }
+
+    /**
+     * Validate every input and collect the values, or every error. Unlike
+     * {@link Results#traverse(Iterable, Function)}, the function is applied to
+     * all inputs even after one of them fails.
+     * @param inputs
+     *      the inputs to validate.
+     * @param validateFn
+     *      the validation to apply to each input.
+     * @param <A>
+     *      the type of the inputs.
+     * @param <T>
+     *      the type of the validated values.
+     * @param <E>
+     *      the type of the errors.
+     * @return
+     *      a valid instance containing every output in iteration order, or an
+     *      invalid instance containing every error in iteration order.
+     */
+    public static <A, T, E> Validated<List<T>, E> traverse(Iterable<A> inputs, Function<A, Validated<T, E>> validateFn) {
+        List<T> values = inputs instanceof Collection
+                ? new ArrayList<>(((Collection<A>) inputs).size())
+                : new ArrayList<>();
+        ErrorList<E> errors = ErrorList.empty();
+        for (A input : inputs) {
+            Validated<T, E> validated = validateFn.apply(input);
+            if (validated.errors != null) {
+                errors = errors.appendAll(validated.errors);
+            } else if (errors.isEmpty()) {
+                // values are useless once anything has failed
+                values.add(validated.value);
+            }
+        }
+        return errors.isEmpty() ? new Validated<>(values, null) : new Validated<>(null, errors);
+    }
+
+    /**
+     * Collect the values of several validations, or every error.
+     * @see #traverse(Iterable, Function)
+     */
+    public static <T, E> Validated<List<T>, E> sequence(Iterable<Validated<T, E>> validations) {
+        return traverse(validations, Function.identity());
+    }
+
+    /**
+     * @return
+     *      <code>true</code> if validation succeeded.
+     */
+    public boolean isValid() {
+        return errors == null;
+    }
+
+    /**
+     * @return
+     *      <code>true</code> if validation failed.
+     */
+    public boolean isInvalid() {
+        return errors != null;
+    }
+
+    /**
+     * @return
+     *      the validated value, or <code>null</code> if validation failed.
+     */
+    public @Nullable T getOrNull() {
+        return value;
+    }
+
+    /**
+     * @return
+     *      an unmodifiable list of every error in the order they were
+     *      collected. It is empty if validation succeeded.
+     */
+    public List<E> errors() {
+        return errorList();
+    }
+
+    private ErrorList<E> errorList() {
+        return errors == null ? ErrorList.empty() : errors;
+    }
+
+    /**
+     * Transform the value of a valid instance.
+     * @param valueFn
+     *      the function to apply to the value.
+     * @return
+     *      a valid instance holding the output of <code>valueFn</code>, or
+     *      this instance's errors.
+     */
+    public <U> Validated<U, E> map(Function<T, U> valueFn) {
+        if (errors != null) {
+            return passErrors();
+        }
+        return valid(valueFn.apply(value));
+    }
+
+    /**
+     * Combine this validation with an independent one. The values are merged
+     * if both succeed; otherwise the errors of both are collected, this
+     * instance's first.
+     * @param other
+     *      the validation to combine with.
+     * @param combineFn
+     *      merges the two values when both are valid.
+     * @return
+     *      a valid instance holding the merged value, or an invalid instance
+     *      holding the errors of both validations.
+     */
+    public <U, R> Validated<R, E> zip(Validated<U, E> other, BiFunction<T, U, R> combineFn) {
+        if (errors == null && other.errors == null) {
+            return valid(combineFn.apply(value, other.value));
+        }
+        return new Validated<>(null, errorList().appendAll(other.errorList()));
+    }
+
+    /**
+     * Require an independent validation to succeed as well, keeping only this
+     * instance's value. This is the accumulating counterpart of
+     * {@link Result#and(Result)}.
+     * @param other
+     *      the validation that must also succeed.
+     * @return
+     *      this instance if both are valid, or an invalid instance holding the
+     *      errors of both validations.
+     */
+    public <U> Validated<T, E> andAlso(Validated<U, E> other) {
+        if (other.errors == null) {
+            return this;
+        }
+        return new Validated<>(null, errorList().appendAll(other.errors));
+    }
+
+    /**
+     * Run a validation that depends on this instance's value. Since it
+     * cannot run without a value, it does not accumulate: an invalid instance
+     * is returned unchanged.
+     * @param validateFn
+     *      the dependent validation.
+     * @return
+     *      the output of <code>validateFn</code>, or this instance's errors.
+     */
+    public <U> Validated<U, E> andThen(Function<T, Validated<U, E>> validateFn) {
+        if (errors != null) {
+            return passErrors();
+        }
+        return validateFn.apply(value);
+    }
+
+    /**
+     * Convert back to a {@link Result}.
+     * @return
+     *      an {@link Ok} holding the value, or an {@link Err} holding every
+     *      error.
+     */
+    public Result<T, List<E>> toResult() {
+        if (errors != null) {
+            return Result.err(errors);
+        }
+        return Result.ok(value);
+    }
+
+    /**
+     * Convert back to a {@link Result}, merging the errors into a single
+     * value.
+     * @param mergeFn
+     *      combines the list of errors into the {@link Err} value.
+     * @return
+     *      an {@link Ok} holding the value, or an {@link Err} holding the
+     *      output of <code>mergeFn</code>.
+     */
+    public <F> Result<T, F> toResult(Function<List<E>, F> mergeFn) {
+        if (errors != null) {
+            return Result.err(mergeFn.apply(errors));
+        }
+        return Result.ok(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> Validated<U, E> passErrors() {
+        // an invalid instance holds no value, so its value type is unused
+        return (Validated<U, E>) this;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.kylesilver.result.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * The counters of a {@link ResultCache} when {@link ResultCache#stats()} was
+ * called. They are read one at a time while other threads may still be using
+ * the cache, so they can be a few operations apart from each other.
+ */
+@ToString
+@EqualsAndHashCode
+public final class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+
+    CacheStats(long hits, long misses, long evictions, long expirations) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+    }
+
+    /**
+     * @return
+     *      the lookups answered from the cache, including those which waited
+     *      for another thread's computation of the same key.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return
+     *      the lookups which ran the function.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * @return
+     *      the entries removed to keep the cache within its maximum size.
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * @return
+     *      the entries removed because they outlived their time to live.
+     */
+    public long expirations() {
+        return expirations;
+    }
+
+    /**
+     * @return
+     *      the share of lookups that were hits, or 1 if there were none.
+     */
+    public double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 1 : (double) hits / total;
+    }
+}
@@ -0,0 +1,376 @@
+package dev.kylesilver.result.cache;
+
+import dev.kylesilver.result.Err;
+import dev.kylesilver.result.Ok;
+import dev.kylesilver.result.Result;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoizes a {@link Result}-returning function, such as a lookup against a
+ * remote service. Both outcomes are cached, each for its own time to live, so
+ * a dependency that is down is not asked again on every call.
+ * <pre>{@code
+ * ResultCache<UserId, User, LookupError> users = ResultCache.builder(client::fetchUser)
+ *     .maximumSize(10_000)
+ *     .expireOkAfter(Duration.ofMinutes(10))
+ *     .expireErrAfter(Duration.ofSeconds(5))
+ *     .build();
+ *
+ * Result<User, LookupError> user = users.get(id);
+ * }</pre>
+ * Concurrent misses on the same key run the function once: the first thread
+ * computes the result on its own stack while the others wait for it. If the
+ * function throws, nothing is cached and the exception is rethrown to every
+ * waiting caller. The function must not look up its own key in the same
+ * cache.
+ * <p>
+ * Once the cache holds more than its maximum size, entries are evicted in
+ * second-chance (CLOCK) order: entries are kept in insertion order, and one
+ * that was read since it was last considered is moved to the back instead of
+ * being evicted. Reads only set a flag, so they never contend on the
+ * eviction order.
+ * @param <K>
+ *      The type of the keys.
+ * @param <V>
+ *      The type of the {@link Ok} values.
+ * @param <E>
+ *      The type of the {@link Err} values.
+ */
+public final class ResultCache<K, V, E> implements Function<K, Result<V, E>> {
+    private final Function<K, Result<V, E>> function;
+    private final int maximumSize;
+    private final long okTtlNanos;
+    private final long errTtlNanos;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<K, Entry<K, V, E>> entries = new ConcurrentHashMap<>();
+    // every live entry appears exactly once; removed entries linger until
+    // the eviction pass reaches them
+    private final Queue<Entry<K, V, E>> order = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private ResultCache(Builder<K, V, E> builder) {
+        this.function = builder.function;
+        this.maximumSize = builder.maximumSize;
+        this.okTtlNanos = builder.okTtlNanos;
+        this.errTtlNanos = builder.errTtlNanos;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Start building a cache in front of <code>function</code>. By default it
+     * holds up to 10,000 entries, keeps {@link Ok} results until they are
+     * evicted, and does not keep {@link Err} results at all.
+     * @param function
+     *      the function to memoize. It must not return <code>null</code>.
+     * @return
+     *      a builder holding the defaults.
+     */
+    public static <K, V, E> Builder<K, V, E> builder(Function<K, Result<V, E>> function) {
+        return new Builder<>(Objects.requireNonNull(function));
+    }
+
+    /**
+     * Look up the result for a key, computing it if it is not cached or has
+     * expired.
+     * @param key
+     *      the argument to the memoized function.
+     * @return
+     *      the cached or freshly computed result.
+     */
+    public Result<V, E> get(K key) {
+        Objects.requireNonNull(key);
+        while (true) {
+            Entry<K, V, E> entry = entries.get(key);
+            if (entry != null) {
+                if (!entry.isDone()) {
+                    hits.increment();
+                    return entry.await();
+                }
+                if (!isExpired(entry, clock.getAsLong())) {
+                    hits.increment();
+                    entry.referenced = true;
+                    return entry.result;
+                }
+                if (remove(entry)) {
+                    expirations.increment();
+                }
+                continue;
+            }
+            Entry<K, V, E> fresh = new Entry<>(key);
+            if (entries.putIfAbsent(key, fresh) != null) {
+                // another thread got there first; use its entry
+                continue;
+            }
+            size.incrementAndGet();
+            misses.increment();
+            return load(fresh);
+        }
+    }
+
+    /**
+     * @see #get(Object)
+     */
+    @Override
+    public Result<V, E> apply(K key) {
+        return get(key);
+    }
+
+    /**
+     * Discard the cached result for a key, if there is one. A computation in
+     * progress is not interrupted, but its result will not be cached.
+     * @param key
+     *      the key to forget.
+     */
+    public void invalidate(K key) {
+        Entry<K, V, E> entry = entries.get(Objects.requireNonNull(key));
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    /**
+     * Discard every cached result.
+     */
+    public void invalidateAll() {
+        for (Entry<K, V, E> entry : entries.values()) {
+            remove(entry);
+        }
+    }
+
+    /**
+     * @return
+     *      the number of entries, including computations in progress and
+     *      expired entries that have not been looked up since.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * @return
+     *      the current hit, miss, eviction and expiration counts.
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    private Result<V, E> load(Entry<K, V, E> entry) {
+        Result<V, E> result;
+        try {
+            result = Objects.requireNonNull(function.apply(entry.key), "cached function returned null");
+        } catch (Throwable thrown) {
+            remove(entry);
+            entry.future.completeExceptionally(thrown);
+            throw thrown;
+        }
+        entry.result = result;
+        entry.loadedAt = clock.getAsLong();
+        entry.ttlNanos = result.isOk() ? okTtlNanos : errTtlNanos;
+        entry.future.complete(result);
+        if (entry.ttlNanos == 0) {
+            // not meant to be kept; the waiters have it now
+            remove(entry);
+        } else {
+            enqueue(entry);
+            evictIfNeeded();
+        }
+        return result;
+    }
+
+    private boolean isExpired(Entry<K, V, E> entry, long now) {
+        return now - entry.loadedAt >= entry.ttlNanos;
+    }
+
+    private boolean remove(Entry<K, V, E> entry) {
+        if (entries.remove(entry.key, entry)) {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private void enqueue(Entry<K, V, E> entry) {
+        order.offer(entry);
+        queued.incrementAndGet();
+    }
+
+    private void evictIfNeeded() {
+        if (size.get() <= maximumSize && queued.get() <= 2L * maximumSize) {
+            return;
+        }
+        // one thread evicts at a time; the others carry on and leave it to
+        // whoever holds the lock
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            // every node is considered at most twice: once to clear its
+            // referenced flag and once more to evict it
+            long budget = 2L * queued.get() + 1;
+            while (budget-- > 0 && (size.get() > maximumSize || queued.get() > 2L * maximumSize)) {
+                Entry<K, V, E> entry = order.poll();
+                if (entry == null) {
+                    break;
+                }
+                queued.decrementAndGet();
+                if (entries.get(entry.key) != entry) {
+                    // invalidated or replaced since it was queued
+                    continue;
+                }
+                if (isExpired(entry, now)) {
+                    if (remove(entry)) {
+                        expirations.increment();
+                    }
+                } else if (size.get() <= maximumSize || entry.referenced) {
+                    // only compacting the queue, or a second chance
+                    entry.referenced = false;
+                    enqueue(entry);
+                } else if (remove(entry)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry<K, V, E> {
+        private final K key;
+        private final CompletableFuture<Result<V, E>> future = new CompletableFuture<>();
+        // written before the future completes, read after it is seen complete
+        private Result<V, E> result;
+        private long loadedAt;
+        private long ttlNanos;
+        private volatile boolean referenced;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+
+        private boolean isDone() {
+            return future.isDone();
+        }
+
+        private Result<V, E> await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Accumulates the settings of a {@link ResultCache}.
+     */
+    public static final class Builder<K, V, E> {
+        private final Function<K, Result<V, E>> function;
+        private int maximumSize = 10_000;
+        private long okTtlNanos = Long.MAX_VALUE;
+        private long errTtlNanos = 0;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(Function<K, Result<V, E>> function) {
+            this.function = function;
+        }
+
+        /**
+         * @param maximumSize
+         *      the most entries to keep. The cache can briefly hold a few
+         *      more while an eviction pass catches up with concurrent
+         *      inserts.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>maximumSize</code> is not positive.
+         */
+        public Builder<K, V, E> maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be positive, was " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param ttl
+         *      how long to keep an {@link Ok} result after it was computed.
+         *      Zero disables caching of successes.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>ttl</code> is negative.
+         */
+        public Builder<K, V, E> expireOkAfter(Duration ttl) {
+            this.okTtlNanos = toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * @param ttl
+         *      how long to keep an {@link Err} result after it was computed.
+         *      Zero, the default, disables negative caching.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>ttl</code> is negative.
+         */
+        public Builder<K, V, E> expireErrAfter(Duration ttl) {
+            this.errTtlNanos = toNanos(ttl);
+            return this;
+        }
+
+        private static long toNanos(Duration ttl) {
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("ttl must not be negative, was " + ttl);
+            }
+            try {
+                return ttl.toNanos();
+            } catch (ArithmeticException tooLong) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        // lets tests control time
+        Builder<K, V, E> clock(LongSupplier nanoTime) {
+            this.clock = Objects.requireNonNull(nanoTime);
+            return this;
+        }
+
+        /**
+         * @return
+         *      a new, empty cache.
+         */
+        public ResultCache<K, V, E> build() {
+            return new ResultCache<>(this);
+        }
+    }
+}
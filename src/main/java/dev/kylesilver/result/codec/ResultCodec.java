@@ -0,0 +1,172 @@
+package dev.kylesilver.result.codec;
+
+import dev.kylesilver.result.Err;
+import dev.kylesilver.result.Ok;
+import dev.kylesilver.result.Result;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A compact binary encoding of {@link Result Results}: one tag byte, 0 for
+ * {@link Ok} and 1 for {@link Err}, followed by the value or error as written
+ * by the corresponding {@link ValueCodec}.
+ * <pre>{@code
+ * ResultCodec<Integer, String> codec = ResultCodec.of(ValueCodecs.INT, ValueCodecs.STRING);
+ * codec.encode(result, buffer);
+ * buffer.flip();
+ * Result<Integer, String> copy = codec.decode(buffer);
+ * }</pre>
+ * Reads and writes go directly against the caller's {@link ByteBuffer},
+ * heap or direct, with no intermediate arrays. A batch of results is written
+ * as a four-byte count followed by each result in turn.
+ * <p>
+ * Codecs are immutable and can be shared between threads, though a buffer
+ * cannot.
+ * @param <T>
+ *      The type of the {@link Ok} values.
+ * @param <E>
+ *      The type of the {@link Err} values.
+ */
+public final class ResultCodec<T, E> implements ValueCodec<Result<T, E>> {
+    static final byte OK = 0;
+    static final byte ERR = 1;
+
+    private final ValueCodec<T> valueCodec;
+    private final ValueCodec<E> errorCodec;
+
+    private ResultCodec(ValueCodec<T> valueCodec, ValueCodec<E> errorCodec) {
+        this.valueCodec = valueCodec;
+        this.errorCodec = errorCodec;
+    }
+
+    /**
+     * @param valueCodec
+     *      encodes the {@link Ok} values.
+     * @param errorCodec
+     *      encodes the {@link Err} values.
+     * @return
+     *      a codec for results made of the two.
+     */
+    public static <T, E> ResultCodec<T, E> of(ValueCodec<T> valueCodec, ValueCodec<E> errorCodec) {
+        return new ResultCodec<>(Objects.requireNonNull(valueCodec), Objects.requireNonNull(errorCodec));
+    }
+
+    @Override
+    public int encodedSize(Result<T, E> result) {
+        if (result.isOk()) {
+            return 1 + valueCodec.encodedSize(result.getOrNull());
+        }
+        return 1 + errorCodec.encodedSize(result.getErrOrNull());
+    }
+
+    /**
+     * Write a result at the buffer's position.
+     * @throws BufferOverflowException
+     *      if the buffer does not have room for the result. The buffer's
+     *      position is left where it was.
+     */
+    @Override
+    public void encode(Result<T, E> result, ByteBuffer buffer) {
+        int start = buffer.position();
+        try {
+            write(result, buffer);
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Read a result at the buffer's position.
+     * @throws BufferUnderflowException
+     *      if the buffer ends before the result does.
+     * @throws IllegalArgumentException
+     *      if the tag byte is neither {@link Ok} nor {@link Err}.
+     */
+    @Override
+    public Result<T, E> decode(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case OK:
+                return Result.ok(valueCodec.decode(buffer));
+            case ERR:
+                return Result.err(errorCodec.decode(buffer));
+            default:
+                throw new IllegalArgumentException("unknown result tag " + tag + " at position " + (buffer.position() - 1));
+        }
+    }
+
+    /**
+     * @return
+     *      the exact number of bytes {@link #encodeAll} will write for the
+     *      results.
+     */
+    public int encodedSize(List<Result<T, E>> results) {
+        int size = Integer.BYTES;
+        for (Result<T, E> result : results) {
+            size += encodedSize(result);
+        }
+        return size;
+    }
+
+    /**
+     * Write a batch of results at the buffer's position: their count, then
+     * each result in order.
+     * @throws BufferOverflowException
+     *      if the buffer does not have room for the whole batch. The buffer's
+     *      position is left where it was.
+     */
+    public void encodeAll(List<Result<T, E>> results, ByteBuffer buffer) {
+        int start = buffer.position();
+        try {
+            buffer.putInt(results.size());
+            for (Result<T, E> result : results) {
+                write(result, buffer);
+            }
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Read a batch of results written by {@link #encodeAll}.
+     * @return
+     *      the results, in the order they were written.
+     * @throws BufferUnderflowException
+     *      if the buffer ends before the batch does.
+     * @throws IllegalArgumentException
+     *      if the count is negative or a tag byte is invalid.
+     */
+    public List<Result<T, E>> decodeAll(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("negative result count " + count);
+        }
+        // every result takes at least its tag byte, so a corrupt count cannot
+        // cause a huge allocation
+        if (count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        List<Result<T, E>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(decode(buffer));
+        }
+        return results;
+    }
+
+    private void write(Result<T, E> result, ByteBuffer buffer) {
+        if (result.isOk()) {
+            buffer.put(OK);
+            valueCodec.encode(result.getOrNull(), buffer);
+        } else {
+            buffer.put(ERR);
+            errorCodec.encode(result.getErrOrNull(), buffer);
+        }
+    }
+}
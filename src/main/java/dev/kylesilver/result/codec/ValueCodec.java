@@ -0,0 +1,48 @@
+package dev.kylesilver.result.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes values of one type to a {@link ByteBuffer} and reads them back. A
+ * codec works at the buffer's current position and advances it past the
+ * bytes it wrote or read, so codecs can be chained to lay out a record.
+ * <p>
+ * The built-in codecs are in {@link ValueCodecs}.
+ * @param <T>
+ *      The type of the encoded values.
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * @param value
+     *      the value that is about to be encoded.
+     * @return
+     *      the exact number of bytes {@link #encode} will write for it.
+     */
+    int encodedSize(T value);
+
+    /**
+     * Write a value at the buffer's position.
+     * @param value
+     *      the value to write.
+     * @param buffer
+     *      the buffer to write to.
+     * @throws BufferOverflowException
+     *      if the buffer does not have room for the value. The bytes written
+     *      before that point are left in place.
+     */
+    void encode(T value, ByteBuffer buffer);
+
+    /**
+     * Read a value at the buffer's position.
+     * @param buffer
+     *      the buffer to read from.
+     * @return
+     *      the decoded value.
+     * @throws BufferUnderflowException
+     *      if the buffer ends before the value does.
+     */
+    T decode(ByteBuffer buffer);
+}
@@ -0,0 +1,162 @@
+package dev.kylesilver.result.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codecs for common value types. All of them use the byte order of the
+ * buffer they are given.
+ */
+public final class ValueCodecs {
+
+    private ValueCodecs() {
+    }
+
+    /**
+     * Four bytes per value.
+     */
+    public static final ValueCodec<Integer> INT = new ValueCodec<>() {
+        @Override
+        public int encodedSize(Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    /**
+     * Eight bytes per value.
+     */
+    public static final ValueCodec<Long> LONG = new ValueCodec<>() {
+        @Override
+        public int encodedSize(Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    /**
+     * Eight bytes per value.
+     */
+    public static final ValueCodec<Double> DOUBLE = new ValueCodec<>() {
+        @Override
+        public int encodedSize(Double value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    /**
+     * A four-byte length followed by the string in UTF-8. Characters are
+     * encoded straight into the buffer rather than through an intermediate
+     * byte array. Unpaired surrogates are written as <code>?</code>, as
+     * {@link String#getBytes} does.
+     */
+    public static final ValueCodec<String> STRING = new ValueCodec<>() {
+        @Override
+        public int encodedSize(String value) {
+            return Integer.BYTES + utf8Length(value);
+        }
+
+        @Override
+        public void encode(String value, ByteBuffer buffer) {
+            int length = utf8Length(value);
+            if (buffer.remaining() < Integer.BYTES + length) {
+                throw new BufferOverflowException();
+            }
+            buffer.putInt(length);
+            writeUtf8(value, buffer);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            } else {
+                ByteBuffer bytes = buffer.slice();
+                bytes.limit(length);
+                value = StandardCharsets.UTF_8.decode(bytes).toString();
+            }
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+    };
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // unpaired, written as '?'
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void writeUtf8(String value, ByteBuffer buffer) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xc0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xf0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3f)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xe0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                buffer.put((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+    }
+}
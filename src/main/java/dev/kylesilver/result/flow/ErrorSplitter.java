@@ -0,0 +1,268 @@
+package dev.kylesilver.result.flow;
+
+import dev.kylesilver.result.Result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link ResultFlows#splitErrors}.
+ * <p>
+ * Values and errors go to two subscribers with independent demand, and there
+ * is no way to know which kind the next upstream element will be. Each
+ * element requested from upstream therefore needs room on both sides: a unit
+ * of demand from the value subscriber in case it is an {@code Ok}, and a free
+ * slot in the current error batch in case it is an {@code Err}. Outstanding
+ * upstream requests never exceed the smaller of the two, which bounds the
+ * internal buffers at one batch of errors plus the elements in flight.
+ * <p>
+ * Every signal, from either side, is handled in a serialized drain loop, so
+ * the state below is only ever touched by one thread at a time.
+ */
+final class ErrorSplitter<T, E> implements Flow.Publisher<T> {
+    private final Flow.Publisher<Result<T, E>> source;
+    private final Flow.Subscriber<? super List<E>> errors;
+    private final int batchSize;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    ErrorSplitter(Flow.Publisher<Result<T, E>> source, Flow.Subscriber<? super List<E>> errors, int batchSize) {
+        this.source = source;
+        this.errors = errors;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            // both subscribers share one upstream subscription and one error
+            // subscriber, so the stream cannot be replayed
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("splitErrors publishers only support a single subscriber"));
+            return;
+        }
+        source.subscribe(new Splitter<>(subscriber, errors, batchSize));
+    }
+
+    private static final class Splitter<T, E> implements Flow.Subscriber<Result<T, E>> {
+        private final Flow.Subscriber<? super T> values;
+        private final Flow.Subscriber<? super List<E>> errors;
+        private final int batchSize;
+
+        // written from any thread, consumed by the drain loop
+        private final Queue<Result<T, E>> arrived = new ConcurrentLinkedQueue<>();
+        private final AtomicLong valueRequests = new AtomicLong();
+        private final AtomicLong errorRequests = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile Flow.Subscription upstream;
+        private volatile boolean upstreamDone;
+        private volatile Throwable upstreamError;
+        private volatile boolean valuesCancelled;
+        private volatile boolean errorsCancelled;
+        private volatile Throwable invalidRequest;
+
+        // only touched inside the drain loop
+        private long valueDemand;
+        private long errorDemand;
+        private long outstanding;
+        private List<E> batch;
+        private boolean terminated;
+
+        private Splitter(Flow.Subscriber<? super T> values, Flow.Subscriber<? super List<E>> errors, int batchSize) {
+            this.values = values;
+            this.errors = errors;
+            this.batchSize = batchSize;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            upstream = subscription;
+            values.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    addRequest(valueRequests, n);
+                }
+
+                @Override
+                public void cancel() {
+                    valuesCancelled = true;
+                    drain();
+                }
+            });
+            errors.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    addRequest(errorRequests, n);
+                }
+
+                @Override
+                public void cancel() {
+                    errorsCancelled = true;
+                    drain();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(Result<T, E> item) {
+            arrived.offer(Objects.requireNonNull(item));
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            upstreamError = throwable;
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        private void addRequest(AtomicLong requests, long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("non-positive request: " + n);
+            } else {
+                requests.getAndAccumulate(n, Splitter::saturatingAdd);
+            }
+            drain();
+        }
+
+        private static long saturatingAdd(long a, long b) {
+            long sum = a + b;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    drainOnce();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainOnce() {
+            valueDemand = saturatingAdd(valueDemand, valueRequests.getAndSet(0));
+            errorDemand = saturatingAdd(errorDemand, errorRequests.getAndSet(0));
+
+            if (invalidRequest != null) {
+                upstream.cancel();
+                terminate(invalidRequest);
+                return;
+            }
+            if (valuesCancelled) {
+                // nobody is left to receive values, so stop the stream and
+                // hand over whatever errors were already collected
+                upstream.cancel();
+                finish(null);
+                return;
+            }
+
+            // read before polling: every element arrives before upstream
+            // completes, so once done is seen the queue holds all that is left
+            boolean done = upstreamDone;
+            Result<T, E> result;
+            while ((result = arrived.poll()) != null) {
+                if (outstanding != Long.MAX_VALUE) {
+                    outstanding--;
+                }
+                if (result.isOk()) {
+                    if (valueDemand != Long.MAX_VALUE) {
+                        valueDemand--;
+                    }
+                    values.onNext(result.getOrNull());
+                } else if (!errorsCancelled) {
+                    result.ifErr(batch::add);
+                    if (batch.size() == batchSize && errorDemand > 0) {
+                        flush();
+                    }
+                }
+            }
+            if (batch.size() == batchSize && errorDemand > 0) {
+                flush();
+            }
+
+            if (done) {
+                finish(upstreamError);
+                return;
+            }
+
+            long errorRoom = errorsCancelled ? Long.MAX_VALUE : batchSize - batch.size();
+            long limit = Math.min(valueDemand, errorRoom);
+            // top up once half of the previous request has arrived rather than
+            // one element at a time
+            if (outstanding < limit && outstanding <= limit / 2) {
+                upstream.request(limit - outstanding);
+                outstanding = limit;
+            }
+        }
+
+        private void finish(Throwable error) {
+            if (batch.isEmpty() || errorsCancelled) {
+                terminate(error);
+            } else if (errorDemand > 0) {
+                flush();
+                terminate(error);
+            }
+            // otherwise wait for the error subscriber to request the final,
+            // partial batch
+        }
+
+        private void flush() {
+            if (batch.isEmpty() || errorsCancelled) {
+                return;
+            }
+            List<E> full = Collections.unmodifiableList(batch);
+            batch = new ArrayList<>(batchSize);
+            if (errorDemand != Long.MAX_VALUE) {
+                errorDemand--;
+            }
+            errors.onNext(full);
+        }
+
+        private void terminate(Throwable error) {
+            terminated = true;
+            arrived.clear();
+            if (error == null) {
+                if (!valuesCancelled) {
+                    values.onComplete();
+                }
+                if (!errorsCancelled) {
+                    errors.onComplete();
+                }
+            } else {
+                if (!valuesCancelled) {
+                    values.onError(error);
+                }
+                if (!errorsCancelled) {
+                    errors.onError(error);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package dev.kylesilver.result.flow;
+
+import dev.kylesilver.result.Result;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link ResultFlows#map}. Every upstream element produces
+ * exactly one downstream element, so demand is passed through unchanged and
+ * nothing is ever buffered.
+ */
+final class MapPublisher<T, U, E> implements Flow.Publisher<Result<U, E>> {
+    private final Flow.Publisher<T> source;
+    private final Function<T, Result<U, E>> resultFn;
+
+    MapPublisher(Flow.Publisher<T> source, Function<T, Result<U, E>> resultFn) {
+        this.source = source;
+        this.resultFn = resultFn;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Result<U, E>> subscriber) {
+        source.subscribe(new MapSubscriber<>(Objects.requireNonNull(subscriber), resultFn));
+    }
+
+    private static final class MapSubscriber<T, U, E> implements Flow.Subscriber<T>, Flow.Subscription {
+        private final Flow.Subscriber<? super Result<U, E>> downstream;
+        private final Function<T, Result<U, E>> resultFn;
+        private Flow.Subscription upstream;
+        private boolean done;
+
+        private MapSubscriber(Flow.Subscriber<? super Result<U, E>> downstream, Function<T, Result<U, E>> resultFn) {
+            this.downstream = downstream;
+            this.resultFn = resultFn;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            Result<U, E> result;
+            try {
+                result = Objects.requireNonNull(resultFn.apply(item), "result function returned null");
+            } catch (Throwable thrown) {
+                // an Err is an ordinary element, but an exception means the
+                // function itself is broken, so the stream cannot continue
+                upstream.cancel();
+                onError(thrown);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+}
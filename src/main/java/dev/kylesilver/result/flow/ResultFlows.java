@@ -0,0 +1,104 @@
+package dev.kylesilver.result.flow;
+
+import dev.kylesilver.result.Err;
+import dev.kylesilver.result.Ok;
+import dev.kylesilver.result.Result;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Adapters between {@link Flow reactive streams} and {@link Result} values.
+ * <p>
+ * In a stream of results, an {@link Err} is an ordinary element. It flows to
+ * the subscriber like any other value and does not terminate the stream, so
+ * one bad element cannot take down a long-running pipeline. Only exceptions
+ * thrown by the adapters' functions, or failures of the source itself, end
+ * the stream with <code>onError</code>.
+ * <pre>{@code
+ * Flow.Publisher<Result<Order, String>> parsed = ResultFlows.map(rawMessages, Order::parse);
+ * Flow.Publisher<Order> orders = ResultFlows.splitErrors(parsed, deadLetters, 100);
+ * orders.subscribe(orderHandler);
+ * }</pre>
+ * All adapters honour backpressure and keep no unbounded buffers.
+ */
+public final class ResultFlows {
+
+    private ResultFlows() {
+    }
+
+    /**
+     * Apply a fallible function to every element of a publisher. Each element
+     * produces exactly one result, so demand passes straight through to the
+     * source and nothing is buffered.
+     * @param source
+     *      the elements to transform.
+     * @param resultFn
+     *      the function to apply to each element. If it throws, the source is
+     *      cancelled and the exception is passed to the subscriber.
+     * @param <T>
+     *      the type of the source elements.
+     * @param <U>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      a publisher of one result per source element, in source order.
+     *      Each subscription subscribes to the source once.
+     */
+    public static <T, U, E> Flow.Publisher<Result<U, E>> map(
+            Flow.Publisher<T> source,
+            Function<T, Result<U, E>> resultFn
+    ) {
+        return new MapPublisher<>(Objects.requireNonNull(source), Objects.requireNonNull(resultFn));
+    }
+
+    /**
+     * Separate a stream of results into a stream of values and batches of
+     * errors. {@link Ok} values are published to whoever subscribes to the
+     * returned publisher, and {@link Err} values are collected into lists of
+     * up to <code>batchSize</code> and sent to <code>errors</code>.
+     * <p>
+     * Both subscribers exert backpressure. An element is only requested from
+     * the source when the value subscriber has outstanding demand and the
+     * current error batch has room, so at most one batch of errors is ever
+     * held in memory. A full batch waits until <code>errors</code> requests
+     * it, and the stream waits with it. A partial batch is sent when the
+     * source completes.
+     * <p>
+     * Completion and failures of the source are passed to both subscribers.
+     * If the value subscriber cancels, the source is cancelled and the error
+     * subscriber receives any remaining errors and then completes. If the
+     * error subscriber cancels, later errors are dropped and the values keep
+     * flowing.
+     * @param source
+     *      the results to separate.
+     * @param errors
+     *      receives batches of errors. It is subscribed when the returned
+     *      publisher is.
+     * @param batchSize
+     *      the largest number of errors per batch.
+     * @param <T>
+     *      the type of the {@link Ok} values.
+     * @param <E>
+     *      the type of the {@link Err} values.
+     * @return
+     *      a publisher of the {@link Ok} values, in source order. It accepts a
+     *      single subscriber, since it shares <code>errors</code> with the
+     *      source subscription.
+     * @throws IllegalArgumentException
+     *      if <code>batchSize</code> is not positive.
+     */
+    public static <T, E> Flow.Publisher<T> splitErrors(
+            Flow.Publisher<Result<T, E>> source,
+            Flow.Subscriber<? super List<E>> errors,
+            int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive, was " + batchSize);
+        }
+        return new ErrorSplitter<>(Objects.requireNonNull(source), Objects.requireNonNull(errors), batchSize);
+    }
+}
@@ -0,0 +1,465 @@
+package dev.kylesilver.result.journal;
+
+import dev.kylesilver.result.Err;
+import dev.kylesilver.result.Ok;
+import dev.kylesilver.result.Result;
+import dev.kylesilver.result.codec.ValueCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only, memory-mapped record of the outcome of each item of a batch
+ * job, so that a job which crashed can resume instead of starting over.
+ * <pre>{@code
+ * try (ResultJournal<Long, Integer, String> journal = ResultJournal.builder(
+ *         path, ValueCodecs.LONG, ValueCodecs.INT, ValueCodecs.STRING).open()) {
+ *     for (long id : itemIds) {
+ *         if (!journal.isCompleted(id)) {
+ *             journal.append(id, process(id));
+ *         }
+ *     }
+ * }
+ * }</pre>
+ * Opening a journal scans it once and remembers which keys last completed
+ * with an {@link Ok} and which last failed with an {@link Err}, so a restarted
+ * job can skip the former and retry the latter. {@link #replay} reads every
+ * record back in order, values included.
+ * <p>
+ * The file is a 16-byte header followed by records laid out as
+ * <code>[length][crc32c][tag][key][value or error]</code>, written
+ * sequentially into fixed-size mapped regions. The length is written last,
+ * so a record only counts once it is complete, and the checksum catches
+ * records torn by a power failure. Records do not span regions; the rest of a
+ * region that cannot fit the next record is marked as padding. Writes reach
+ * the operating system immediately and so survive a crash of the JVM; they
+ * are forced to the storage device every <code>forceEvery</code> records, on
+ * {@link #flush()} and on {@link #close()}.
+ * <p>
+ * Appends are serialized by a lock, so several threads can share a journal.
+ * Only one journal may have a file open at a time; opening a file that another
+ * journal, in this process or another, holds fails with an
+ * {@link IOException}.
+ * @param <K>
+ *      The type of the item keys. They must implement <code>equals</code> and
+ *      <code>hashCode</code>.
+ * @param <T>
+ *      The type of the {@link Ok} values.
+ * @param <E>
+ *      The type of the {@link Err} values.
+ */
+public final class ResultJournal<K, T, E> implements Closeable {
+    private static final int MAGIC = 0x524a524e;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER = 16;
+    private static final int RECORD_HEADER = 8;
+    private static final int PADDING = -1;
+    private static final byte OK = 0;
+    private static final byte ERR = 1;
+
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final ValueCodec<K> keyCodec;
+    private final ValueCodec<T> valueCodec;
+    private final ValueCodec<E> errorCodec;
+    private final int regionSize;
+    private final int forceEvery;
+    private final List<MappedByteBuffer> regions = new ArrayList<>();
+    private final CRC32C checksum = new CRC32C();
+
+    private final Set<K> completed = new HashSet<>();
+    private final Map<K, E> failures = new HashMap<>();
+
+    // the next record goes at `position` in the last region
+    private int position;
+    private long records;
+    private int unforced;
+    private boolean closed;
+
+    private ResultJournal(FileChannel channel, FileLock lock, Builder<K, T, E> builder, int regionSize) {
+        this.channel = channel;
+        this.lock = lock;
+        this.keyCodec = builder.keyCodec;
+        this.valueCodec = builder.valueCodec;
+        this.errorCodec = builder.errorCodec;
+        this.regionSize = regionSize;
+        this.forceEvery = builder.forceEvery;
+    }
+
+    /**
+     * Start configuring a journal. By default it maps the file in 64 MiB
+     * regions and forces it to disk every 10,000 records.
+     * @param file
+     *      the journal file. It is created if it does not exist.
+     * @param keyCodec
+     *      encodes the item keys.
+     * @param valueCodec
+     *      encodes the {@link Ok} values.
+     * @param errorCodec
+     *      encodes the {@link Err} values.
+     * @return
+     *      a builder holding the defaults.
+     */
+    public static <K, T, E> Builder<K, T, E> builder(
+            Path file,
+            ValueCodec<K> keyCodec,
+            ValueCodec<T> valueCodec,
+            ValueCodec<E> errorCodec
+    ) {
+        return new Builder<>(file, keyCodec, valueCodec, errorCodec);
+    }
+
+    private static <K, T, E> ResultJournal<K, T, E> open(Builder<K, T, E> builder) throws IOException {
+        FileChannel channel = FileChannel.open(
+                builder.file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+        try {
+            FileLock lock = lock(channel, builder.file);
+            long size = channel.size();
+            int regionSize = builder.regionSize;
+            if (size == 0) {
+                MappedByteBuffer first = channel.map(FileChannel.MapMode.READ_WRITE, 0, regionSize);
+                first.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, regionSize);
+                first.force();
+            } else {
+                if (size < FILE_HEADER) {
+                    throw new IOException(builder.file + " is not a result journal");
+                }
+                ByteBuffer header = ByteBuffer.allocate(FILE_HEADER);
+                channel.read(header, 0);
+                if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                    throw new IOException(builder.file + " is not a result journal");
+                }
+                // the layout of an existing file wins over the builder
+                regionSize = header.getInt(8);
+            }
+            ResultJournal<K, T, E> journal = new ResultJournal<>(channel, lock, builder, regionSize);
+            journal.recover();
+            return journal;
+        } catch (Throwable thrown) {
+            channel.close();
+            throw thrown;
+        }
+    }
+
+    private static FileLock lock(FileChannel channel, Path file) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // another journal in this process holds the file
+            lock = null;
+        }
+        if (lock == null) {
+            throw new IOException(file + " is already open in another journal");
+        }
+        return lock;
+    }
+
+    /**
+     * Scan the existing records into the index, and scrub whatever follows
+     * the last intact one so that it cannot be mistaken for a record later.
+     */
+    private void recover() throws IOException {
+        long fileSize = channel.size();
+        regions.add(map(0));
+        position = FILE_HEADER;
+        while (true) {
+            ByteBuffer region = regions.get(regions.size() - 1);
+            int length = regionSize - position < RECORD_HEADER ? PADDING : region.getInt(position);
+            if (length == PADDING) {
+                long nextStart = (long) regions.size() * regionSize;
+                if (nextStart >= fileSize) {
+                    break;
+                }
+                regions.add(map(regions.size()));
+                position = 0;
+                continue;
+            }
+            if (!isIntact(region, position, length)) {
+                break;
+            }
+            ByteBuffer payload = payload(region, position, length);
+            byte tag = payload.get();
+            K key = keyCodec.decode(payload);
+            if (tag == OK) {
+                index(key, null);
+            } else {
+                index(key, errorCodec.decode(payload));
+            }
+            records++;
+            position += RECORD_HEADER + length;
+        }
+        // a torn write can leave stray bytes after the end, and even whole
+        // records from pages that reached the disk out of order
+        ByteBuffer region = regions.get(regions.size() - 1);
+        int i = position;
+        for (; i + Long.BYTES <= regionSize; i += Long.BYTES) {
+            region.putLong(i, 0);
+        }
+        for (; i < regionSize; i++) {
+            region.put(i, (byte) 0);
+        }
+        long end = (long) regions.size() * regionSize;
+        if (fileSize > end) {
+            channel.truncate(end);
+        }
+        force();
+    }
+
+    private boolean isIntact(ByteBuffer region, int at, int length) {
+        if (length <= 0 || length > regionSize - at - RECORD_HEADER) {
+            return false;
+        }
+        return region.getInt(at + 4) == crc(region, at, length);
+    }
+
+    private int crc(ByteBuffer region, int at, int length) {
+        checksum.reset();
+        checksum.update(payload(region, at, length));
+        return (int) checksum.getValue();
+    }
+
+    private static ByteBuffer payload(ByteBuffer region, int at, int length) {
+        ByteBuffer payload = region.duplicate();
+        payload.limit(at + RECORD_HEADER + length);
+        payload.position(at + RECORD_HEADER);
+        return payload;
+    }
+
+    private MappedByteBuffer map(int index) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, (long) index * regionSize, regionSize);
+    }
+
+    private void index(K key, E error) {
+        if (error == null) {
+            completed.add(key);
+            failures.remove(key);
+        } else {
+            completed.remove(key);
+            failures.put(key, error);
+        }
+    }
+
+    /**
+     * Record the outcome of an item. A later record for the same key
+     * supersedes earlier ones.
+     * @param key
+     *      the item.
+     * @param result
+     *      its outcome.
+     * @throws IllegalArgumentException
+     *      if the encoded record is larger than a region.
+     * @throws IOException
+     *      if the file could not be extended.
+     */
+    public synchronized void append(K key, Result<T, E> result) throws IOException {
+        ensureOpen();
+        boolean ok = result.isOk();
+        T value = result.getOrNull();
+        E error = ok ? null : result.getErrOrNull();
+        int length = 1 + keyCodec.encodedSize(key) + (ok ? valueCodec.encodedSize(value) : errorCodec.encodedSize(error));
+        if (length > regionSize - FILE_HEADER - RECORD_HEADER) {
+            throw new IllegalArgumentException("a record of " + length + " bytes does not fit in a region of " + regionSize);
+        }
+        MappedByteBuffer region = regions.get(regions.size() - 1);
+        if (regionSize - position < RECORD_HEADER + length) {
+            if (regionSize - position >= Integer.BYTES) {
+                region.putInt(position, PADDING);
+            }
+            region.force();
+            region = map(regions.size());
+            regions.add(region);
+            position = 0;
+        }
+        region.position(position + RECORD_HEADER);
+        region.put(ok ? OK : ERR);
+        keyCodec.encode(key, region);
+        if (ok) {
+            valueCodec.encode(value, region);
+        } else {
+            errorCodec.encode(error, region);
+        }
+        if (region.position() != position + RECORD_HEADER + length) {
+            throw new IllegalStateException("a codec wrote a different number of bytes than its encodedSize");
+        }
+        region.putInt(position + 4, crc(region, position, length));
+        // written last: the record does not exist until it has a length
+        region.putInt(position, length);
+        position += RECORD_HEADER + length;
+        records++;
+        index(key, error);
+        if (++unforced >= forceEvery) {
+            force();
+        }
+    }
+
+    /**
+     * @return
+     *      <code>true</code> if the latest outcome recorded for the key is an
+     *      {@link Ok}.
+     */
+    public synchronized boolean isCompleted(K key) {
+        return completed.contains(key);
+    }
+
+    /**
+     * @return
+     *      the items whose latest outcome is an {@link Err}, with that error.
+     */
+    public synchronized Map<K, E> failures() {
+        return Collections.unmodifiableMap(new HashMap<>(failures));
+    }
+
+    /**
+     * @return
+     *      the number of records in the journal, including superseded ones.
+     */
+    public synchronized long size() {
+        return records;
+    }
+
+    /**
+     * Read every record back, in the order they were appended.
+     * @param visitor
+     *      receives each key with its recorded outcome.
+     */
+    public synchronized void replay(BiConsumer<K, Result<T, E>> visitor) {
+        ensureOpen();
+        for (int r = 0; r < regions.size(); r++) {
+            ByteBuffer region = regions.get(r);
+            int at = r == 0 ? FILE_HEADER : 0;
+            int end = r == regions.size() - 1 ? position : regionSize;
+            while (end - at >= RECORD_HEADER) {
+                int length = region.getInt(at);
+                if (length == PADDING || length == 0) {
+                    break;
+                }
+                ByteBuffer payload = payload(region, at, length);
+                byte tag = payload.get();
+                K key = keyCodec.decode(payload);
+                visitor.accept(key, tag == OK ? Result.ok(valueCodec.decode(payload)) : Result.err(errorCodec.decode(payload)));
+                at += RECORD_HEADER + length;
+            }
+        }
+    }
+
+    /**
+     * Force every record appended so far to the storage device.
+     */
+    public synchronized void flush() {
+        ensureOpen();
+        force();
+    }
+
+    private void force() {
+        regions.get(regions.size() - 1).force();
+        unforced = 0;
+    }
+
+    /**
+     * Force the journal to disk and close the file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        force();
+        closed = true;
+        lock.release();
+        channel.close();
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("the journal is closed");
+        }
+    }
+
+    /**
+     * Accumulates the settings of a {@link ResultJournal}.
+     */
+    public static final class Builder<K, T, E> {
+        private final Path file;
+        private final ValueCodec<K> keyCodec;
+        private final ValueCodec<T> valueCodec;
+        private final ValueCodec<E> errorCodec;
+        private int regionSize = 64 << 20;
+        private int forceEvery = 10_000;
+
+        private Builder(Path file, ValueCodec<K> keyCodec, ValueCodec<T> valueCodec, ValueCodec<E> errorCodec) {
+            this.file = Objects.requireNonNull(file);
+            this.keyCodec = Objects.requireNonNull(keyCodec);
+            this.valueCodec = Objects.requireNonNull(valueCodec);
+            this.errorCodec = Objects.requireNonNull(errorCodec);
+        }
+
+        /**
+         * @param bytes
+         *      how much of the file is mapped at a time, which is also the
+         *      largest possible record. Only used when the file is created;
+         *      an existing journal keeps its own region size.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>bytes</code> is too small to hold a record.
+         */
+        public Builder<K, T, E> regionSize(int bytes) {
+            if (bytes < 64) {
+                throw new IllegalArgumentException("regionSize must be at least 64 bytes, was " + bytes);
+            }
+            this.regionSize = bytes;
+            return this;
+        }
+
+        /**
+         * @param records
+         *      how many appends may pass between forcing the file to disk.
+         *      1 forces after every record.
+         * @return
+         *      this builder.
+         * @throws IllegalArgumentException
+         *      if <code>records</code> is not positive.
+         */
+        public Builder<K, T, E> forceEvery(int records) {
+            if (records <= 0) {
+                throw new IllegalArgumentException("forceEvery must be positive, was " + records);
+            }
+            this.forceEvery = records;
+            return this;
+        }
+
+        /**
+         * Open the journal, scanning any records it already holds.
+         * @return
+         *      the open journal.
+         * @throws IOException
+         *      if the file cannot be opened, is not a journal, or is already
+         *      open in another journal.
+         */
+        public ResultJournal<K, T, E> open() throws IOException {
+            return ResultJournal.open(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package dev.kylesilver.result.metrics;
+
+import dev.kylesilver.result.CheckedSupplier;
+import dev.kylesilver.result.Err;
+import dev.kylesilver.result.ExceptionMatcher;
+import dev.kylesilver.result.Ok;
+import dev.kylesilver.result.Result;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts the outcomes of one named place in the code that produces
+ * {@link Result Results}, and optionally how long producing them takes.
+ * Obtained from a {@link MetricsRegistry}, or {@link #noop()} when metrics
+ * are turned off.
+ * <pre>{@code
+ * private static final CallSiteMetrics LOAD_CONFIG = METRICS_ENABLED
+ *     ? REGISTRY.timedCallSite("loadConfig")
+ *     : CallSiteMetrics.noop();
+ *
+ * Result<Config, IOException> config = LOAD_CONFIG.tryOr(() -> readConfig(path), IOException.class);
+ * }</pre>
+ * Each method returns exactly what the equivalent call without metrics would
+ * return. Exceptions which escape the operation are not counted.
+ */
+public abstract class CallSiteMetrics {
+
+    CallSiteMetrics() {
+    }
+
+    /**
+     * A call site that records nothing. Its methods only run the operation,
+     * so once it is stored in a <code>static final</code> field the JIT
+     * compiles calls through it down to the bare operation.
+     * @return
+     *      the shared no-op call site.
+     */
+    public static CallSiteMetrics noop() {
+        return NoopCallSite.INSTANCE;
+    }
+
+    /**
+     * @return
+     *      the name this call site was registered under.
+     */
+    public abstract String name();
+
+    /**
+     * Run a fallible operation, count its outcome, and time it if this call
+     * site is timed.
+     * @see Result#tryOr(CheckedSupplier, Class)
+     */
+    public <T, E extends Throwable> Result<T, E> tryOr(CheckedSupplier<T, E> supplier, Class<E> cls) {
+        return call(() -> Result.tryOr(supplier, cls));
+    }
+
+    /**
+     * Run a fallible operation whose exceptions are converted by an
+     * {@link ExceptionMatcher}, count its outcome, and time it if this call
+     * site is timed.
+     * @see Result#tryOr(CheckedSupplier, ExceptionMatcher)
+     */
+    public <T, E> Result<T, E> tryOr(CheckedSupplier<T, ? extends Throwable> supplier, ExceptionMatcher<E> matcher) {
+        return call(() -> Result.tryOr(supplier, matcher));
+    }
+
+    /**
+     * Run an operation which produces a result, count its outcome, and time
+     * it if this call site is timed.
+     * @param operation
+     *      the operation to run.
+     * @return
+     *      the result of <code>operation</code>.
+     */
+    public abstract <T, E> Result<T, E> call(Supplier<Result<T, E>> operation);
+
+    /**
+     * Count a result which was produced elsewhere. Nothing is timed.
+     * @param result
+     *      the result to count as an {@link Ok} or as an {@link Err} of the
+     *      class of its error.
+     * @return
+     *      <code>result</code>, so the call can wrap an expression.
+     */
+    public abstract <T, E> Result<T, E> record(Result<T, E> result);
+}
@@ -0,0 +1,75 @@
+package dev.kylesilver.result.metrics;
+
+import dev.kylesilver.result.Err;
+import dev.kylesilver.result.Ok;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The counts recorded at one call site when a
+ * {@link MetricsRegistry#snapshot() snapshot} was taken. Counters are read
+ * one at a time while other threads may still be recording, so the figures
+ * in a snapshot can be a few calls apart from each other.
+ */
+@ToString
+@EqualsAndHashCode
+public final class CallSiteSnapshot {
+    private final String name;
+    private final long oks;
+    private final long errs;
+    private final Map<Class<?>, Long> errsByClass;
+    private final LatencySnapshot latency;
+
+    CallSiteSnapshot(String name, long oks, long errs, Map<Class<?>, Long> errsByClass, LatencySnapshot latency) {
+        this.name = name;
+        this.oks = oks;
+        this.errs = errs;
+        this.errsByClass = errsByClass;
+        this.latency = latency;
+    }
+
+    /**
+     * @return
+     *      the name of the call site.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return
+     *      the number of {@link Ok} results.
+     */
+    public long oks() {
+        return oks;
+    }
+
+    /**
+     * @return
+     *      the number of {@link Err} results.
+     */
+    public long errs() {
+        return errs;
+    }
+
+    /**
+     * @return
+     *      the number of {@link Err} results for each class of error value
+     *      that has been seen, such as the exception class for
+     *      {@link dev.kylesilver.result.Result#tryOr tryOr}.
+     */
+    public Map<Class<?>, Long> errsByClass() {
+        return errsByClass;
+    }
+
+    /**
+     * @return
+     *      the recorded durations, or nothing if the call site is not timed.
+     */
+    public Optional<LatencySnapshot> latency() {
+        return Optional.ofNullable(latency);
+    }
+}
@@ -0,0 +1,42 @@
+package dev.kylesilver.result.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size histogram of durations with one bucket per power of two
+ * nanoseconds. Recording is a leading-zero count and an uncontended
+ * increment, and memory use does not grow with the number of samples.
+ */
+final class LatencyHistogram {
+    static final int BUCKETS = 64;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return
+     *      the bucket holding <code>nanos</code>: 0 for durations of zero or
+     *      less (a clock that went backwards), and otherwise <code>i</code>
+     *      such that <code>2<sup>i-1</sup> &lt;= nanos &lt; 2<sup>i</sup></code>.
+     */
+    static int bucket(long nanos) {
+        return nanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    void record(long nanos) {
+        counts[bucket(nanos)].increment();
+    }
+
+    LatencySnapshot snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts[i].sum();
+        }
+        return new LatencySnapshot(snapshot);
+    }
+}
@@ -0,0 +1,83 @@
+package dev.kylesilver.result.metrics;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * The durations recorded at a timed call site, grouped into buckets by
+ * powers of two. Bucket 0 holds durations of zero, and bucket <code>i</code>
+ * holds durations from <code>2<sup>i-1</sup></code> up to
+ * <code>2<sup>i</sup> - 1</code> nanoseconds.
+ */
+@ToString
+@EqualsAndHashCode
+public final class LatencySnapshot {
+    private final long[] counts;
+
+    LatencySnapshot(long[] counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * @return
+     *      the number of recorded durations.
+     */
+    public long count() {
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        return total;
+    }
+
+    /**
+     * @return
+     *      a copy of the count in each of the 64 buckets.
+     */
+    public long[] bucketCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * @param bucket
+     *      a bucket index between 0 and 63.
+     * @return
+     *      the longest duration, in nanoseconds, that falls in the bucket.
+     */
+    public static long upperBoundNanos(int bucket) {
+        if (bucket < 0 || bucket >= LatencyHistogram.BUCKETS) {
+            throw new IndexOutOfBoundsException("bucket: " + bucket);
+        }
+        return bucket == LatencyHistogram.BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * Estimate a percentile of the recorded durations. Since only the bucket
+     * of each duration is known, the estimate is the upper bound of the
+     * bucket holding the percentile, which is at most twice the true value.
+     * @param percentile
+     *      the percentile to estimate, between 0 and 100.
+     * @return
+     *      the estimate in nanoseconds, or 0 if nothing was recorded.
+     * @throws IllegalArgumentException
+     *      if <code>percentile</code> is out of range.
+     */
+    public long percentileNanos(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100, was " + percentile);
+        }
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundNanos(i);
+            }
+        }
+        return upperBoundNanos(counts.length - 1);
+    }
+}
@@ -0,0 +1,72 @@
+package dev.kylesilver.result.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A collection of named {@link CallSiteMetrics}, read back in process with
+ * {@link #snapshot()}. Nothing is exported anywhere; to publish the figures
+ * to a metrics backend, poll the snapshots and forward them.
+ * <p>
+ * Call sites are meant to be looked up once and stored in a constant. Asking
+ * for the same name twice returns the same call site.
+ */
+public final class MetricsRegistry {
+    private final ConcurrentHashMap<String, RecordingCallSite> callSites = new ConcurrentHashMap<>();
+
+    /**
+     * Get the call site with the given name, creating it if needed. It counts
+     * outcomes but does not time them.
+     * @param name
+     *      identifies the call site in snapshots.
+     * @return
+     *      the call site registered under <code>name</code>.
+     * @throws IllegalArgumentException
+     *      if <code>name</code> is already registered as a timed call site.
+     */
+    public CallSiteMetrics callSite(String name) {
+        return register(name, false);
+    }
+
+    /**
+     * Get the timed call site with the given name, creating it if needed. It
+     * counts outcomes and records how long each operation takes in a
+     * fixed-size histogram.
+     * @param name
+     *      identifies the call site in snapshots.
+     * @return
+     *      the call site registered under <code>name</code>.
+     * @throws IllegalArgumentException
+     *      if <code>name</code> is already registered as an untimed call site.
+     */
+    public CallSiteMetrics timedCallSite(String name) {
+        return register(name, true);
+    }
+
+    private CallSiteMetrics register(String name, boolean timed) {
+        RecordingCallSite callSite = callSites.computeIfAbsent(
+                Objects.requireNonNull(name),
+                n -> new RecordingCallSite(n, timed)
+        );
+        if (callSite.isTimed() != timed) {
+            throw new IllegalArgumentException(
+                    "call site " + name + " is already registered as " + (timed ? "untimed" : "timed"));
+        }
+        return callSite;
+    }
+
+    /**
+     * @return
+     *      the current counts of every registered call site, by name.
+     */
+    public Map<String, CallSiteSnapshot> snapshot() {
+        Map<String, CallSiteSnapshot> snapshot = new TreeMap<>();
+        for (RecordingCallSite callSite : callSites.values()) {
+            snapshot.put(callSite.name(), callSite.snapshot());
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+}
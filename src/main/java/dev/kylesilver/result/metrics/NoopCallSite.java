@@ -0,0 +1,49 @@
+package dev.kylesilver.result.metrics;
+
+import dev.kylesilver.result.CheckedSupplier;
+import dev.kylesilver.result.ExceptionMatcher;
+import dev.kylesilver.result.Result;
+
+import java.util.function.Supplier;
+
+/**
+ * The call site returned by {@link CallSiteMetrics#noop()}. Every method
+ * goes straight to the operation, without even the lambda the base class
+ * would wrap it in.
+ */
+final class NoopCallSite extends CallSiteMetrics {
+    static final NoopCallSite INSTANCE = new NoopCallSite();
+
+    private NoopCallSite() {
+    }
+
+    @Override
+    public String name() {
+        return "noop";
+    }
+
+    @Override
+    public <T, E extends Throwable> Result<T, E> tryOr(CheckedSupplier<T, E> supplier, Class<E> cls) {
+        return Result.tryOr(supplier, cls);
+    }
+
+    @Override
+    public <T, E> Result<T, E> tryOr(CheckedSupplier<T, ? extends Throwable> supplier, ExceptionMatcher<E> matcher) {
+        return Result.tryOr(supplier, matcher);
+    }
+
+    @Override
+    public <T, E> Result<T, E> call(Supplier<Result<T, E>> operation) {
+        return operation.get();
+    }
+
+    @Override
+    public <T, E> Result<T, E> record(Result<T, E> result) {
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CallSiteMetrics.noop()";
+    }
+}
@@ -0,0 +1,94 @@
+package dev.kylesilver.result.metrics;
+
+import dev.kylesilver.result.Result;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A call site registered with a {@link MetricsRegistry}. All counters are
+ * {@link LongAdder}s, so threads recording at the same call site do not
+ * contend with each other.
+ */
+final class RecordingCallSite extends CallSiteMetrics {
+    private final String name;
+    private final LongAdder oks = new LongAdder();
+    private final ConcurrentHashMap<Class<?>, LongAdder> errsByClass = new ConcurrentHashMap<>();
+    // null when the call site is not timed
+    private final LatencyHistogram latency;
+    // allocated once rather than captured on every Err
+    private final Consumer<Object> countErr = this::countErr;
+
+    RecordingCallSite(String name, boolean timed) {
+        this.name = name;
+        this.latency = timed ? new LatencyHistogram() : null;
+    }
+
+    boolean isTimed() {
+        return latency != null;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T, E> Result<T, E> call(Supplier<Result<T, E>> operation) {
+        if (latency == null) {
+            return record(operation.get());
+        }
+        long start = System.nanoTime();
+        Result<T, E> result = operation.get();
+        latency.record(System.nanoTime() - start);
+        return record(result);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, E> Result<T, E> record(Result<T, E> result) {
+        if (result.isOk()) {
+            oks.increment();
+        } else {
+            // every error is an Object, and countErr only looks at its class
+            result.ifErr((Consumer<E>) countErr);
+        }
+        return result;
+    }
+
+    private void countErr(Object error) {
+        Class<?> cls = error.getClass();
+        LongAdder count = errsByClass.get(cls);
+        if (count == null) {
+            count = errsByClass.computeIfAbsent(cls, c -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    CallSiteSnapshot snapshot() {
+        Map<Class<?>, Long> errs = new HashMap<>();
+        long totalErrs = 0;
+        for (Map.Entry<Class<?>, LongAdder> entry : errsByClass.entrySet()) {
+            long count = entry.getValue().sum();
+            errs.put(entry.getKey(), count);
+            totalErrs += count;
+        }
+        return new CallSiteSnapshot(
+                name,
+                oks.sum(),
+                totalErrs,
+                Collections.unmodifiableMap(errs),
+                latency == null ? null : latency.snapshot()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "CallSiteMetrics(" + name + ")";
+    }
+}
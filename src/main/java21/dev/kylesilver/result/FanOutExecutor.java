@@ -0,0 +1,21 @@
+package dev.kylesilver.result;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The default executor for {@link Results#allOf(List, Class)} and
+ * {@link Results#anyOf(List, Class)}. Each supplier runs on its own virtual
+ * thread, so a supplier blocked on I/O does not hold on to a platform thread
+ * and there is no pool to size.
+ */
+final class FanOutExecutor {
+
+    static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("result-fan-out-", 1).factory()
+    );
+
+    private FanOutExecutor() {
+    }
+}
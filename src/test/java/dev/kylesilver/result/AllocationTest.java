@@ -0,0 +1,107 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that operations which only propagate an existing value do not
+ * allocate. Allocation is read from the per-thread counter exposed by
+ * HotSpot, averaged over enough iterations that the cost of reading the
+ * counter itself rounds down to zero.
+ */
+public class AllocationTest {
+
+    private static final int ITERATIONS = 200_000;
+
+    private static final Function<Integer, Integer> INCREMENT = x -> x + 1;
+    private static final Function<String, String> DECORATE = e -> "error: " + e;
+    private static final Function<Integer, Result<Integer, String>> CHAIN = x -> Result.ok(x + 1);
+    private static final Function<String, Result<Integer, String>> RECOVER = e -> Result.ok(e.length());
+    private static final Function<String, Integer> LENGTH = String::length;
+    private static final Consumer<Integer> IGNORE_VALUE = x -> {};
+    private static final Consumer<String> IGNORE_ERROR = e -> {};
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private final Result<Integer, String> ok = Result.ok(42);
+    private final Result<Integer, String> err = Result.err("error");
+    private final Integer fallback = 7;
+    private Object sink;
+
+    @BeforeAll
+    public static void checkSupport() {
+        var bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long bytesPerOperation(Runnable operation) {
+        // warm up first so that one-time costs such as class loading and
+        // lambda linkage are not attributed to the operation
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        long after = threads.getThreadAllocatedBytes(thread);
+        return (after - before) / ITERATIONS;
+    }
+
+    @Test
+    public void testErrPropagation() {
+        assertEquals(0, bytesPerOperation(() -> sink = err.map(INCREMENT)));
+        assertEquals(0, bytesPerOperation(() -> sink = err.andThen(CHAIN)));
+        assertEquals(0, bytesPerOperation(() -> sink = err.and(ok)));
+    }
+
+    @Test
+    public void testOkPropagation() {
+        assertEquals(0, bytesPerOperation(() -> sink = ok.mapErr(DECORATE)));
+        assertEquals(0, bytesPerOperation(() -> sink = ok.orElse(RECOVER)));
+        assertEquals(0, bytesPerOperation(() -> sink = ok.or(err)));
+        assertEquals(0, bytesPerOperation(() -> sink = ok.context("loading %d", fallback)));
+    }
+
+    @Test
+    public void testPrimitivePropagation() {
+        IntResult<String> intErr = IntResult.err("error");
+        IntResult<String> intOk = IntResult.ok(1);
+        assertEquals(0, bytesPerOperation(() -> sink = intErr.map(x -> x + 1)));
+        assertEquals(0, bytesPerOperation(() -> sink = intErr.andThen(IntResult::ok)));
+        assertEquals(0, bytesPerOperation(() -> sink = intOk.mapErr(DECORATE)));
+    }
+
+    @Test
+    public void testNonCapturingTryOr() {
+        // the argument is passed rather than captured, and the boolean
+        // results are shared instances
+        assertEquals(0, bytesPerOperation(() -> sink = Result.tryOr(fallback, x -> x > 0, Exception.class)));
+        assertEquals(0, bytesPerOperation(() -> sink = ok.tryMap(x -> x > 0, String.class)));
+        assertEquals(0, bytesPerOperation(() -> sink = err.tryMap(x -> x > 0, String.class)));
+    }
+
+    @Test
+    public void testAccessors() {
+        assertEquals(0, bytesPerOperation(() -> sink = ok.getOrNull()));
+        assertEquals(0, bytesPerOperation(() -> sink = err.getOrNull()));
+        assertEquals(0, bytesPerOperation(() -> sink = ok.orElse(fallback)));
+        assertEquals(0, bytesPerOperation(() -> sink = err.orElse(fallback)));
+        assertEquals(0, bytesPerOperation(() -> sink = ok.orElseGet(LENGTH)));
+        assertEquals(0, bytesPerOperation(() -> ok.ifOk(IGNORE_VALUE)));
+        assertEquals(0, bytesPerOperation(() -> err.ifErr(IGNORE_ERROR)));
+        assertEquals(0, bytesPerOperation(() -> sink = ok.err()));
+        assertEquals(0, bytesPerOperation(() -> sink = err.ok()));
+    }
+}
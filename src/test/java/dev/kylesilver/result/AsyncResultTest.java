@@ -0,0 +1,153 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncResultTest {
+
+    @Test
+    public void testStagesRunOnCompletion() throws UnwrapException {
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        AtomicBoolean ran = new AtomicBoolean(false);
+        AsyncResult<String, IOException> chained = AsyncResult.fromFuture(source, IOException.class)
+                .map(i -> {
+                    ran.set(true);
+                    return i * 2;
+                })
+                .andThen(i -> AsyncResult.ok("#" + i));
+        // nothing runs until the source completes
+        assertFalse(ran.get());
+        source.complete(21);
+        assertTrue(ran.get());
+        assertEquals("#42", chained.join().unwrap());
+    }
+
+    @Test
+    public void testErrorsTravelAsValues() throws UnwrapException {
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        AsyncResult<Integer, IOException> result = AsyncResult.fromFuture(source, IOException.class)
+                .map(i -> i + 1);
+        IOException thrown = new IOException("disconnected");
+        source.completeExceptionally(new CompletionException(thrown));
+        assertSame(thrown, result.join().unwrapErr());
+    }
+
+    @Test
+    public void testFromFutureUnwrapsExecutionException() throws UnwrapException {
+        IOException thrown = new IOException();
+        CompletableFuture<Integer> source = CompletableFuture.failedFuture(new ExecutionException(thrown));
+        assertSame(thrown, AsyncResult.fromFuture(source, IOException.class).join().unwrapErr());
+    }
+
+    @Test
+    public void testFromFutureMismatch() {
+        CompletableFuture<Integer> source = CompletableFuture.failedFuture(new IllegalStateException());
+        AsyncResult<Integer, IOException> result = AsyncResult.fromFuture(source, IOException.class);
+        CompletionException thrown = assertThrows(CompletionException.class, result::join);
+        assertTrue(thrown.getCause() instanceof ErrorTypeMismatchException);
+        assertTrue(thrown.getCause().getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testFromFutureWithMatcher() throws UnwrapException {
+        ExceptionMatcher<String> matcher = ExceptionMatcher.<String>builder()
+                .on(IOException.class, e -> "io: " + e.getMessage())
+                .build();
+        CompletableFuture<Integer> source = CompletableFuture.failedFuture(new IOException("closed"));
+        assertEquals("io: closed", AsyncResult.fromFuture(source, matcher).join().unwrapErr());
+    }
+
+    @Test
+    public void testAndThenSkipsOnErr() throws UnwrapException {
+        AtomicBoolean ran = new AtomicBoolean(false);
+        AsyncResult<Integer, String> result = AsyncResult.<Integer, String>err("failed")
+                .andThen(i -> {
+                    ran.set(true);
+                    return AsyncResult.ok(i);
+                });
+        assertEquals("failed", result.join().unwrapErr());
+        assertFalse(ran.get());
+    }
+
+    @Test
+    public void testMapErr() throws UnwrapException {
+        assertEquals(6, AsyncResult.<Integer, String>err("failed").mapErr(String::length).join().unwrapErr());
+        assertEquals(1, AsyncResult.<Integer, String>ok(1).mapErr(String::length).join().unwrap());
+    }
+
+    @Test
+    public void testOrElse() throws UnwrapException {
+        AsyncResult<Integer, Integer> recovered = AsyncResult.<Integer, String>err("failed")
+                .orElse(e -> AsyncResult.ok(e.length()));
+        assertEquals(6, recovered.join().unwrap());
+        AsyncResult<Integer, Integer> passed = AsyncResult.<Integer, String>ok(1)
+                .orElse(e -> AsyncResult.err(e.length()));
+        assertEquals(1, passed.join().unwrap());
+    }
+
+    @Test
+    public void testMatch() {
+        assertEquals("ok 1", AsyncResult.<Integer, String>ok(1).match(i -> "ok " + i, e -> "err " + e).join());
+        assertEquals("err x", AsyncResult.<Integer, String>err("x").match(i -> "ok " + i, e -> "err " + e).join());
+
+        AtomicReference<String> seen = new AtomicReference<>();
+        AsyncResult.<Integer, String>err("x").match(
+                (Integer i) -> seen.set("ok"),
+                (String e) -> seen.set("err")
+        ).join();
+        assertEquals("err", seen.get());
+    }
+
+    @Test
+    public void testTryOrAsync() throws UnwrapException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncResult<Integer, NumberFormatException> ok = AsyncResult.tryOrAsync(
+                    () -> Integer.parseInt("12"), NumberFormatException.class, executor);
+            AsyncResult<Integer, NumberFormatException> err = AsyncResult.tryOrAsync(
+                    () -> Integer.parseInt("twelve"), NumberFormatException.class, executor);
+            assertEquals(12, ok.join().unwrap());
+            assertTrue(err.join().isErr());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testToValueFuture() throws Exception {
+        assertEquals(1, AsyncResult.<Integer, String>ok(1).toValueFuture(IllegalStateException::new).get());
+        CompletableFuture<Integer> failed = AsyncResult.<Integer, String>err("failed")
+                .toValueFuture(IllegalStateException::new);
+        ExecutionException thrown = assertThrows(ExecutionException.class, failed::get);
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+        assertEquals("failed", thrown.getCause().getMessage());
+    }
+
+    @Test
+    public void testToFutureIsIndependent() throws UnwrapException {
+        CompletableFuture<Result<Integer, String>> source = new CompletableFuture<>();
+        AsyncResult<Integer, String> result = AsyncResult.fromResultFuture(source);
+        result.toFuture().complete(Result.err("tampered"));
+        source.complete(Result.ok(1));
+        assertEquals(1, result.join().unwrap());
+    }
+
+    @Test
+    public void testExceptionInStageCompletesExceptionally() {
+        AsyncResult<Integer, String> result = AsyncResult.<Integer, String>ok(1).map(i -> {
+            throw new IllegalStateException();
+        });
+        CompletionException thrown = assertThrows(CompletionException.class, result::join);
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+    }
+}
@@ -0,0 +1,82 @@
+package dev.kylesilver.result;
+
+import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanonicalTest {
+
+    private enum Failure {
+        TIMEOUT,
+        REFUSED {
+            @Override
+            public String toString() {
+                return "connection refused";
+            }
+        }
+    }
+
+    @EqualsAndHashCode
+    private static final class NotFound {
+        private final String table;
+
+        private NotFound(String table) {
+            this.table = table;
+        }
+    }
+
+    @Test
+    public void testCommonOksAreShared() {
+        assertSame(Result.ok(true), Result.ok(true));
+        assertSame(Result.ok(false), Result.<Boolean, String>ok(false));
+        assertSame(Result.ok(Unit.UNIT), Result.ok(Unit.UNIT));
+        assertSame(Result.ok(0), Result.ok(0));
+        assertSame(Result.ok(-128), Result.ok(-128));
+        assertSame(Result.ok(127), Result.ok(127));
+        assertSame(Result.ok(TimeUnit.SECONDS), Result.ok(TimeUnit.SECONDS));
+        assertNotSame(Result.ok(true), Result.ok(false));
+        assertNotSame(Result.ok(TimeUnit.SECONDS), Result.ok(TimeUnit.MINUTES));
+    }
+
+    @Test
+    public void testOtherOksAreNot() {
+        assertNotSame(Result.ok(128), Result.ok(128));
+        assertNotSame(Result.ok(-129), Result.ok(-129));
+        assertNotSame(Result.ok(0L), Result.ok(0L));
+        assertNotSame(Result.ok("a"), Result.ok("a"));
+        assertEquals(Result.ok(128), Result.ok(128));
+    }
+
+    @Test
+    public void testEnumErrsAreShared() {
+        assertSame(Result.err(Failure.TIMEOUT), Result.err(Failure.TIMEOUT));
+        // constants with a body are subclasses of the enum
+        assertSame(Result.err(Failure.REFUSED), Result.<Integer, Failure>err(Failure.REFUSED));
+        assertNotSame(Result.err(Failure.TIMEOUT), Result.err(Failure.REFUSED));
+        assertEquals(new Err<>(Failure.REFUSED), Result.err(Failure.REFUSED));
+        assertEquals(Failure.REFUSED, Result.err(Failure.REFUSED).unwrapErr());
+        assertNotSame(Result.err("a"), Result.err("a"));
+    }
+
+    @Test
+    public void testInternedErrs() {
+        Err<Integer, NotFound> users = Result.internedErr(new NotFound("users"));
+        assertSame(users, Result.internedErr(new NotFound("users")));
+        assertNotSame(users, Result.internedErr(new NotFound("orders")));
+        assertEquals(new Err<>(new NotFound("users")), users);
+        assertSame(Result.err(Failure.TIMEOUT), Result.internedErr(Failure.TIMEOUT));
+    }
+
+    @Test
+    public void testSharedInstancesBehave() {
+        Result<Integer, String> zero = Result.ok(0);
+        assertEquals(Result.ok(1), zero.map(i -> i + 1));
+        assertSame(zero, zero.mapErr(String::length));
+        Result<Integer, Failure> failed = Result.err(Failure.TIMEOUT);
+        assertEquals(Result.ok(5), failed.or(Result.ok(5)));
+        assertEquals(Result.err(0), failed.mapErr(Enum::ordinal));
+    }
+}
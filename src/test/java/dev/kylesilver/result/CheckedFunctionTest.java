@@ -0,0 +1,112 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CheckedFunctionTest {
+
+    private static int parse(String input) throws IOException {
+        try {
+            return Integer.parseInt(input);
+        } catch (NumberFormatException e) {
+            throw new IOException("not a number: " + input);
+        }
+    }
+
+    private static int divide(int dividend, int divisor) throws IOException {
+        if (divisor == 0) {
+            throw new IOException("division by zero");
+        }
+        return dividend / divisor;
+    }
+
+    @Test
+    public void testTryOrWithArgument() throws UnwrapException {
+        assertEquals(Result.ok(12), Result.tryOr("12", CheckedFunctionTest::parse, IOException.class));
+        Result<Integer, IOException> failed = Result.tryOr("twelve", CheckedFunctionTest::parse, IOException.class);
+        assertEquals("not a number: twelve", failed.unwrapErr().getMessage());
+        assertThrows(ErrorTypeMismatchException.class, () -> Result.tryOr("x", s -> {
+            throw new IllegalStateException(s);
+        }, IOException.class));
+    }
+
+    @Test
+    public void testTryOrWithTwoArguments() {
+        assertEquals(Result.ok(4), Result.tryOr(12, 3, CheckedFunctionTest::divide, IOException.class));
+        assertTrue(Result.tryOr(12, 0, CheckedFunctionTest::divide, IOException.class).isErr());
+    }
+
+    @Test
+    public void testTryOrWithArgumentAndMatcher() {
+        ExceptionMatcher<String> matcher = ExceptionMatcher.<String>builder()
+                .on(IOException.class, Throwable::getMessage)
+                .build();
+        assertEquals(Result.ok(7), Result.tryOr("7", CheckedFunctionTest::parse, matcher));
+        assertEquals(Result.err("not a number: seven"), Result.tryOr("seven", CheckedFunctionTest::parse, matcher));
+        assertThrows(ErrorTypeMismatchException.class, () -> Result.tryOr("x", s -> {
+            throw new UncheckedIOException(new IOException());
+        }, matcher));
+    }
+
+    @Test
+    public void testTryMap() throws UnwrapException {
+        Result<String, IOException> input = Result.ok("42");
+        assertEquals(Result.ok(42), input.tryMap(CheckedFunctionTest::parse, IOException.class));
+        assertTrue(Result.<String, IOException>ok("x").tryMap(CheckedFunctionTest::parse, IOException.class).isErr());
+        // a subtype of the error type is enough
+        Result<String, Exception> broad = Result.ok("y");
+        assertTrue(broad.tryMap(CheckedFunctionTest::parse, IOException.class).unwrapErr() instanceof IOException);
+        assertThrows(ErrorTypeMismatchException.class,
+                () -> Result.<String, IOException>ok("x").tryMap(s -> {
+                    throw new IllegalStateException();
+                }, FileNotFoundException.class));
+    }
+
+    @Test
+    public void testTryMapWithArgument() {
+        Result<Integer, IOException> dividend = Result.ok(12);
+        assertEquals(Result.ok(6), dividend.tryMap(2, CheckedFunctionTest::divide, IOException.class));
+        assertTrue(dividend.tryMap(0, CheckedFunctionTest::divide, IOException.class).isErr());
+    }
+
+    @Test
+    public void testTryAndThen() {
+        Result<String, Exception> input = Result.ok("8");
+        assertEquals(Result.ok(4), input.tryAndThen(
+                s -> Result.ok(parse(s) / 2), IOException.class));
+        assertEquals(Result.err("odd"), Result.<String, String>ok("9").tryAndThen(
+                s -> Result.err("odd"), String.class));
+        assertEquals(Result.ok(2), input.tryAndThen(4, (s, divisor) -> Result.ok(divide(parse(s), divisor)), IOException.class));
+        assertTrue(input.tryAndThen(0, (s, divisor) -> Result.ok(divide(parse(s), divisor)), IOException.class).isErr());
+    }
+
+    @Test
+    public void testErrSkipsTheFunction() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<String, IOException> err = Result.err(new IOException());
+        assertSame(err, err.tryMap(s -> calls.incrementAndGet(), IOException.class));
+        assertSame(err, err.tryMap(1, (s, x) -> calls.incrementAndGet(), IOException.class));
+        assertSame(err, err.tryAndThen(s -> Result.ok(calls.incrementAndGet()), IOException.class));
+        assertSame(err, err.tryAndThen(1, (s, x) -> Result.ok(calls.incrementAndGet()), IOException.class));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testLazyResultDefers() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, IOException> lazy = LazyResult.<String, IOException>of(() -> Result.ok("5"))
+                .tryMap(s -> {
+                    calls.incrementAndGet();
+                    return parse(s);
+                }, IOException.class);
+        assertEquals(0, calls.get());
+        assertEquals(Result.ok(5), lazy.get());
+        assertEquals(1, calls.get());
+    }
+}
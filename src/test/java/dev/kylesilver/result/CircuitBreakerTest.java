@@ -0,0 +1,217 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private CircuitBreaker<String> breaker() {
+        return CircuitBreaker.builder("open")
+                .failureRate(0.5)
+                .minimumCalls(4)
+                .window(Duration.ofSeconds(10), 10)
+                .openFor(Duration.ofSeconds(5))
+                .clock(now::get)
+                .build();
+    }
+
+    private Result<Integer, String> ok(CircuitBreaker<String> breaker) {
+        return breaker.call(() -> {
+            calls.incrementAndGet();
+            return Result.ok(1);
+        });
+    }
+
+    private Result<Integer, String> err(CircuitBreaker<String> breaker) {
+        return breaker.call(() -> {
+            calls.incrementAndGet();
+            return Result.err("failed");
+        });
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    public void testOpensAtFailureRate() {
+        CircuitBreaker<String> breaker = breaker();
+        ok(breaker);
+        err(breaker);
+        err(breaker);
+        // three calls are fewer than the minimum
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        ok(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(Result.err("failed"), err(breaker));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    public void testOpenRejectsWithoutCalling() {
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            err(breaker);
+        }
+        calls.set(0);
+        Result<Integer, String> first = ok(breaker);
+        Result<Integer, String> second = ok(breaker);
+        assertEquals(Result.err("open"), first);
+        assertSame(first, second);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testHalfOpenTrialCloses() {
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            err(breaker);
+        }
+        advance(Duration.ofSeconds(5));
+        assertEquals(Result.ok(1), ok(breaker));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        // the window was cleared, so a single error does not reopen it
+        err(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void testHalfOpenTrialReopens() {
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            err(breaker);
+        }
+        advance(Duration.ofSeconds(5));
+        assertEquals(Result.err("failed"), err(breaker));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        advance(Duration.ofSeconds(4));
+        assertEquals(Result.err("open"), ok(breaker));
+    }
+
+    @Test
+    public void testNullTrialReopens() {
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            err(breaker);
+        }
+        advance(Duration.ofSeconds(5));
+        assertThrows(NullPointerException.class, () -> breaker.call(() -> null));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        // the next open period ends with another trial rather than staying
+        // half-open for good
+        advance(Duration.ofSeconds(5));
+        assertEquals(Result.ok(1), ok(breaker));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void testOnlyOneTrialAtATime() throws InterruptedException {
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            err(breaker);
+        }
+        advance(Duration.ofSeconds(5));
+        CountDownLatch inTrial = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread trial = new Thread(() -> breaker.call(() -> {
+            inTrial.countDown();
+            await(release);
+            return Result.ok(1);
+        }));
+        trial.start();
+        inTrial.await();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertEquals(Result.err("open"), ok(breaker));
+        release.countDown();
+        trial.join();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void testOldOutcomesExpire() {
+        CircuitBreaker<String> breaker = breaker();
+        for (int i = 0; i < 3; i++) {
+            err(breaker);
+        }
+        advance(Duration.ofSeconds(11));
+        ok(breaker);
+        ok(breaker);
+        ok(breaker);
+        err(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        CircuitBreaker<String> breaker = CircuitBreaker.builder("open")
+                .failureRate(0.5)
+                .minimumCalls(100)
+                .window(Duration.ofHours(1), 10)
+                .build();
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int oks = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        // one error in four stays below the failure rate
+                        int n = i;
+                        Result<Integer, String> result = breaker.call(
+                                () -> n % 4 == 0 ? Result.err("failed") : Result.ok(n));
+                        if (result.isOk()) {
+                            oks++;
+                        }
+                    }
+                    return oks;
+                }));
+            }
+            start.countDown();
+            int oks = 0;
+            for (Future<Integer> future : futures) {
+                oks += future.get(60, TimeUnit.SECONDS);
+            }
+            // every call went through: no outcome was lost and the breaker
+            // never opened
+            assertEquals(threads * perThread * 3 / 4, oks);
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder("open").failureRate(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder("open").minimumCalls(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder("open").window(Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder("open").window(Duration.ofSeconds(1), 0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ErrorContextTest {
+
+    private enum Failure {
+        NOT_FOUND
+    }
+
+    @Test
+    public void testReportRendersFramesOutermostFirst() {
+        Result<Integer, String> result = Result.<Integer, String>err("disk full")
+                .context("writing %s", "users/42.json")
+                .context("saving user %d for %s", 42, "alice")
+                .context(() -> "handling request");
+        assertEquals(Optional.of(String.join("\n",
+                "handling request",
+                "caused by: saving user 42 for alice",
+                "caused by: writing users/42.json",
+                "caused by: disk full"
+        )), result.report());
+        assertEquals(List.of("handling request", "saving user 42 for alice", "writing users/42.json"),
+                ((Err<Integer, String>) result).contextMessages());
+    }
+
+    @Test
+    public void testOkIgnoresContext() {
+        Result<Integer, String> ok = Result.ok(1000);
+        assertSame(ok, ok.context("loading"));
+        assertSame(ok, ok.context("loading %d", 1));
+        assertSame(ok, ok.context("loading %d of %d", 1, 2));
+        assertSame(ok, ok.context(() -> "loading"));
+        assertEquals(Optional.empty(), ok.report());
+    }
+
+    @Test
+    public void testFormattingIsLazy() {
+        AtomicInteger renders = new AtomicInteger();
+        Object counted = new Object() {
+            @Override
+            public String toString() {
+                renders.incrementAndGet();
+                return "item";
+            }
+        };
+        Result<Integer, String> result = Result.<Integer, String>err("failed")
+                .context("loading %s", counted)
+                .context(() -> "supplied " + renders.incrementAndGet());
+        assertEquals(0, renders.get());
+        result.report();
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    public void testContextIsNotPartOfEquality() {
+        Result<Integer, Failure> plain = Result.err(Failure.NOT_FOUND);
+        Result<Integer, Failure> described = plain.context("loading user");
+        assertEquals(plain, described);
+        assertEquals(plain.hashCode(), described.hashCode());
+        assertEquals(plain.toString(), described.toString());
+        // the shared instance is not modified
+        assertEquals(List.of(), ((Err<Integer, Failure>) Result.<Integer, Failure>err(Failure.NOT_FOUND)).contextMessages());
+    }
+
+    @Test
+    public void testFramesAreShared() {
+        Result<Integer, String> base = Result.<Integer, String>err("failed").context("inner");
+        Result<Integer, String> left = base.context("left");
+        Result<Integer, String> right = base.context("right");
+        assertEquals("left\ncaused by: inner\ncaused by: failed", left.report().orElseThrow());
+        assertEquals("right\ncaused by: inner\ncaused by: failed", right.report().orElseThrow());
+        assertEquals("inner\ncaused by: failed", base.report().orElseThrow());
+    }
+
+    @Test
+    public void testContextSurvivesTransformations() {
+        Result<Integer, IOException> result = Result.<Integer, IOException>err(new IOException("closed"))
+                .context("reading config")
+                .map(x -> x + 1)
+                .andThen(x -> Result.ok(x * 2));
+        Result<Integer, String> mapped = result.mapErr(Throwable::getMessage);
+        assertEquals("reading config\ncaused by: closed", mapped.report().orElseThrow());
+    }
+
+    @Test
+    public void testContextSurvivesPipelines() {
+        ResultPipeline<String, Integer, String> pipeline = ResultPipeline.<String, IOException>start()
+                .andThen(path -> Result.<Integer, IOException>err(new IOException("closed")).context("reading %s", path))
+                .map(x -> x + 1)
+                .mapErr(Throwable::getMessage)
+                .mapErr(e -> "error: " + e);
+        Result<Integer, String> handWritten = Result.<String, IOException>ok("config.json")
+                .andThen(path -> Result.<Integer, IOException>err(new IOException("closed")).context("reading %s", path))
+                .map(x -> x + 1)
+                .mapErr(Throwable::getMessage)
+                .mapErr(e -> "error: " + e);
+        assertEquals("reading config.json\ncaused by: error: closed", pipeline.apply("config.json").report().orElseThrow());
+        assertEquals(handWritten.report(), pipeline.apply("config.json").report());
+        ResultPipeline<String, String, String> decorate = ResultPipeline.<String, String>start().mapErr(e -> "error: " + e);
+        Result<String, String> input = Result.<String, String>err("missing").context("opening");
+        assertEquals("opening\ncaused by: error: missing", decorate.applyTo(input).report().orElseThrow());
+    }
+
+    @Test
+    public void testUnwrapMessagesIncludeContext() {
+        Result<Integer, String> result = Result.<Integer, String>err("timeout")
+                .context("fetching %s", "profile")
+                .context("rendering page");
+        UnwrapException unwrap = assertThrows(UnwrapException.class, result::unwrap);
+        assertTrue(unwrap.getMessage().endsWith("timeout\ncontext:\n    rendering page\n    fetching profile"),
+                unwrap.getMessage());
+        UnwrapException expect = assertThrows(UnwrapException.class, () -> result.expect("no profile"));
+        assertEquals("no profile\ncontext:\n    rendering page\n    fetching profile", expect.getMessage());
+        UnwrapException plain = assertThrows(UnwrapException.class, () -> Result.err("timeout").expect("no profile"));
+        assertEquals("no profile", plain.getMessage());
+    }
+
+    @Test
+    public void testLazyResultContext() throws UnwrapException {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> lazy = LazyResult.<Integer, String>of(() -> {
+            calls.incrementAndGet();
+            return Result.err("failed");
+        }).context("loading");
+        assertEquals(0, calls.get());
+        assertEquals("loading\ncaused by: failed", lazy.report().orElseThrow());
+        assertEquals("failed", lazy.unwrapErr());
+    }
+}
@@ -0,0 +1,102 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExceptionMatcherTest {
+
+    enum LoadError {
+        MISSING,
+        IO,
+        TIMEOUT
+    }
+
+    private static final ExceptionMatcher<LoadError> LOAD_ERRORS = ExceptionMatcher.<LoadError>builder()
+            .on(FileNotFoundException.class, e -> LoadError.MISSING)
+            .on(IOException.class, e -> LoadError.IO)
+            .on(TimeoutException.class, e -> LoadError.TIMEOUT)
+            .build();
+
+    @Test
+    public void testTryOrMultipleClasses() throws UnwrapException {
+        Result<Integer, Exception> ok = Result.tryOr(() -> 1, IOException.class, TimeoutException.class);
+        assertEquals(Result.ok(1), ok);
+
+        Result<Integer, Exception> io = Result.tryOr(
+                () -> { throw new IOException("io"); },
+                IOException.class,
+                TimeoutException.class
+        );
+        assertInstanceOf(IOException.class, io.unwrapErr());
+
+        Result<Integer, Exception> timeout = Result.tryOr(
+                () -> { throw new TimeoutException("timeout"); },
+                IOException.class,
+                TimeoutException.class
+        );
+        assertInstanceOf(TimeoutException.class, timeout.unwrapErr());
+
+        var mismatch = assertThrows(ErrorTypeMismatchException.class, () -> Result.tryOr(
+                () -> { throw new ArithmeticException("unexpected"); },
+                IOException.class,
+                TimeoutException.class
+        ));
+        assertInstanceOf(ArithmeticException.class, mismatch.getCause());
+        assertTrue(mismatch.getMessage().contains("one of [class java.io.IOException, class java.util.concurrent.TimeoutException]"));
+    }
+
+    @Test
+    public void testTryOrMatcher() {
+        assertEquals(Result.ok("fine"), Result.tryOr(() -> "fine", LOAD_ERRORS));
+        assertEquals(Result.err(LoadError.MISSING), Result.tryOr(() -> { throw new FileNotFoundException(); }, LOAD_ERRORS));
+        assertEquals(Result.err(LoadError.IO), Result.tryOr(() -> { throw new IOException(); }, LOAD_ERRORS));
+        assertEquals(Result.err(LoadError.TIMEOUT), Result.tryOr(() -> { throw new TimeoutException(); }, LOAD_ERRORS));
+        assertThrows(ErrorTypeMismatchException.class, () -> Result.tryOr(() -> { throw new IllegalStateException(); }, LOAD_ERRORS));
+    }
+
+    @Test
+    public void testRulesAreTriedInOrder() {
+        ExceptionMatcher<LoadError> broadFirst = ExceptionMatcher.<LoadError>builder()
+                .on(IOException.class, e -> LoadError.IO)
+                .on(FileNotFoundException.class, e -> LoadError.MISSING)
+                .build();
+        assertEquals(Result.err(LoadError.IO), Result.tryOr(() -> { throw new FileNotFoundException(); }, broadFirst));
+    }
+
+    @Test
+    public void testResolutionIsCachedPerClass() {
+        int[] lookups = new int[1];
+        ExceptionMatcher<String> counting = ExceptionMatcher.<String>builder()
+                .rule(IOException.class, type -> {
+                    lookups[0]++;
+                    return IOException.class.isAssignableFrom(type);
+                }, Throwable::getMessage)
+                .build();
+        for (int i = 0; i < 3; i++) {
+            int n = i;
+            assertEquals(Result.err("io " + n), Result.tryOr(() -> { throw new IOException("io " + n); }, counting));
+        }
+        assertEquals(1, lookups[0]);
+        assertEquals(Result.err("missing"), Result.tryOr(() -> { throw new FileNotFoundException("missing"); }, counting));
+        assertEquals(Result.err("missing"), Result.tryOr(() -> { throw new FileNotFoundException("missing"); }, counting));
+        assertEquals(2, lookups[0]);
+        // classes no rule accepts are cached as well
+        assertThrows(ErrorTypeMismatchException.class, () -> Result.tryOr(() -> { throw new TimeoutException(); }, counting));
+        assertThrows(ErrorTypeMismatchException.class, () -> Result.tryOr(() -> { throw new TimeoutException(); }, counting));
+        assertEquals(3, lookups[0]);
+    }
+
+    @Test
+    public void testOf() throws UnwrapException {
+        ExceptionMatcher<Exception> matcher = ExceptionMatcher.of(IOException.class, TimeoutException.class);
+        assertEquals(List.of(IOException.class, TimeoutException.class), matcher.classes());
+        var timeout = new TimeoutException();
+        assertSame(timeout, Result.tryOr(() -> { throw timeout; }, matcher).unwrapErr());
+    }
+}
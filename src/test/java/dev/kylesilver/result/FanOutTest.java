@@ -0,0 +1,131 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FanOutTest {
+
+    private static CheckedSupplier<Integer, IOException> blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+        return () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return -1;
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void testAllOfKeepsOrder() throws Exception {
+        CheckedSupplier<Integer, IOException> slow = () -> {
+            pause(50);
+            return 1;
+        };
+        List<CheckedSupplier<Integer, IOException>> suppliers = List.of(slow, () -> 2, () -> 3);
+        assertEquals(List.of(1, 2, 3), Results.allOf(suppliers, IOException.class).unwrap());
+    }
+
+    @Test
+    public void testAllOfEmpty() throws Exception {
+        assertEquals(List.of(), Results.allOf(Collections.<CheckedSupplier<Integer, IOException>>emptyList(), IOException.class).unwrap());
+    }
+
+    @Test
+    public void testAllOfCancelsSiblingsOnErr() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        IOException thrown = new IOException("failed");
+        CheckedSupplier<Integer, IOException> failing = () -> {
+            await(started);
+            throw thrown;
+        };
+        List<CheckedSupplier<Integer, IOException>> suppliers = List.of(
+                blockUntilInterrupted(started, interrupted),
+                failing
+        );
+        Result<List<Integer>, IOException> result = Results.allOf(suppliers, IOException.class);
+        assertSame(thrown, result.unwrapErr());
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAllOfMismatchCancelsSiblings() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CheckedSupplier<Integer, IOException> failing = () -> {
+            await(started);
+            throw new IllegalStateException();
+        };
+        List<CheckedSupplier<Integer, IOException>> suppliers = List.of(
+                blockUntilInterrupted(started, interrupted),
+                failing
+        );
+        assertThrows(ErrorTypeMismatchException.class, () -> Results.allOf(suppliers, IOException.class));
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAnyOfReturnsFirstOk() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CheckedSupplier<Integer, IOException> fast = () -> {
+            await(started);
+            return 1;
+        };
+        List<CheckedSupplier<Integer, IOException>> suppliers = List.of(
+                blockUntilInterrupted(started, interrupted),
+                () -> {
+                    throw new IOException();
+                },
+                fast
+        );
+        assertEquals(1, Results.anyOf(suppliers, IOException.class).unwrap());
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAnyOfReturnsEarliestErr() throws Exception {
+        IOException first = new IOException("first");
+        CheckedSupplier<Integer, IOException> slowFailure = () -> {
+            pause(50);
+            throw first;
+        };
+        List<CheckedSupplier<Integer, IOException>> suppliers = List.of(
+                slowFailure,
+                () -> {
+                    throw new IOException("second");
+                }
+        );
+        assertSame(first, Results.anyOf(suppliers, IOException.class).unwrapErr());
+    }
+
+    @Test
+    public void testAnyOfEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> Results.anyOf(Collections.<CheckedSupplier<Integer, IOException>>emptyList(), IOException.class));
+    }
+}
@@ -0,0 +1,106 @@
+package dev.kylesilver.result;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderEventsTest {
+
+    private static final String ERR_CREATED = "dev.kylesilver.result.ErrCreated";
+    private static final String UNWRAP_FAILED = "dev.kylesilver.result.UnwrapFailed";
+    private static final String ERROR_TYPE_MISMATCH = "dev.kylesilver.result.ErrorTypeMismatch";
+    private static final String TRY_OR = "dev.kylesilver.result.TryOr";
+
+    private static void exercise() {
+        Result.err("a");
+        assertThrows(UnwrapException.class, () -> Result.err(1).unwrap());
+        assertThrows(UnwrapException.class, () -> IntResult.ok(3).expectErr("not an error"));
+        Result.tryOr(() -> 1, IOException.class);
+        Result.tryOr(() -> {
+            throw new FileNotFoundException();
+        }, IOException.class);
+        assertThrows(ErrorTypeMismatchException.class, () -> Result.tryOr(() -> {
+            throw new IllegalStateException();
+        }, IOException.class));
+    }
+
+    private static List<RecordedEvent> record(Recording recording) throws IOException {
+        Path file = Files.createTempFile("result-events", ".jfr");
+        try {
+            recording.start();
+            exercise();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("dev.kylesilver.result."))
+                    .collect(Collectors.toList());
+        } finally {
+            recording.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    private static String className(RecordedEvent event, String field) {
+        return event.getClass(field).getName();
+    }
+
+    @Test
+    public void testDisabledByDefault() throws IOException {
+        assertTrue(record(new Recording()).isEmpty());
+    }
+
+    @Test
+    public void testEvents() throws IOException {
+        Recording recording = new Recording();
+        recording.enable(ERR_CREATED);
+        recording.enable(UNWRAP_FAILED).withStackTrace();
+        recording.enable(ERROR_TYPE_MISMATCH);
+        recording.enable(TRY_OR);
+        List<RecordedEvent> events = record(recording);
+
+        List<String> errClasses = named(events, ERR_CREATED).stream()
+                .map(event -> className(event, "errorClass"))
+                .collect(Collectors.toList());
+        assertTrue(errClasses.contains(String.class.getName()));
+        assertTrue(errClasses.contains(Integer.class.getName()));
+        assertTrue(errClasses.contains(FileNotFoundException.class.getName()));
+        assertNull(named(events, ERR_CREATED).get(0).getStackTrace());
+
+        List<RecordedEvent> unwraps = named(events, UNWRAP_FAILED);
+        assertEquals(2, unwraps.size());
+        assertEquals("unwrap", unwraps.get(0).getString("method"));
+        assertEquals(Integer.class.getName(), className(unwraps.get(0), "contentsClass"));
+        assertEquals("expectErr", unwraps.get(1).getString("method"));
+        assertNotNull(unwraps.get(0).getStackTrace());
+
+        List<RecordedEvent> mismatches = named(events, ERROR_TYPE_MISMATCH);
+        assertEquals(1, mismatches.size());
+        assertEquals(IllegalStateException.class.getName(), className(mismatches.get(0), "actualClass"));
+        assertEquals(IOException.class.toString(), mismatches.get(0).getString("expected"));
+
+        List<RecordedEvent> tryOrs = named(events, TRY_OR);
+        assertEquals(3, tryOrs.size());
+        assertTrue(tryOrs.get(0).getBoolean("ok"));
+        assertNull(tryOrs.get(0).getClass("errorClass"));
+        assertFalse(tryOrs.get(1).getBoolean("ok"));
+        assertEquals(FileNotFoundException.class.getName(), className(tryOrs.get(1), "errorClass"));
+        assertEquals(IllegalStateException.class.getName(), className(tryOrs.get(2), "errorClass"));
+        assertFalse(tryOrs.get(0).getDuration().isNegative());
+    }
+}
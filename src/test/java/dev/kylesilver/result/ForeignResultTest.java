@@ -0,0 +1,180 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implementations of {@link Result} written outside of the library only have
+ * to provide the methods the interface had before it grew its conveniences;
+ * everything added since comes with a default.
+ */
+public class ForeignResultTest {
+
+    @Test
+    public void testAccessors() throws UnwrapException {
+        Result<Integer, String> ok = new Foreign<>(Result.ok(1));
+        Result<Integer, String> err = new Foreign<>(Result.err("bad"));
+        assertEquals(1, ok.getOrNull());
+        assertNull(err.getOrNull());
+        assertNull(ok.getErrOrNull());
+        assertEquals("bad", err.getErrOrNull());
+        assertEquals(1, ok.orElse(0));
+        assertEquals(0, err.orElse(0));
+        assertEquals(1, ok.orElseGet(String::length));
+        assertEquals(3, err.orElseGet(String::length));
+        assertEquals(1, ok.expect(() -> "unused"));
+        assertEquals("bad", err.expectErr(() -> "unused"));
+        UnwrapException thrown = assertThrows(UnwrapException.class, () -> err.expect(() -> "lazy"));
+        assertEquals("lazy", thrown.getMessage());
+    }
+
+    @Test
+    public void testSideEffects() {
+        AtomicInteger oks = new AtomicInteger();
+        AtomicInteger errs = new AtomicInteger();
+        new Foreign<Integer, String>(Result.ok(1)).ifOk(oks::addAndGet);
+        new Foreign<Integer, String>(Result.ok(1)).ifErr(e -> errs.incrementAndGet());
+        new Foreign<Integer, String>(Result.err("bad")).ifErr(e -> errs.incrementAndGet());
+        assertEquals(1, oks.get());
+        assertEquals(1, errs.get());
+    }
+
+    @Test
+    public void testPrimitiveMapping() {
+        assertEquals(IntResult.ok(3), new Foreign<String, String>(Result.ok("abc")).mapToInt(String::length));
+        assertEquals(LongResult.err("bad"), new Foreign<String, String>(Result.err("bad")).mapToLong(String::length));
+        assertEquals(1.5, new Foreign<Double, String>(Result.ok(1.5)).mapToDouble(d -> d).orElse(0));
+    }
+
+    @Test
+    public void testTryMap() {
+        Result<String, IOException> ok = new Foreign<>(Result.ok("a"));
+        assertEquals(Result.ok("ab"), ok.tryMap(s -> s + "b", IOException.class));
+        assertEquals(Result.ok("ab"), ok.tryMap("b", String::concat, IOException.class));
+        IOException failure = new IOException("boom");
+        assertEquals(Result.err(failure), ok.tryAndThen(s -> {
+            throw failure;
+        }, IOException.class));
+        Result<String, IOException> err = new Foreign<>(Result.err(failure));
+        assertEquals(Result.err(failure), err.tryMap(s -> s + "b", IOException.class));
+    }
+
+    @Test
+    public void testContext() {
+        Result<Integer, String> ok = new Foreign<>(Result.ok(1));
+        assertSame(ok, ok.context("loading"));
+        assertEquals(Optional.empty(), ok.report());
+
+        Result<Integer, String> err = new Foreign<Integer, String>(Result.err("bad")).context("loading %d", 1);
+        assertEquals(Result.err("bad"), err);
+        assertEquals(Optional.of("loading 1\ncaused by: bad"), err.report());
+    }
+
+    /**
+     * Implements only the abstract methods of {@link Result}.
+     */
+    private static final class Foreign<T, E> implements Result<T, E> {
+        private final Result<T, E> delegate;
+
+        private Foreign(Result<T, E> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isOk() {
+            return delegate.isOk();
+        }
+
+        @Override
+        public boolean isErr() {
+            return delegate.isErr();
+        }
+
+        @Override
+        public Optional<T> ok() {
+            return delegate.ok();
+        }
+
+        @Override
+        public Optional<E> err() {
+            return delegate.err();
+        }
+
+        @Override
+        public T unwrap() throws UnwrapException {
+            return delegate.unwrap();
+        }
+
+        @Override
+        public E unwrapErr() throws UnwrapException {
+            return delegate.unwrapErr();
+        }
+
+        @Override
+        public T expect(String errorMessage) throws UnwrapException {
+            return delegate.expect(errorMessage);
+        }
+
+        @Override
+        public <F extends Throwable> T expect(Function<E, F> mapping) throws F {
+            return delegate.expect(mapping);
+        }
+
+        @Override
+        public E expectErr(String errorMessage) throws UnwrapException {
+            return delegate.expectErr(errorMessage);
+        }
+
+        @Override
+        public <F extends Throwable> E expectErr(Function<T, F> mapping) throws F {
+            return delegate.expectErr(mapping);
+        }
+
+        @Override
+        public <U> U match(Function<T, U> ifOk, Function<E, U> ifErr) {
+            return delegate.match(ifOk, ifErr);
+        }
+
+        @Override
+        public void match(Consumer<T> ifOk, Consumer<E> ifErr) {
+            delegate.match(ifOk, ifErr);
+        }
+
+        @Override
+        public <U> Result<U, E> map(Function<T, U> mapping) {
+            return delegate.map(mapping);
+        }
+
+        @Override
+        public <F> Result<T, F> mapErr(Function<E, F> mapping) {
+            return delegate.mapErr(mapping);
+        }
+
+        @Override
+        public <U> Result<U, E> and(Result<U, E> result) {
+            return delegate.and(result);
+        }
+
+        @Override
+        public <U> Result<U, E> andThen(Function<T, Result<U, E>> resultFn) {
+            return delegate.andThen(resultFn);
+        }
+
+        @Override
+        public <F> Result<T, F> or(Result<T, F> result) {
+            return delegate.or(result);
+        }
+
+        @Override
+        public <F> Result<T, F> orElse(Function<E, Result<T, F>> resultFn) {
+            return delegate.orElse(resultFn);
+        }
+    }
+}
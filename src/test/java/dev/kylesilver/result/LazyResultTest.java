@@ -0,0 +1,119 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyResultTest {
+
+    @Test
+    public void testEvaluatesOnFirstAccessOnly() throws UnwrapException {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> lazy = LazyResult.of(() -> Result.ok(calls.incrementAndGet()));
+        assertFalse(lazy.isEvaluated());
+        assertEquals(0, calls.get());
+        assertEquals(1, lazy.unwrap());
+        assertEquals(1, lazy.unwrap());
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testMemoizesErr() throws UnwrapException {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, IOException> lazy = LazyResult.tryOr(() -> {
+            calls.incrementAndGet();
+            throw new IOException();
+        }, IOException.class);
+        IOException first = lazy.unwrapErr();
+        assertSame(first, lazy.unwrapErr());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testCombinatorsDoNotForce() throws UnwrapException {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> lazy = LazyResult.of(() -> Result.ok(calls.incrementAndGet()));
+        LazyResult<String, Integer> composed = lazy
+                .map(i -> i * 10)
+                .andThen(i -> Result.ok(i + 1))
+                .and(Result.ok(5))
+                .mapErr(String::length)
+                .orElse(e -> Result.<Integer, Integer>ok(-1))
+                .or(Result.<Integer, Integer>ok(0))
+                .map(String::valueOf);
+        assertEquals(0, calls.get());
+        assertFalse(lazy.isEvaluated());
+        assertEquals("5", composed.unwrap());
+        assertEquals(1, calls.get());
+        assertTrue(lazy.isEvaluated());
+    }
+
+    @Test
+    public void testUnusedFallbackIsNeverEvaluated() throws UnwrapException {
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer, String> result = Result.<Integer, String>ok(1)
+                .or(LazyResult.of(() -> Result.ok(calls.incrementAndGet())));
+        assertEquals(1, result.unwrap());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testExceptionIsNotMemoized() throws UnwrapException {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> lazy = LazyResult.of(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return Result.ok(calls.get());
+        });
+        assertThrows(IllegalStateException.class, lazy::isOk);
+        assertFalse(lazy.isEvaluated());
+        assertEquals(2, lazy.unwrap());
+    }
+
+    @Test
+    public void testToStringDoesNotForce() {
+        LazyResult<Integer, String> lazy = LazyResult.of(() -> Result.ok(1));
+        assertEquals("LazyResult(<unevaluated>)", lazy.toString());
+        assertFalse(lazy.isEvaluated());
+        lazy.isOk();
+        assertEquals("LazyResult(" + Result.ok(1) + ")", lazy.toString());
+    }
+
+    @Test
+    public void testConcurrentFirstAccessEvaluatesOnce() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 100; round++) {
+                AtomicInteger calls = new AtomicInteger();
+                LazyResult<Integer, String> lazy = LazyResult.of(() -> Result.ok(calls.incrementAndGet()));
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return lazy.unwrap();
+                    }));
+                }
+                start.countDown();
+                for (Future<Integer> future : futures) {
+                    assertEquals(1, future.get());
+                }
+                assertEquals(1, calls.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
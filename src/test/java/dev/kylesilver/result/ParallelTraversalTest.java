@@ -0,0 +1,106 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelTraversalTest {
+
+    private static final int SIZE = 100_000;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void stopPool() {
+        pool.shutdown();
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testTraverseKeepsOrder() throws UnwrapException {
+        List<Integer> inputs = range(SIZE);
+        List<String> outputs = Results.parallelTraverse(inputs, i -> Result.<String, Integer>ok("#" + i), pool).unwrap();
+        assertEquals(SIZE, outputs.size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals("#" + i, outputs.get(i));
+        }
+    }
+
+    @Test
+    public void testTraverseReturnsLowestFailure() {
+        List<Integer> inputs = range(SIZE);
+        for (int attempt = 0; attempt < 10; attempt++) {
+            Result<List<Integer>, Integer> result = Results.parallelTraverse(
+                    inputs,
+                    i -> i % 7_919 == 7_918 ? Result.err(i) : Result.ok(i),
+                    pool
+            );
+            assertEquals(Result.err(7_918), result);
+        }
+    }
+
+    @Test
+    public void testTraverseStopsEarly() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<List<Integer>, Integer> result = Results.parallelTraverse(
+                range(SIZE),
+                i -> {
+                    calls.incrementAndGet();
+                    return i == 0 ? Result.err(i) : Result.ok(i);
+                },
+                pool
+        );
+        assertEquals(Result.err(0), result);
+        assertTrue(calls.get() < SIZE, "evaluated " + calls.get() + " of " + SIZE);
+    }
+
+    @Test
+    public void testTraverseMatchesSequential() {
+        List<Integer> inputs = new LinkedList<>(range(1_000));
+        assertEquals(
+                Results.traverse(inputs, i -> Result.<Integer, String>ok(i * 2)),
+                Results.parallelTraverse(inputs, i -> Result.<Integer, String>ok(i * 2), pool)
+        );
+        assertEquals(Result.ok(List.of()), Results.parallelTraverse(List.<Integer>of(), Result::ok, pool));
+    }
+
+    @Test
+    public void testPartition() {
+        Partition<Integer, String> partition = Results.parallelPartition(
+                range(SIZE),
+                i -> i % 3 == 0 ? Result.err("e" + i) : Result.ok(i),
+                pool
+        );
+        assertEquals(SIZE / 3 + 1, partition.errs().size());
+        assertEquals(SIZE - partition.errs().size(), partition.oks().size());
+        assertEquals(
+                range(SIZE).stream().filter(i -> i % 3 != 0).collect(Collectors.toList()),
+                partition.oks()
+        );
+        assertEquals("e0", partition.errs().get(0));
+        assertEquals("e99999", partition.errs().get(partition.errs().size() - 1));
+    }
+
+    @Test
+    public void testCommonPool() {
+        assertEquals(Result.ok(List.of(1, 2, 3)), Results.parallelTraverse(List.of(1, 2, 3), Result::<Integer, String>ok));
+        assertEquals(List.of(1, 2, 3), Results.parallelPartition(List.of(1, 2, 3), Result::<Integer, String>ok).oks());
+    }
+}
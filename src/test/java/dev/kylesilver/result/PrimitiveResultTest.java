@@ -0,0 +1,126 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveResultTest {
+
+    @Test
+    public void testIsOk() {
+        assertTrue(IntResult.ok(1).isOk());
+        assertTrue(LongResult.ok(1L).isOk());
+        assertTrue(DoubleResult.ok(1.0).isOk());
+        assertFalse(IntResult.err("e").isOk());
+        assertFalse(LongResult.err("e").isOk());
+        assertFalse(DoubleResult.err("e").isOk());
+    }
+
+    @Test
+    public void testGetOk() {
+        assertEquals(OptionalInt.of(1), IntResult.ok(1).ok());
+        assertEquals(OptionalLong.of(1L), LongResult.ok(1L).ok());
+        assertEquals(OptionalDouble.of(1.0), DoubleResult.ok(1.0).ok());
+        assertEquals(OptionalInt.empty(), IntResult.err("e").ok());
+        assertEquals(OptionalLong.empty(), LongResult.err("e").ok());
+        assertEquals(OptionalDouble.empty(), DoubleResult.err("e").ok());
+    }
+
+    @Test
+    public void testUnwrap() {
+        assertEquals(1, IntResult.ok(1).unwrapAsInt());
+        assertEquals(1L, LongResult.ok(1L).unwrapAsLong());
+        assertEquals(1.5, DoubleResult.ok(1.5).unwrapAsDouble());
+        assertThrows(UnwrapException.class, () -> IntResult.err("e").unwrapAsInt());
+        assertThrows(UnwrapException.class, () -> LongResult.err("e").unwrapAsLong());
+        assertThrows(UnwrapException.class, () -> DoubleResult.err("e").unwrapAsDouble());
+        assertEquals("e", IntResult.err("e").unwrapErr());
+        assertThrows(UnwrapException.class, () -> IntResult.ok(1).unwrapErr());
+    }
+
+    @Test
+    public void testExpect() {
+        assertEquals(1, IntResult.ok(1).expect("wasn't ok"));
+        var unwrapException = assertThrows(
+                UnwrapException.class,
+                () -> LongResult.err(1).expect("wasn't ok")
+        );
+        assertEquals("wasn't ok", unwrapException.getMessage());
+        var illegalArgumentException = assertThrows(
+                IllegalArgumentException.class,
+                () -> DoubleResult.ok(2.0).expectErr(d -> new IllegalArgumentException(Double.toString(d)))
+        );
+        assertEquals("2.0", illegalArgumentException.getMessage());
+    }
+
+    @Test
+    public void testMatch() {
+        assertEquals("2", IntResult.ok(1).match(ok -> Integer.toString(ok + 1), err -> "err"));
+        assertEquals("err", LongResult.err(1).match(ok -> "ok", err -> "err"));
+        AtomicLong total = new AtomicLong();
+        LongResult.<String>ok(5L).match(total::addAndGet, err -> {});
+        assertEquals(5L, total.get());
+    }
+
+    @Test
+    public void testMap() throws UnwrapException {
+        assertEquals(3, IntResult.ok(1).map(x -> x + 2).unwrapAsInt());
+        assertEquals(IntResult.err("e"), IntResult.<String>err("e").map(x -> x + 2));
+        assertEquals(4L, LongResult.ok(2L).map(x -> x * 2).unwrapAsLong());
+        assertEquals(0.25, DoubleResult.ok(0.5).map(x -> x * x).unwrapAsDouble());
+    }
+
+    @Test
+    public void testConversions() throws UnwrapException {
+        assertEquals(LongResult.ok(3_000_000_000L), IntResult.ok(3).mapToLong(x -> x * 1_000_000_000L));
+        assertEquals(DoubleResult.ok(1.5), LongResult.ok(3L).mapToDouble(x -> x / 2.0));
+        assertEquals(IntResult.ok(2), DoubleResult.ok(2.7).mapToInt(x -> (int) x));
+        assertEquals(Result.ok("7"), IntResult.ok(7).mapToObj(Integer::toString));
+        assertEquals(LongResult.err("e"), IntResult.<String>err("e").mapToLong(x -> x));
+        assertEquals(Result.err("e"), DoubleResult.<String>err("e").mapToObj(Double::toString));
+    }
+
+    @Test
+    public void testFromResult() throws UnwrapException {
+        assertEquals(5, Result.ok("hello").mapToInt(String::length).unwrapAsInt());
+        assertEquals(5L, Result.ok("hello").mapToLong(String::length).unwrapAsLong());
+        assertEquals(5.0, Result.ok("hello").mapToDouble(String::length).unwrapAsDouble());
+        assertEquals(IntResult.err(1), Result.<String, Integer>err(1).mapToInt(String::length));
+    }
+
+    @Test
+    public void testBoxed() {
+        assertEquals(Result.ok(1), IntResult.ok(1).boxed());
+        assertEquals(Result.ok(1L), LongResult.ok(1L).boxed());
+        assertEquals(Result.ok(1.0), DoubleResult.ok(1.0).boxed());
+        assertEquals(Result.err("e"), IntResult.err("e").boxed());
+    }
+
+    @Test
+    public void testMapErr() throws UnwrapException {
+        assertEquals(2, IntResult.err(1).mapErr(e -> e + 1).unwrapErr());
+        assertEquals(IntResult.ok(1), IntResult.<Integer>ok(1).mapErr(e -> e + 1));
+    }
+
+    @Test
+    public void testAndThen() {
+        assertEquals(IntResult.ok(2), IntResult.<String>ok(1).andThen(x -> IntResult.ok(x + 1)));
+        assertEquals(IntResult.err("odd"), IntResult.<String>ok(1).andThen(x -> x % 2 == 0 ? IntResult.ok(x) : IntResult.err("odd")));
+        assertEquals(IntResult.err("e"), IntResult.<String>err("e").andThen(x -> IntResult.ok(x + 1)));
+        assertEquals(LongResult.ok(2L), LongResult.ok(1L).and(LongResult.ok(2L)));
+        assertEquals(LongResult.err(1), LongResult.err(1).and(LongResult.ok(2L)));
+    }
+
+    @Test
+    public void testOrElse() {
+        assertEquals(IntResult.ok(1), IntResult.ok(1).orElse(err -> IntResult.ok(0)));
+        assertEquals(IntResult.ok(0), IntResult.err("e").orElse(err -> IntResult.ok(0)));
+        assertEquals(DoubleResult.ok(1.0), DoubleResult.err("e").or(DoubleResult.ok(1.0)));
+        assertEquals(DoubleResult.ok(2.0), DoubleResult.ok(2.0).or(DoubleResult.ok(1.0)));
+    }
+}
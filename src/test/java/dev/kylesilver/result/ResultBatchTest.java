@@ -0,0 +1,115 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultBatchTest {
+
+    // every seventh element fails, so errors land at varying bit positions
+    // across several words
+    private static List<Result<Integer, String>> sample(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> i % 7 == 3 ? Result.<Integer, String>err("bad " + i) : Result.<Integer, String>ok(i))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        for (int size : new int[] {0, 1, 63, 64, 65, 1000}) {
+            List<Result<Integer, String>> results = sample(size);
+            ResultBatch<Integer, String> batch = ResultBatch.of(results);
+            assertEquals(size, batch.size());
+            assertEquals(results, batch.asList());
+            assertEquals(results.stream().filter(Result::isErr).count(), batch.errCount());
+            assertEquals(size - batch.errCount(), batch.okCount());
+        }
+    }
+
+    @Test
+    public void testElementAccess() {
+        ResultBatch<Integer, String> batch = ResultBatch.of(sample(10));
+        assertTrue(batch.isOk(0));
+        assertTrue(batch.isErr(3));
+        assertEquals(2, batch.getOrNull(2));
+        assertNull(batch.getOrNull(3));
+        assertEquals("bad 3", batch.errOrNull(3));
+        assertNull(batch.errOrNull(4));
+        assertEquals(Result.err("bad 3"), batch.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isOk(-1));
+    }
+
+    @Test
+    public void testMapOnlyTouchesValues() {
+        List<Integer> seen = new ArrayList<>();
+        ResultBatch<Integer, String> batch = ResultBatch.of(sample(130));
+        ResultBatch<String, String> mapped = batch.map(x -> {
+            seen.add(x);
+            return "#" + x;
+        });
+        assertEquals(batch.okCount(), seen.size());
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(batch.get(i).map(x -> "#" + x), mapped.get(i));
+        }
+    }
+
+    @Test
+    public void testMapErrOnlyTouchesErrors() {
+        List<String> seen = new ArrayList<>();
+        ResultBatch<Integer, String> batch = ResultBatch.of(sample(130));
+        ResultBatch<Integer, Integer> mapped = batch.mapErr(e -> {
+            seen.add(e);
+            return e.length();
+        });
+        assertEquals(batch.errCount(), seen.size());
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(batch.get(i).mapErr(String::length), mapped.get(i));
+        }
+    }
+
+    @Test
+    public void testFilterKeepsErrors() {
+        List<Result<Integer, String>> results = sample(200);
+        ResultBatch<Integer, String> filtered = ResultBatch.of(results).filter(x -> x % 2 == 0);
+        List<Result<Integer, String>> expected = results.stream()
+                .filter(r -> r.isErr() || r.getOrNull() % 2 == 0)
+                .collect(Collectors.toList());
+        assertEquals(expected, filtered.asList());
+        assertEquals(ResultBatch.of(expected), filtered);
+        ResultBatch<Integer, String> batch = ResultBatch.of(results);
+        assertSame(batch, batch.filter(x -> true));
+    }
+
+    @Test
+    public void testPartition() {
+        List<Result<Integer, String>> results = sample(100);
+        Partition<Integer, String> partition = ResultBatch.of(results).partition();
+        assertEquals(results.stream().collect(Results.partitioning()), partition);
+        assertThrows(UnsupportedOperationException.class, () -> partition.errs().set(0, "changed"));
+    }
+
+    @Test
+    public void testBuilder() {
+        ResultBatch.Builder<Integer, String> builder = ResultBatch.builder(0);
+        builder.addOk(1).addErr("a").add(Result.ok(2)).add(Result.err("b"));
+        ResultBatch<Integer, String> first = builder.build();
+        builder.addOk(3);
+        assertEquals(List.of(Result.ok(1), Result.err("a"), Result.ok(2), Result.err("b")), first.asList());
+        assertEquals(5, builder.build().size());
+        assertThrows(NullPointerException.class, () -> builder.addOk(null));
+        assertThrows(IllegalArgumentException.class, () -> ResultBatch.builder(-1));
+    }
+
+    @Test
+    public void testEquality() {
+        assertEquals(ResultBatch.of(sample(70)), ResultBatch.of(sample(70)));
+        assertNotEquals(ResultBatch.of(sample(70)), ResultBatch.of(sample(71)));
+        assertEquals("ResultBatch[" + Result.ok(0) + ", " + Result.ok(1) + "]", ResultBatch.of(sample(2)).toString());
+    }
+}
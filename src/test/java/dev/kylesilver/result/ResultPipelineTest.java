@@ -0,0 +1,89 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultPipelineTest {
+
+    private static Result<Integer, String> parse(String s) {
+        return Result.tryOr(() -> Integer.parseInt(s), NumberFormatException.class)
+                .mapErr(e -> "not a number: " + s);
+    }
+
+    private static Result<Integer, String> positive(int i) {
+        return i > 0 ? Result.ok(i) : Result.err("not positive: " + i);
+    }
+
+    private static final ResultPipeline<String, String, Integer> PIPELINE = ResultPipeline.<String, String>start()
+            .map(String::trim)
+            .andThen(ResultPipelineTest::parse)
+            .map(i -> i - 1)
+            .andThen(ResultPipelineTest::positive)
+            .map(i -> "#" + i)
+            .mapErr(String::length);
+
+    private static Result<String, Integer> handWritten(String input) {
+        return Result.<String, String>ok(input)
+                .map(String::trim)
+                .andThen(ResultPipelineTest::parse)
+                .map(i -> i - 1)
+                .andThen(ResultPipelineTest::positive)
+                .map(i -> "#" + i)
+                .mapErr(String::length);
+    }
+
+    @Test
+    public void testMatchesHandWrittenChain() {
+        for (String input : List.of(" 5", "1", "0", "-3", "x", " 42 ")) {
+            assertEquals(handWritten(input), PIPELINE.apply(input), input);
+        }
+    }
+
+    @Test
+    public void testOrElseRecovers() throws UnwrapException {
+        ResultPipeline<String, Integer, String> withDefault = ResultPipeline.<String, String>start()
+                .andThen(ResultPipelineTest::parse)
+                .orElse(e -> Result.<Integer, String>ok(0))
+                .map(i -> i + 1);
+        assertEquals(8, withDefault.apply("7").unwrap());
+        assertEquals(1, withDefault.apply("seven").unwrap());
+    }
+
+    @Test
+    public void testReturnsResultOfLastStageUnchanged() {
+        Result<Integer, String> err = Result.err("stop");
+        ResultPipeline<String, Integer, String> pipeline = ResultPipeline.<String, String>start()
+                .andThen(s -> err)
+                .map(i -> i + 1);
+        // the map stage is skipped, so the Err returned by andThen is the output
+        assertSame(err, pipeline.apply("anything"));
+    }
+
+    @Test
+    public void testApplyTo() throws UnwrapException {
+        ResultPipeline<Integer, Integer, String> doubled = ResultPipeline.<Integer, String>start().map(i -> i * 2);
+        assertEquals(4, doubled.applyTo(Result.ok(2)).unwrap());
+        Result<Integer, String> err = Result.err("failed");
+        assertSame(err, doubled.applyTo(err));
+    }
+
+    @Test
+    public void testPipelinesAreImmutable() throws UnwrapException {
+        ResultPipeline<Integer, Integer, String> base = ResultPipeline.<Integer, String>start().map(i -> i + 1);
+        ResultPipeline<Integer, Integer, String> doubled = base.map(i -> i * 2);
+        ResultPipeline<Integer, String, String> printed = base.map(String::valueOf);
+        assertEquals(1, base.size());
+        assertEquals(2, doubled.size());
+        assertEquals(4, doubled.apply(1).unwrap());
+        assertEquals("2", printed.apply(1).unwrap());
+        assertEquals(2, base.apply(1).unwrap());
+    }
+
+    @Test
+    public void testEmptyPipeline() throws UnwrapException {
+        assertEquals("x", ResultPipeline.<String, Integer>start().apply("x").unwrap());
+    }
+}
@@ -2,8 +2,13 @@ package dev.kylesilver.result;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -46,7 +51,11 @@ public class ResultTest {
     @Test
     public void testUnwrap() {
         assertEquals(1, Result.ok(1).unwrap());
-        assertThrows(UnwrapException.class, () -> Result.err(1).unwrap());
+        var unwrapException = assertThrows(UnwrapException.class, () -> Result.err(1).unwrap());
+        assertEquals(
+                "The Result was expected to be Ok, but was instead an Error type with value 1",
+                unwrapException.getMessage()
+        );
     }
 
     @Test
@@ -74,6 +83,40 @@ public class ResultTest {
         assertEquals("1", illegalArgumentException.getMessage());
     }
 
+    @Test
+    public void testExpectLazyMessage() {
+        AtomicInteger renders = new AtomicInteger();
+        Supplier<String> message = () -> {
+            renders.incrementAndGet();
+            return "wasn't ok";
+        };
+        assertEquals(1, Result.ok(1).expect(message));
+        assertEquals(1, Result.err(1).expectErr(message));
+        assertEquals(0, renders.get());
+
+        var unwrapException = assertThrows(UnwrapException.class, () -> Result.err(1).expect(message));
+        assertEquals(0, renders.get());
+        assertEquals("wasn't ok", unwrapException.getMessage());
+        assertEquals("wasn't ok", unwrapException.getMessage());
+        assertEquals(1, renders.get());
+
+        unwrapException = assertThrows(UnwrapException.class, () -> Result.ok(1).expectErr(message));
+        assertEquals("wasn't ok", unwrapException.getMessage());
+    }
+
+    @Test
+    public void testLazyMessageIsSerialized() throws Exception {
+        var unwrapException = assertThrows(UnwrapException.class, () -> Result.err(1).unwrap());
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(unwrapException);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            var copy = (UnwrapException) in.readObject();
+            assertEquals(unwrapException.getMessage(), copy.getMessage());
+        }
+    }
+
     @Test
     public void testExpectErr() {
         // user-provided message
@@ -93,6 +136,41 @@ public class ResultTest {
         assertEquals("1", illegalArgumentException.getMessage());
     }
 
+    @Test
+    public void testGetOrNull() {
+        assertEquals(1, Result.ok(1).getOrNull());
+        assertNull(Result.err(1).getOrNull());
+    }
+
+    @Test
+    public void testGetErrOrNull() {
+        assertNull(Result.ok(1).getErrOrNull());
+        assertEquals(1, Result.err(1).getErrOrNull());
+    }
+
+    @Test
+    public void testOrElseValue() {
+        assertEquals(1, Result.<Integer, String>ok(1).orElse(0));
+        assertEquals(0, Result.<Integer, String>err("e").orElse(0));
+    }
+
+    @Test
+    public void testOrElseGet() {
+        assertEquals(1, Result.<Integer, String>ok(1).orElseGet(String::length));
+        assertEquals(3, Result.<Integer, String>err("foo").orElseGet(String::length));
+    }
+
+    @Test
+    public void testIfOkIfErr() {
+        AtomicInteger count = new AtomicInteger();
+        Result.<Integer, Integer>ok(1).ifOk(count::addAndGet);
+        Result.<Integer, Integer>ok(1).ifErr(count::addAndGet);
+        assertEquals(1, count.get());
+        Result.<Integer, Integer>err(10).ifErr(count::addAndGet);
+        Result.<Integer, Integer>err(10).ifOk(count::addAndGet);
+        assertEquals(11, count.get());
+    }
+
     @Test
     public void testMatch() {
         // test match when it maps values
@@ -124,6 +202,7 @@ public class ResultTest {
         Result<Integer, Integer> result = Result.err(1);
         Result<String, Integer> mapped = result.map(v -> v + 1).map(String::valueOf);
         assertEquals(1, mapped.unwrapErr());
+        assertSame(result, mapped);
     }
 
     @Test
@@ -132,6 +211,7 @@ public class ResultTest {
         Result<Integer, Integer> result = Result.ok(1);
         Result<Integer, String> mapped = result.mapErr(v -> v + 1).mapErr(String::valueOf);
         assertEquals(1, mapped.unwrap());
+        assertSame(result, mapped);
     }
 
     @Test
@@ -0,0 +1,106 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultsTest {
+
+    private static Result<Integer, String> parse(String s) {
+        try {
+            return Result.ok(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return Result.err(s);
+        }
+    }
+
+    @Test
+    public void testSequence() {
+        List<Result<Integer, String>> allOk = Arrays.asList(Result.ok(1), Result.ok(2), Result.ok(3));
+        assertEquals(Result.ok(Arrays.asList(1, 2, 3)), Results.sequence(allOk));
+        assertEquals(Result.ok(Arrays.asList(1, 2, 3)), Results.sequence(allOk.stream()));
+
+        List<Result<Integer, String>> someErr = Arrays.asList(Result.ok(1), Result.err("a"), Result.err("b"));
+        assertEquals(Result.err("a"), Results.sequence(someErr));
+        assertEquals(Result.err("a"), Results.sequence(someErr.stream()));
+        assertSame(someErr.get(1), Results.sequence(someErr));
+
+        assertEquals(Result.ok(List.of()), Results.sequence(List.<Result<Integer, String>>of()));
+    }
+
+    @Test
+    public void testTraverse() {
+        assertEquals(Result.ok(Arrays.asList(1, 2, 3)), Results.traverse(Arrays.asList("1", "2", "3"), ResultsTest::parse));
+        assertEquals(Result.err("x"), Results.traverse(Arrays.asList("1", "x", "y"), ResultsTest::parse));
+        assertEquals(Result.ok(Arrays.asList(1, 2)), Results.traverse(Stream.of("1", "2"), ResultsTest::parse));
+    }
+
+    @Test
+    public void testTraverseShortCircuits() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<List<Integer>, String> result = Results.traverse(Arrays.asList("1", "x", "3", "4"), s -> {
+            calls.incrementAndGet();
+            return parse(s);
+        });
+        assertEquals(Result.err("x"), result);
+        assertEquals(2, calls.get());
+
+        // an infinite stream can only terminate if traversal stops pulling elements
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Integer> naturals = Stream.iterate(0, i -> i + 1).peek(i -> pulled.incrementAndGet());
+        Result<List<Integer>, Integer> stopped = Results.traverse(naturals, i -> i < 5 ? Result.ok(i) : Result.err(i));
+        assertEquals(Result.err(5), stopped);
+        assertEquals(6, pulled.get());
+    }
+
+    @Test
+    public void testOksCollector() {
+        List<Integer> oks = Stream.of("1", "x", "3", "y").map(ResultsTest::parse).collect(Results.oks());
+        assertEquals(Arrays.asList(1, 3), oks);
+        List<Integer> parallel = Stream.of("1", "x", "3", "y", "5", "6").parallel().map(ResultsTest::parse).collect(Results.oks());
+        assertEquals(Arrays.asList(1, 3, 5, 6), parallel);
+    }
+
+    @Test
+    public void testPartitioning() {
+        Partition<Integer, String> partition = Stream.of("1", "x", "3", "y")
+                .map(ResultsTest::parse)
+                .collect(Results.partitioning());
+        assertEquals(Arrays.asList(1, 3), partition.oks());
+        assertEquals(Arrays.asList("x", "y"), partition.errs());
+
+        Partition<Integer, String> parallel = Stream.of("1", "x", "3", "y", "5", "z")
+                .parallel()
+                .map(ResultsTest::parse)
+                .collect(Results.partitioning());
+        assertEquals(Arrays.asList(1, 3, 5), parallel.oks());
+        assertEquals(Arrays.asList("x", "y", "z"), parallel.errs());
+    }
+
+    @Test
+    public void testOkSpliterator() {
+        List<Result<Integer, String>> results = Stream.of("1", "x", "3", "y", "5")
+                .map(ResultsTest::parse)
+                .collect(Collectors.toList());
+        Spliterator<Integer> spliterator = Results.okSpliterator(results);
+        assertEquals(5, spliterator.estimateSize());
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+
+        assertEquals(Arrays.asList(1, 3, 5), Results.okStream(results).collect(Collectors.toList()));
+
+        Spliterator<Integer> advancing = Results.okSpliterator(results);
+        AtomicInteger sum = new AtomicInteger();
+        while (advancing.tryAdvance(sum::addAndGet)) {
+            // consume one value at a time
+        }
+        assertEquals(9, sum.get());
+    }
+}
@@ -0,0 +1,149 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryTest {
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private static RetryPolicy.Builder<IOException> quickly() {
+        return RetryPolicy.<IOException>builder().fixedDelay(Duration.ofMillis(1));
+    }
+
+    @Test
+    public void testSucceedsAfterFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        AsyncResult<Integer, RetryError<IOException>> result = AsyncResult.retry(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IOException();
+            }
+            return calls.get();
+        }, IOException.class, quickly().maxAttempts(5).build(), scheduler);
+        assertEquals(Result.ok(3), result.join());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testGivesUpWithLastErrorAndAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer, RetryError<IOException>> result = AsyncResult.<Integer, IOException>retry(() -> {
+            throw new IOException("attempt " + calls.incrementAndGet());
+        }, IOException.class, quickly().maxAttempts(4).build(), scheduler).join();
+        RetryError<IOException> error = result.err().orElseThrow();
+        assertEquals(4, error.attempts());
+        assertEquals("attempt 4", error.lastError().getMessage());
+    }
+
+    @Test
+    public void testPredicateStopsRetries() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy<IOException> policy = quickly()
+                .maxAttempts(5)
+                .retryIf(e -> !(e instanceof FileNotFoundException))
+                .build();
+        Result<Integer, RetryError<IOException>> result = AsyncResult.<Integer, IOException>retry(() -> {
+            calls.incrementAndGet();
+            throw new FileNotFoundException();
+        }, IOException.class, policy, scheduler).join();
+        assertEquals(1, calls.get());
+        assertEquals(1, result.err().orElseThrow().attempts());
+    }
+
+    @Test
+    public void testMatcherOverload() {
+        ExceptionMatcher<String> matcher = ExceptionMatcher.<String>builder()
+                .on(IOException.class, Throwable::getMessage)
+                .build();
+        RetryPolicy<String> policy = RetryPolicy.<String>builder().maxAttempts(2).fixedDelay(Duration.ZERO).build();
+        Result<Integer, RetryError<String>> result = AsyncResult.<Integer, String>retry(() -> {
+            throw new IOException("down");
+        }, matcher, policy, scheduler).join();
+        assertEquals(Result.err(new RetryError<>("down", 2)), result);
+    }
+
+    @Test
+    public void testUnexpectedExceptionEndsRetries() {
+        AtomicInteger calls = new AtomicInteger();
+        AsyncResult<Integer, RetryError<IOException>> result = AsyncResult.retry(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException();
+        }, IOException.class, quickly().maxAttempts(5).build(), scheduler);
+        CompletionException thrown = assertThrows(CompletionException.class, result::join);
+        assertTrue(thrown.getCause() instanceof ErrorTypeMismatchException);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testWaitsDoNotBlockTheScheduler() throws Exception {
+        RetryPolicy<IOException> policy = RetryPolicy.<IOException>builder()
+                .maxAttempts(2)
+                .fixedDelay(Duration.ofHours(1))
+                .build();
+        AsyncResult<Integer, RetryError<IOException>> result = AsyncResult.<Integer, IOException>retry(() -> {
+            throw new IOException();
+        }, IOException.class, policy, scheduler);
+        // the only scheduler thread is free to run other work during the wait
+        assertEquals(1, scheduler.submit(() -> 1).get(5, TimeUnit.SECONDS));
+        assertFalse(result.toFuture().isDone());
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testShutdownSchedulerFailsFuture() {
+        scheduler.shutdown();
+        AsyncResult<Integer, RetryError<IOException>> result =
+                AsyncResult.retry(() -> 1, IOException.class, quickly().build(), scheduler);
+        assertThrows(CompletionException.class, result::join);
+    }
+
+    @Test
+    public void testBackoffDelays() {
+        RetryPolicy<IOException> policy = RetryPolicy.<IOException>builder()
+                .backoff(Duration.ofNanos(100), 2, Duration.ofNanos(500))
+                .jitter(0.5)
+                .build();
+        assertEquals(100, policy.delayNanos(1, 0));
+        assertEquals(200, policy.delayNanos(2, 0));
+        assertEquals(400, policy.delayNanos(3, 0));
+        assertEquals(500, policy.delayNanos(4, 0));
+        assertEquals(500, policy.delayNanos(40, 0));
+        // jitter shortens a wait by at most half
+        assertEquals(150, policy.delayNanos(2, 0.5));
+        for (int i = 0; i < 100; i++) {
+            long delay = policy.delayNanos(3);
+            assertTrue(delay >= 200 && delay <= 400, "delay out of range: " + delay);
+        }
+    }
+
+    @Test
+    public void testInvalidPolicies() {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().maxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().jitter(1.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> RetryPolicy.builder().backoff(Duration.ofMillis(1), 0.5, Duration.ofMillis(2)));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().fixedDelay(Duration.ofMillis(-1)));
+    }
+}
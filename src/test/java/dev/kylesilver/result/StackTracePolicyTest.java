@@ -0,0 +1,62 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StackTracePolicyTest {
+
+    @AfterEach
+    public void restoreDefault() {
+        StackTracePolicy.set(StackTracePolicy.FULL);
+    }
+
+    @Test
+    public void testDefaultIsFull() {
+        assertSame(StackTracePolicy.FULL, StackTracePolicy.get());
+        var unwrapException = assertThrows(UnwrapException.class, () -> Result.err(1).unwrap());
+        assertTrue(unwrapException.getStackTrace().length > 0);
+    }
+
+    @Test
+    public void testStackless() {
+        StackTracePolicy.set(StackTracePolicy.STACKLESS);
+        var unwrapException = assertThrows(UnwrapException.class, () -> Result.err(1).unwrap());
+        assertEquals(0, unwrapException.getStackTrace().length);
+        assertEquals(
+                "The Result was expected to be Ok, but was instead an Error type with value 1",
+                unwrapException.getMessage()
+        );
+        var mismatch = assertThrows(ErrorTypeMismatchException.class, () -> Result.tryOr(
+                () -> { throw new NumberFormatException("unexpected error"); },
+                ArithmeticException.class
+        ));
+        assertEquals(0, mismatch.getStackTrace().length);
+        assertInstanceOf(NumberFormatException.class, mismatch.getCause());
+    }
+
+    @Test
+    public void testSampled() {
+        StackTracePolicy.set(StackTracePolicy.sampled(4));
+        int captured = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (new UnwrapException("sampled").getStackTrace().length > 0) {
+                captured++;
+            }
+        }
+        assertTrue(captured > 0 && captured < 1000, "captured " + captured + " of 1000");
+        assertSame(StackTracePolicy.FULL, StackTracePolicy.sampled(1));
+        assertThrows(IllegalArgumentException.class, () -> StackTracePolicy.sampled(0));
+    }
+
+    @Test
+    public void testMismatchMessage() {
+        var mismatch = new ErrorTypeMismatchException(ArithmeticException.class, new NumberFormatException());
+        assertEquals(
+                "Expected an exception which could be cast to class java.lang.ArithmeticException but instead "
+                        + "caught an exception with type class java.lang.NumberFormatException",
+                mismatch.getMessage()
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package dev.kylesilver.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidatedTest {
+
+    private static Validated<Integer, String> positive(int i) {
+        return i > 0 ? Validated.valid(i) : Validated.invalid("not positive: " + i);
+    }
+
+    @Test
+    public void testZipValid() {
+        Validated<Integer, String> sum = positive(1).zip(positive(2), Integer::sum);
+        assertTrue(sum.isValid());
+        assertEquals(3, sum.getOrNull());
+        assertTrue(sum.errors().isEmpty());
+    }
+
+    @Test
+    public void testZipAccumulatesErrors() {
+        Validated<Integer, String> sum = positive(-1)
+                .zip(positive(2), Integer::sum)
+                .zip(positive(-3), Integer::sum)
+                .andAlso(positive(0));
+        assertTrue(sum.isInvalid());
+        assertNull(sum.getOrNull());
+        assertEquals(List.of("not positive: -1", "not positive: -3", "not positive: 0"), sum.errors());
+    }
+
+    @Test
+    public void testAndThenShortCircuits() {
+        Validated<Integer, String> result = positive(-1).andThen(i -> {
+            fail("dependent validation should not run");
+            return positive(i);
+        });
+        assertEquals(List.of("not positive: -1"), result.errors());
+        assertEquals(Validated.valid(4), positive(2).andThen(i -> positive(i * 2)));
+    }
+
+    @Test
+    public void testTraverse() {
+        assertEquals(Validated.valid(List.of(1, 2, 3)), Validated.traverse(List.of(1, 2, 3), ValidatedTest::positive));
+        Validated<List<Integer>, String> invalid = Validated.traverse(List.of(1, -2, 3, -4), ValidatedTest::positive);
+        assertEquals(List.of("not positive: -2", "not positive: -4"), invalid.errors());
+    }
+
+    @Test
+    public void testResultConversion() {
+        assertEquals(Validated.invalid("e"), Validated.fromResult(Result.err("e")));
+        assertEquals(Validated.valid(1), Validated.fromResult(Result.ok(1)));
+        Validated<Integer, String> lazy = Validated.fromResult(LazyResult.of(() -> Result.err("bad")));
+        assertFalse(lazy.isValid());
+        assertEquals(Result.err(List.of("bad")), lazy.toResult());
+        assertEquals(Result.ok(1), positive(1).toResult());
+        Validated<Integer, String> invalid = positive(-1).andAlso(positive(-2));
+        assertEquals(Result.err(List.of("not positive: -1", "not positive: -2")), invalid.toResult());
+        assertEquals(Result.err(2), invalid.toResult(List::size));
+    }
+
+    @Test
+    public void testManyErrors() {
+        List<Integer> inputs = IntStream.range(-1000, 0).boxed().collect(Collectors.toList());
+        Validated<List<Integer>, String> result = Validated.traverse(inputs, ValidatedTest::positive);
+        List<String> expected = inputs.stream().map(i -> "not positive: " + i).collect(Collectors.toList());
+        assertEquals(expected, result.errors());
+        assertThrows(IndexOutOfBoundsException.class, () -> result.errors().get(1000));
+        assertThrows(UnsupportedOperationException.class, () -> result.errors().add("x"));
+    }
+
+    @Test
+    public void testBranchesDoNotSeeEachOther() {
+        Validated<Integer, String> base = positive(-1).andAlso(positive(-2));
+        Validated<Integer, String> left = base.andAlso(positive(-3));
+        Validated<Integer, String> right = base.andAlso(positive(-4));
+        assertEquals(List.of("not positive: -1", "not positive: -2"), base.errors());
+        assertEquals(List.of("not positive: -1", "not positive: -2", "not positive: -3"), left.errors());
+        assertEquals(List.of("not positive: -1", "not positive: -2", "not positive: -4"), right.errors());
+    }
+
+    @Test
+    public void testConcurrentBranches() throws Exception {
+        Validated<Integer, String> base = positive(-1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Validated<Integer, String>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    Validated<Integer, String> acc = base;
+                    for (int i = 0; i < 100; i++) {
+                        acc = acc.andAlso(Validated.invalid(thread + ":" + i));
+                    }
+                    return acc;
+                }));
+            }
+            for (int t = 0; t < futures.size(); t++) {
+                List<String> errors = futures.get(t).get().errors();
+                assertEquals(101, errors.size());
+                assertEquals("not positive: -1", errors.get(0));
+                for (int i = 0; i < 100; i++) {
+                    assertEquals(t + ":" + i, errors.get(i + 1));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(List.of("not positive: -1"), base.errors());
+    }
+}
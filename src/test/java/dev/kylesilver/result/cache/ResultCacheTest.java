@@ -0,0 +1,178 @@
+package dev.kylesilver.result.cache;
+
+import dev.kylesilver.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    // even keys succeed, odd keys fail
+    private Result<String, String> lookup(Integer key) {
+        calls.incrementAndGet();
+        return key % 2 == 0 ? Result.ok("v" + key) : Result.err("e" + key);
+    }
+
+    private ResultCache.Builder<Integer, String, String> builder() {
+        return ResultCache.builder(this::lookup).clock(now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    public void testCachesOk() {
+        ResultCache<Integer, String, String> cache = builder().build();
+        assertEquals(Result.ok("v2"), cache.get(2));
+        assertEquals(Result.ok("v2"), cache.get(2));
+        assertEquals(1, calls.get());
+        assertEquals(new CacheStats(1, 1, 0, 0), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    public void testErrNotCachedByDefault() {
+        ResultCache<Integer, String, String> cache = builder().build();
+        assertEquals(Result.err("e1"), cache.get(1));
+        assertEquals(Result.err("e1"), cache.get(1));
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSeparateTtls() {
+        ResultCache<Integer, String, String> cache = builder()
+                .expireOkAfter(Duration.ofMinutes(10))
+                .expireErrAfter(Duration.ofSeconds(5))
+                .build();
+        cache.get(1);
+        cache.get(2);
+        advance(Duration.ofSeconds(4));
+        cache.get(1);
+        cache.get(2);
+        assertEquals(2, calls.get());
+        advance(Duration.ofSeconds(1));
+        cache.get(1);
+        cache.get(2);
+        // only the error expired
+        assertEquals(3, calls.get());
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    public void testEvictsUnreferencedFirst() {
+        ResultCache<Integer, String, String> cache = builder().maximumSize(3).build();
+        cache.get(0);
+        cache.get(2);
+        cache.get(4);
+        // 0 is read again and gets a second chance, so 2 is the victim
+        cache.get(0);
+        cache.get(6);
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.stats().evictions());
+        calls.set(0);
+        cache.get(0);
+        cache.get(4);
+        cache.get(6);
+        assertEquals(0, calls.get());
+        cache.get(2);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testStaysBounded() {
+        ResultCache<Integer, String, String> cache = builder().maximumSize(100).build();
+        for (int i = 0; i < 10_000; i += 2) {
+            cache.get(i);
+            assertTrue(cache.size() <= 100);
+        }
+        assertEquals(5_000 - 100, cache.stats().evictions());
+    }
+
+    @Test
+    public void testInvalidate() {
+        ResultCache<Integer, String, String> cache = builder().build();
+        cache.get(2);
+        cache.get(4);
+        cache.invalidate(2);
+        cache.get(2);
+        assertEquals(3, calls.get());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExceptionIsNotCached() {
+        AtomicInteger attempts = new AtomicInteger();
+        ResultCache<Integer, String, String> cache = ResultCache.<Integer, String, String>builder(key -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return Result.ok("v");
+        }).build();
+        assertThrows(IllegalStateException.class, () -> cache.get(1));
+        assertEquals(Result.ok("v"), cache.get(1));
+    }
+
+    @Test
+    public void testConcurrentMissesRunOnce() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResultCache<Integer, String, String> cache = ResultCache.<Integer, String, String>builder(key -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return Result.err("down");
+        }).expireErrAfter(Duration.ofSeconds(5)).build();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Result<String, String>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.get(1)));
+            started.await();
+            for (int t = 1; t < threads; t++) {
+                futures.add(executor.submit(() -> cache.get(1)));
+            }
+            // give the other threads a chance to reach the in-flight entry
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<Result<String, String>> future : futures) {
+                assertEquals(Result.err("down"), future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.stats().misses());
+        assertEquals(threads - 1, cache.stats().hits());
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> builder().maximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder().expireOkAfter(Duration.ofSeconds(-1)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
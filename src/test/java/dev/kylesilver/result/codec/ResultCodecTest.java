@@ -0,0 +1,114 @@
+package dev.kylesilver.result.codec;
+
+import dev.kylesilver.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultCodecTest {
+
+    private static final ResultCodec<Integer, String> CODEC = ResultCodec.of(ValueCodecs.INT, ValueCodecs.STRING);
+
+    private static <T> T roundTrip(ValueCodec<T> codec, T value, ByteBuffer buffer) {
+        codec.encode(value, buffer);
+        assertEquals(codec.encodedSize(value), buffer.position());
+        buffer.flip();
+        T decoded = codec.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        buffer.clear();
+        return decoded;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64))) {
+            assertEquals(Result.ok(42), roundTrip(CODEC, Result.ok(42), buffer));
+            assertEquals(Result.err("failed"), roundTrip(CODEC, Result.err("failed"), buffer));
+            assertEquals(Long.MIN_VALUE, roundTrip(ValueCodecs.LONG, Long.MIN_VALUE, buffer));
+            assertEquals(-0.5, roundTrip(ValueCodecs.DOUBLE, -0.5, buffer));
+        }
+    }
+
+    @Test
+    public void testLayout() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        CODEC.encode(Result.ok(7), buffer);
+        assertArrayEquals(new byte[] {0, 0, 0, 0, 7}, java.util.Arrays.copyOf(buffer.array(), 5));
+        buffer.clear();
+        CODEC.encode(Result.err("hi"), buffer);
+        assertArrayEquals(new byte[] {1, 0, 0, 0, 2, 'h', 'i'}, java.util.Arrays.copyOf(buffer.array(), 7));
+    }
+
+    @Test
+    public void testUtf8() {
+        String text = "a\u00e9\u20ac\ud83d\ude00z";
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64))) {
+            assertEquals(text, roundTrip(ValueCodecs.STRING, text, buffer));
+            ValueCodecs.STRING.encode(text, buffer);
+            buffer.flip();
+            int length = buffer.getInt();
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), bytes);
+        }
+        // unpaired surrogates are replaced the same way String.getBytes does
+        String broken = "x\uD83Dy";
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        assertEquals(new String(broken.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+                roundTrip(ValueCodecs.STRING, broken, buffer));
+    }
+
+    @Test
+    public void testByteOrder() {
+        ByteBuffer buffer = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(Result.ok(0x01020304), roundTrip(CODEC, Result.ok(0x01020304), buffer));
+    }
+
+    @Test
+    public void testBatch() {
+        List<Result<Integer, String>> results = IntStream.range(0, 1000)
+                .mapToObj(i -> i % 3 == 0 ? Result.<Integer, String>err("e" + i) : Result.<Integer, String>ok(i))
+                .collect(Collectors.toList());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CODEC.encodedSize(results));
+        CODEC.encodeAll(results, buffer);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+        assertEquals(results, CODEC.decodeAll(buffer));
+    }
+
+    @Test
+    public void testNested() {
+        ResultCodec<Result<Integer, String>, String> nested = ResultCodec.of(CODEC, ValueCodecs.STRING);
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        assertEquals(Result.ok(Result.err("inner")), roundTrip(nested, Result.ok(Result.err("inner")), buffer));
+    }
+
+    @Test
+    public void testOverflowLeavesPosition() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.put((byte) 9);
+        assertThrows(BufferOverflowException.class, () -> CODEC.encode(Result.err("too long"), buffer));
+        assertEquals(1, buffer.position());
+        assertThrows(BufferOverflowException.class,
+                () -> CODEC.encodeAll(List.of(Result.ok(1), Result.ok(2)), buffer));
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    public void testCorruptInput() {
+        assertThrows(IllegalArgumentException.class, () -> CODEC.decode(ByteBuffer.wrap(new byte[] {5, 0, 0, 0, 0})));
+        assertThrows(BufferUnderflowException.class, () -> CODEC.decode(ByteBuffer.wrap(new byte[] {0, 0, 0})));
+        assertThrows(BufferUnderflowException.class, () -> CODEC.decode(ByteBuffer.wrap(new byte[] {1, 0, 0, 0, 9, 'a'})));
+        assertThrows(BufferUnderflowException.class,
+                () -> CODEC.decodeAll(ByteBuffer.wrap(new byte[] {0x7f, 0, 0, 0, 0})));
+    }
+}
@@ -0,0 +1,253 @@
+package dev.kylesilver.result.flow;
+
+import dev.kylesilver.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultFlowsTest {
+
+    /**
+     * Emits a fixed list of items synchronously, only as far as it has been
+     * asked to, and records how much was requested.
+     */
+    private static final class ListPublisher<T> implements Flow.Publisher<T> {
+        private final List<T> items;
+        private final Throwable failure;
+        private long requested;
+        private int emitted;
+        private boolean cancelled;
+        private boolean emitting;
+
+        private ListPublisher(List<T> items, Throwable failure) {
+            this.items = items;
+            this.failure = failure;
+        }
+
+        private ListPublisher(List<T> items) {
+            this(items, null);
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (!cancelled && emitted < requested && emitted < items.size()) {
+                        subscriber.onNext(items.get(emitted++));
+                    }
+                    emitting = false;
+                    if (!cancelled && emitted == items.size()) {
+                        cancelled = true;
+                        if (failure == null) {
+                            subscriber.onComplete();
+                        } else {
+                            subscriber.onError(failure);
+                        }
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        private final List<T> items = new ArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private final long initialRequest;
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        private RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public synchronized void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+
+    private static List<Result<Integer, String>> mixed() {
+        return List.of(
+                Result.ok(1), Result.err("a"), Result.ok(2), Result.err("b"), Result.err("c"), Result.ok(3)
+        );
+    }
+
+    @Test
+    public void testMapKeepsGoingAfterErr() {
+        ListPublisher<String> source = new ListPublisher<>(List.of("1", "x", "3"));
+        RecordingSubscriber<Result<Integer, String>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        ResultFlows.map(source, (String s) -> s.equals("x") ? Result.<Integer, String>err(s) : Result.<Integer, String>ok(Integer.parseInt(s)))
+                .subscribe(subscriber);
+        assertEquals(List.of(Result.ok(1), Result.err("x"), Result.ok(3)), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testMapPassesDemandThrough() {
+        ListPublisher<Integer> source = new ListPublisher<>(List.of(1, 2, 3, 4, 5));
+        RecordingSubscriber<Result<Integer, String>> subscriber = new RecordingSubscriber<>(2);
+        ResultFlows.map(source, (Integer i) -> Result.<Integer, String>ok(i)).subscribe(subscriber);
+        assertEquals(2, subscriber.items.size());
+        assertEquals(2, source.requested);
+        subscriber.subscription.request(1);
+        assertEquals(3, subscriber.items.size());
+        assertEquals(3, source.requested);
+    }
+
+    @Test
+    public void testMapExceptionTerminates() {
+        ListPublisher<Integer> source = new ListPublisher<>(List.of(1, 2, 3));
+        RecordingSubscriber<Result<Integer, String>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        ResultFlows.map(source, (Integer i) -> {
+            if (i == 2) {
+                throw new IllegalStateException();
+            }
+            return Result.<Integer, String>ok(i);
+        }).subscribe(subscriber);
+        assertEquals(List.of(Result.ok(1)), subscriber.items);
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertTrue(source.cancelled);
+    }
+
+    @Test
+    public void testSplitErrors() {
+        RecordingSubscriber<List<String>> errors = new RecordingSubscriber<>(Long.MAX_VALUE);
+        RecordingSubscriber<Integer> values = new RecordingSubscriber<>(Long.MAX_VALUE);
+        ResultFlows.splitErrors(new ListPublisher<>(mixed()), errors, 2).subscribe(values);
+        assertEquals(List.of(1, 2, 3), values.items);
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), errors.items);
+        assertTrue(values.completed);
+        assertTrue(errors.completed);
+    }
+
+    @Test
+    public void testSplitErrorsWaitsForErrorDemand() {
+        List<Result<Integer, String>> allErrors = IntStream.range(0, 100)
+                .mapToObj(i -> Result.<Integer, String>err("e" + i))
+                .collect(Collectors.toList());
+        ListPublisher<Result<Integer, String>> source = new ListPublisher<>(allErrors);
+        RecordingSubscriber<List<String>> errors = new RecordingSubscriber<>(0);
+        RecordingSubscriber<Integer> values = new RecordingSubscriber<>(Long.MAX_VALUE);
+        ResultFlows.splitErrors(source, errors, 4).subscribe(values);
+        // one batch fits in the buffer; nothing more is requested until it is taken
+        assertEquals(4, source.requested);
+        assertTrue(errors.items.isEmpty());
+        errors.subscription.request(1);
+        assertEquals(1, errors.items.size());
+        assertEquals(8, source.requested);
+        errors.subscription.request(Long.MAX_VALUE);
+        assertEquals(25, errors.items.size());
+        assertTrue(errors.completed);
+        assertTrue(values.completed);
+    }
+
+    @Test
+    public void testSplitErrorsRespectsValueDemand() {
+        List<Result<Integer, String>> allValues = IntStream.range(0, 100)
+                .mapToObj(Result::<Integer, String>ok)
+                .collect(Collectors.toList());
+        ListPublisher<Result<Integer, String>> source = new ListPublisher<>(allValues);
+        RecordingSubscriber<List<String>> errors = new RecordingSubscriber<>(Long.MAX_VALUE);
+        RecordingSubscriber<Integer> values = new RecordingSubscriber<>(3);
+        ResultFlows.splitErrors(source, errors, 10).subscribe(values);
+        assertEquals(List.of(0, 1, 2), values.items);
+        assertEquals(3, source.requested);
+    }
+
+    @Test
+    public void testSplitErrorsFlushesBeforeSourceError() {
+        IllegalStateException failure = new IllegalStateException();
+        RecordingSubscriber<List<String>> errors = new RecordingSubscriber<>(Long.MAX_VALUE);
+        RecordingSubscriber<Integer> values = new RecordingSubscriber<>(Long.MAX_VALUE);
+        ResultFlows.splitErrors(new ListPublisher<>(mixed(), failure), errors, 10).subscribe(values);
+        assertEquals(List.of(List.of("a", "b", "c")), errors.items);
+        assertSame(failure, values.error);
+        assertSame(failure, errors.error);
+    }
+
+    @Test
+    public void testSplitErrorsValueCancellation() {
+        ListPublisher<Result<Integer, String>> source = new ListPublisher<>(mixed());
+        RecordingSubscriber<List<String>> errors = new RecordingSubscriber<>(Long.MAX_VALUE);
+        RecordingSubscriber<Integer> values = new RecordingSubscriber<>(2);
+        ResultFlows.splitErrors(source, errors, 10).subscribe(values);
+        values.subscription.cancel();
+        assertTrue(source.cancelled);
+        assertEquals(List.of(List.of("a")), errors.items);
+        assertTrue(errors.completed);
+    }
+
+    @Test
+    public void testSplitErrorsSingleSubscriber() {
+        Flow.Publisher<Integer> split = ResultFlows.splitErrors(
+                new ListPublisher<>(mixed()), new RecordingSubscriber<>(Long.MAX_VALUE), 2);
+        split.subscribe(new RecordingSubscriber<>(Long.MAX_VALUE));
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>(Long.MAX_VALUE);
+        split.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testAsynchronousSource() throws InterruptedException {
+        int count = 10_000;
+        RecordingSubscriber<List<Integer>> errors = new RecordingSubscriber<>(Long.MAX_VALUE);
+        RecordingSubscriber<Integer> values = new RecordingSubscriber<>(Long.MAX_VALUE);
+        try (SubmissionPublisher<Integer> source = new SubmissionPublisher<>()) {
+            Flow.Publisher<Result<Integer, Integer>> results = ResultFlows.map(
+                    source,
+                    (Integer i) -> i % 7 == 0 ? Result.<Integer, Integer>err(i) : Result.<Integer, Integer>ok(i)
+            );
+            ResultFlows.splitErrors(results, errors, 16).subscribe(values);
+            for (int i = 0; i < count; i++) {
+                source.submit(i);
+            }
+        }
+        assertTrue(values.terminated.await(10, TimeUnit.SECONDS));
+        assertTrue(errors.terminated.await(10, TimeUnit.SECONDS));
+        int errorCount = errors.items.stream().mapToInt(List::size).sum();
+        assertEquals(count - count / 7 - 1, values.items.size());
+        assertEquals(count / 7 + 1, errorCount);
+        assertTrue(errors.items.stream().allMatch(batch -> batch.size() <= 16));
+    }
+}
@@ -0,0 +1,203 @@
+package dev.kylesilver.result.journal;
+
+import dev.kylesilver.result.Result;
+import dev.kylesilver.result.codec.ValueCodecs;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private ResultJournal<Long, Integer, String> open(Path file, int regionSize) throws IOException {
+        return ResultJournal.builder(file, ValueCodecs.LONG, ValueCodecs.INT, ValueCodecs.STRING)
+                .regionSize(regionSize)
+                .open();
+    }
+
+    private ResultJournal<Long, Integer, String> open(Path file) throws IOException {
+        return open(file, 4096);
+    }
+
+    private static Result<Integer, String> process(long id) {
+        return id % 3 == 0 ? Result.err("item " + id + " failed") : Result.ok((int) id * 2);
+    }
+
+    @Test
+    public void testReopenRestoresOutcomes() throws IOException {
+        Path file = directory.resolve("job.journal");
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            for (long id = 0; id < 10; id++) {
+                journal.append(id, process(id));
+            }
+        }
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            assertEquals(10, journal.size());
+            assertTrue(journal.isCompleted(1L));
+            assertFalse(journal.isCompleted(3L));
+            assertFalse(journal.isCompleted(10L));
+            assertEquals(Map.of(0L, "item 0 failed", 3L, "item 3 failed", 6L, "item 6 failed", 9L, "item 9 failed"),
+                    journal.failures());
+        }
+    }
+
+    @Test
+    public void testResumeSkipsCompletedAndRetriesFailed() throws IOException {
+        Path file = directory.resolve("job.journal");
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            for (long id = 0; id < 5; id++) {
+                journal.append(id, process(id));
+            }
+            // the job dies here without processing the rest
+        }
+        List<Long> processed = new ArrayList<>();
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            for (long id = 0; id < 8; id++) {
+                if (!journal.isCompleted(id)) {
+                    processed.add(id);
+                    journal.append(id, Result.ok((int) id));
+                }
+            }
+            assertEquals(List.of(0L, 3L, 5L, 6L, 7L), processed);
+            assertTrue(journal.failures().isEmpty());
+        }
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            assertTrue(journal.failures().isEmpty());
+            for (long id = 0; id < 8; id++) {
+                assertTrue(journal.isCompleted(id));
+            }
+        }
+    }
+
+    @Test
+    public void testReplayInOrder() throws IOException {
+        Path file = directory.resolve("job.journal");
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            journal.append(1L, Result.err("timeout"));
+            journal.append(2L, Result.ok(20));
+            journal.append(1L, Result.ok(10));
+            List<String> seen = new ArrayList<>();
+            journal.replay((key, result) -> seen.add(key + "=" + result));
+            assertEquals(List.of(
+                    "1=" + Result.err("timeout"),
+                    "2=" + Result.ok(20),
+                    "1=" + Result.ok(10)
+            ), seen);
+            assertTrue(journal.isCompleted(1L));
+        }
+    }
+
+    @Test
+    public void testRecordsSpanManyRegions() throws IOException {
+        Path file = directory.resolve("job.journal");
+        int count = 10_000;
+        try (ResultJournal<Long, Integer, String> journal = open(file, 256)) {
+            for (long id = 0; id < count; id++) {
+                journal.append(id, process(id));
+            }
+        }
+        try (ResultJournal<Long, Integer, String> journal = open(file, 4096)) {
+            assertEquals(count, journal.size());
+            assertEquals(count / 3 + 1, journal.failures().size());
+            long[] next = {0};
+            journal.replay((key, result) -> {
+                assertEquals(next[0], key);
+                assertEquals(process(next[0]++), result);
+            });
+            assertEquals(count, next[0]);
+            // the region size of an existing journal is kept
+            journal.append((long) count, Result.ok(0));
+        }
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            assertEquals(count + 1, journal.size());
+        }
+    }
+
+    @Test
+    public void testTornRecordIsDropped() throws IOException {
+        Path file = directory.resolve("job.journal");
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            journal.append(1L, Result.ok(1));
+            journal.append(2L, Result.ok(2));
+            journal.append(3L, Result.ok(3));
+        }
+        // damage the last byte of the third record's value, as if its page
+        // never reached the disk
+        int recordSize = 8 + 1 + Long.BYTES + Integer.BYTES;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xff}), 16 + 3L * recordSize - 1);
+        }
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            assertEquals(2, journal.size());
+            assertTrue(journal.isCompleted(2L));
+            assertFalse(journal.isCompleted(3L));
+            journal.append(4L, Result.err("failed"));
+        }
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            assertEquals(3, journal.size());
+            assertEquals(Map.of(4L, "failed"), journal.failures());
+        }
+    }
+
+    @Test
+    public void testWritesSurviveWithoutClose() throws IOException {
+        Path file = directory.resolve("job.journal");
+        Path crashed = directory.resolve("crashed.journal");
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            journal.append(1L, Result.ok(1));
+            journal.append(2L, Result.err("failed"));
+            // the file as a process killed at this point would leave it
+            Files.copy(file, crashed);
+        }
+        try (ResultJournal<Long, Integer, String> journal = open(crashed)) {
+            assertTrue(journal.isCompleted(1L));
+            assertEquals(Map.of(2L, "failed"), journal.failures());
+        }
+    }
+
+    @Test
+    public void testOneJournalPerFile() throws IOException {
+        Path file = directory.resolve("job.journal");
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            journal.append(1L, Result.ok(1));
+            assertThrows(IOException.class, () -> open(file));
+        }
+        try (ResultJournal<Long, Integer, String> journal = open(file)) {
+            assertTrue(journal.isCompleted(1L));
+        }
+    }
+
+    @Test
+    public void testRejectsForeignFilesAndOversizedRecords() throws IOException {
+        Path foreign = directory.resolve("notes.txt");
+        Files.writeString(foreign, "not a journal at all");
+        assertThrows(IOException.class, () -> open(foreign));
+        try (ResultJournal<Long, Integer, String> journal = open(directory.resolve("job.journal"), 64)) {
+            assertThrows(IllegalArgumentException.class, () -> journal.append(1L, Result.err("x".repeat(100))));
+            assertEquals(0, journal.size());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> ResultJournal.builder(foreign, ValueCodecs.LONG, ValueCodecs.INT, ValueCodecs.STRING).forceEvery(0));
+    }
+
+    @Test
+    public void testClosedJournalRejectsAppends() throws IOException {
+        ResultJournal<Long, Integer, String> journal = open(directory.resolve("job.journal"));
+        journal.close();
+        journal.close();
+        assertThrows(IllegalStateException.class, () -> journal.append(1L, Result.ok(1)));
+    }
+}
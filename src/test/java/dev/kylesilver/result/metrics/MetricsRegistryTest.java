@@ -0,0 +1,148 @@
+package dev.kylesilver.result.metrics;
+
+import dev.kylesilver.result.ExceptionMatcher;
+import dev.kylesilver.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsRegistryTest {
+
+    private static Result<Integer, IOException> read(CallSiteMetrics metrics, int i) {
+        return metrics.tryOr(() -> {
+            if (i % 3 == 1) {
+                throw new FileNotFoundException();
+            }
+            if (i % 3 == 2) {
+                throw new IOException();
+            }
+            return i;
+        }, IOException.class);
+    }
+
+    @Test
+    public void testCountsByErrorClass() {
+        MetricsRegistry registry = new MetricsRegistry();
+        CallSiteMetrics metrics = registry.callSite("read");
+        for (int i = 0; i < 9; i++) {
+            read(metrics, i);
+        }
+        CallSiteSnapshot snapshot = registry.snapshot().get("read");
+        assertEquals("read", snapshot.name());
+        assertEquals(3, snapshot.oks());
+        assertEquals(6, snapshot.errs());
+        assertEquals(Map.of(FileNotFoundException.class, 3L, IOException.class, 3L), snapshot.errsByClass());
+        assertTrue(snapshot.latency().isEmpty());
+    }
+
+    @Test
+    public void testReturnsOriginalResults() {
+        CallSiteMetrics metrics = new MetricsRegistry().callSite("read");
+        Result<Integer, String> err = Result.err("e");
+        assertSame(err, metrics.record(err));
+        assertEquals(Result.ok(3), read(metrics, 3));
+        ExceptionMatcher<String> matcher = ExceptionMatcher.<String>builder()
+                .on(IOException.class, e -> "io")
+                .build();
+        assertEquals(Result.err("io"), metrics.tryOr(() -> {
+            throw new IOException();
+        }, matcher));
+        assertEquals(Result.ok(1), metrics.call(() -> Result.ok(1)));
+    }
+
+    @Test
+    public void testTimedCallSite() {
+        MetricsRegistry registry = new MetricsRegistry();
+        CallSiteMetrics metrics = registry.timedCallSite("read");
+        for (int i = 0; i < 10; i++) {
+            read(metrics, i);
+        }
+        metrics.record(Result.ok(1));
+        LatencySnapshot latency = registry.snapshot().get("read").latency().orElseThrow();
+        // results counted with record() are not timed
+        assertEquals(10, latency.count());
+        assertTrue(latency.percentileNanos(50) <= latency.percentileNanos(100));
+        assertEquals(64, latency.bucketCounts().length);
+    }
+
+    @Test
+    public void testHistogramBuckets() {
+        assertEquals(0, LatencyHistogram.bucket(-5));
+        assertEquals(0, LatencyHistogram.bucket(0));
+        assertEquals(1, LatencyHistogram.bucket(1));
+        assertEquals(2, LatencyHistogram.bucket(3));
+        assertEquals(3, LatencyHistogram.bucket(4));
+        assertEquals(63, LatencyHistogram.bucket(Long.MAX_VALUE));
+        assertEquals(3, LatencySnapshot.upperBoundNanos(2));
+        assertEquals(Long.MAX_VALUE, LatencySnapshot.upperBoundNanos(63));
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(10_000);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.count());
+        assertEquals(127, snapshot.percentileNanos(90));
+        assertEquals(16_383, snapshot.percentileNanos(91));
+        assertEquals(0, new LatencyHistogram().snapshot().percentileNanos(99));
+    }
+
+    @Test
+    public void testRegistration() {
+        MetricsRegistry registry = new MetricsRegistry();
+        assertSame(registry.callSite("a"), registry.callSite("a"));
+        assertThrows(IllegalArgumentException.class, () -> registry.timedCallSite("a"));
+        registry.timedCallSite("b");
+        assertEquals(List.of("a", "b"), new ArrayList<>(registry.snapshot().keySet()));
+    }
+
+    @Test
+    public void testNoop() {
+        CallSiteMetrics noop = CallSiteMetrics.noop();
+        assertSame(noop, CallSiteMetrics.noop());
+        Result<Integer, String> err = Result.err("e");
+        assertSame(err, noop.record(err));
+        assertEquals(Result.ok(0), read(noop, 0));
+        assertTrue(read(noop, 1).isErr());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        CallSiteMetrics metrics = registry.timedCallSite("read");
+        int threads = 8;
+        int perThread = 30_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        read(metrics, i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        CallSiteSnapshot snapshot = registry.snapshot().get("read");
+        assertEquals(threads * perThread / 3, snapshot.oks());
+        assertEquals(threads * perThread * 2 / 3, snapshot.errs());
+        assertEquals(threads * perThread, snapshot.latency().orElseThrow().count());
+    }
+}